@@ -35,6 +35,10 @@ public class CursorClipImpl implements INoteClip
     private int                      numRows;
 
     private final IStepInfo [] [] [] launcherData;
+    private final int [] []          rowStepCounts;
+    private final long [] []         rowOccupancy;
+    private final int []             allChannelsRowCounts;
+    private final long []            allChannelsOccupancy;
     private PinnableCursorClip       launcherClip;
     private int                      editPage = 0;
     private double                   stepLength;
@@ -61,6 +65,14 @@ public class CursorClipImpl implements INoteClip
 
         this.launcherData = new IStepInfo [16] [this.numSteps] [];
 
+        // Number of steps with data and a bit set for each row which contains at least 1 step
+        // with data, for each MIDI channel and for all channels combined
+        final int numWords = (this.numRows + 63) / 64;
+        this.rowStepCounts = new int [16] [this.numRows];
+        this.rowOccupancy = new long [16] [numWords];
+        this.allChannelsRowCounts = new int [this.numRows];
+        this.allChannelsOccupancy = new long [numWords];
+
         // TODO Bugfix required: https://github.com/teotigraphix/Framework4Bitwig/issues/140
         this.launcherClip = cursorTrack.createLauncherCursorClip (this.numSteps, this.numRows);
 
@@ -637,13 +649,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public boolean hasRowData (final int channel, final int row)
     {
-        final IStepInfo [] [] [] data = this.getStepInfos ();
-        for (int step = 0; step < this.numSteps; step++)
-        {
-            if (data[channel] != null && data[channel][step] != null && data[channel][step][row] != null && data[channel][step][row].getState () > 0)
-                return true;
-        }
-        return false;
+        return this.rowStepCounts[channel][row] > 0;
     }
 
 
@@ -651,14 +657,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getLowerRowWithData ()
     {
-        int min = 128;
-        for (int channel = 0; channel < 16; channel++)
-        {
-            final int lower = this.getLowerRowWithData (channel);
-            if (lower >= 0 && lower < min)
-                min = lower;
-        }
-        return min == 128 ? -1 : min;
+        return getLowestBit (this.allChannelsOccupancy);
     }
 
 
@@ -666,14 +665,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getUpperRowWithData ()
     {
-        int max = -1;
-        for (int channel = 0; channel < 16; channel++)
-        {
-            final int upper = this.getUpperRowWithData (channel);
-            if (upper >= 0 && upper > max)
-                max = upper;
-        }
-        return max;
+        return getHighestBit (this.allChannelsOccupancy);
     }
 
 
@@ -681,10 +673,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getLowerRowWithData (final int channel)
     {
-        for (int row = 0; row < this.numRows; row++)
-            if (this.hasRowData (channel, row))
-                return row;
-        return -1;
+        return getLowestBit (this.rowOccupancy[channel]);
     }
 
 
@@ -692,10 +681,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getUpperRowWithData (final int channel)
     {
-        for (int row = this.numRows - 1; row >= 0; row--)
-            if (this.hasRowData (channel, row))
-                return row;
-        return -1;
+        return getHighestBit (this.rowOccupancy[channel]);
     }
 
 
@@ -857,8 +843,74 @@ public class CursorClipImpl implements INoteClip
         final int step = noteStep.x ();
         final int note = noteStep.y ();
         final StepInfoImpl sinfo = this.getUpdateableStep (channel, step, note);
-        if (!this.editStep.isSet () || this.editStep.getChannel () != channel || this.editStep.getStep () != step || this.editStep.getNote () != note)
-            sinfo.updateData (noteStep);
+        if (this.editStep.isSet () && this.editStep.getChannel () == channel && this.editStep.getStep () == step && this.editStep.getNote () == note)
+            return;
+
+        final boolean hadData = sinfo.getState () > 0;
+        sinfo.updateData (noteStep);
+        final boolean hasData = sinfo.getState () > 0;
+        if (hadData != hasData && channel >= 0 && channel < 16 && note >= 0 && note < this.numRows)
+            this.updateRowOccupancy (channel, note, hasData ? 1 : -1);
+    }
+
+
+    /**
+     * Update the number of steps with data of a row and the row occupancy bits.
+     *
+     * @param channel The MIDI channel
+     * @param row The row
+     * @param delta +1 if a step of the row got data, -1 if a step was cleared
+     */
+    private void updateRowOccupancy (final int channel, final int row, final int delta)
+    {
+        final int word = row >> 6;
+        final long bit = 1L << (row & 63);
+
+        this.rowStepCounts[channel][row] += delta;
+        if (this.rowStepCounts[channel][row] > 0)
+            this.rowOccupancy[channel][word] |= bit;
+        else
+            this.rowOccupancy[channel][word] &= ~bit;
+
+        this.allChannelsRowCounts[row] += delta;
+        if (this.allChannelsRowCounts[row] > 0)
+            this.allChannelsOccupancy[word] |= bit;
+        else
+            this.allChannelsOccupancy[word] &= ~bit;
+    }
+
+
+    /**
+     * Get the index of the lowest bit which is set.
+     *
+     * @param bits The bits
+     * @return The index or -1 if no bit is set
+     */
+    private static int getLowestBit (final long [] bits)
+    {
+        for (int word = 0; word < bits.length; word++)
+        {
+            if (bits[word] != 0)
+                return (word << 6) + Long.numberOfTrailingZeros (bits[word]);
+        }
+        return -1;
+    }
+
+
+    /**
+     * Get the index of the highest bit which is set.
+     *
+     * @param bits The bits
+     * @return The index or -1 if no bit is set
+     */
+    private static int getHighestBit (final long [] bits)
+    {
+        for (int word = bits.length - 1; word >= 0; word--)
+        {
+            if (bits[word] != 0)
+                return (word << 6) + 63 - Long.numberOfLeadingZeros (bits[word]);
+        }
+        return -1;
     }
 
 
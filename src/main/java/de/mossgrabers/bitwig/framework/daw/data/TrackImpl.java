@@ -43,6 +43,8 @@ public class TrackImpl extends ChannelImpl implements ITrack
     private final ApplicationImpl    application;
     private final ISlotBank          slotBank;
     private final int []             noteCache     = new int [128];
+    private final int []             playingNotes  = new int [128];
+    private int                      numPlayingNotes;
     private final Set<INoteObserver> noteObservers = new HashSet<> ();
     private final CursorTrack        cursorTrack;
     private final IHost              host;
@@ -361,7 +363,8 @@ public class TrackImpl extends ChannelImpl implements ITrack
 
     /**
      * Handles the updates on all playing notes. Translates the note array into individual note
-     * observer updates of start and stopped notes.
+     * observer updates of started and stopped notes. Notes which were already playing are not
+     * notified again.
      *
      * @param notes The currently playing notes
      */
@@ -369,22 +372,35 @@ public class TrackImpl extends ChannelImpl implements ITrack
     {
         synchronized (this.noteCache)
         {
-            // Send the new notes
+            // Send the new notes and mark all playing notes
             for (final PlayingNote note: notes)
             {
                 final int pitch = note.pitch ();
+                if (this.noteCache[pitch] == NOTE_OFF)
+                    this.notifyNoteObservers (pitch, note.velocity ());
                 this.noteCache[pitch] = NOTE_ON_NEW;
-                this.notifyNoteObservers (pitch, note.velocity ());
             }
-            // Send note offs
-            for (int i = 0; i < this.noteCache.length; i++)
+
+            // Send note offs for the previously playing notes which were not marked
+            for (int i = 0; i < this.numPlayingNotes; i++)
+            {
+                final int pitch = this.playingNotes[i];
+                if (this.noteCache[pitch] == NOTE_ON)
+                {
+                    this.noteCache[pitch] = NOTE_OFF;
+                    this.notifyNoteObservers (pitch, 0);
+                }
+            }
+
+            // Remember the playing notes for the next update
+            this.numPlayingNotes = 0;
+            for (final PlayingNote note: notes)
             {
-                if (this.noteCache[i] == NOTE_ON_NEW)
-                    this.noteCache[i] = NOTE_ON;
-                else if (this.noteCache[i] == NOTE_ON)
+                final int pitch = note.pitch ();
+                if (this.noteCache[pitch] == NOTE_ON_NEW)
                 {
-                    this.noteCache[i] = NOTE_OFF;
-                    this.notifyNoteObservers (i, 0);
+                    this.noteCache[pitch] = NOTE_ON;
+                    this.playingNotes[this.numPlayingNotes++] = pitch;
                 }
             }
         }
@@ -21,7 +21,8 @@ import java.nio.ByteBuffer;
  */
 public class BitmapImpl implements IBitmap
 {
-    private Bitmap bitmap;
+    private Bitmap                 bitmap;
+    private final TextMetricsCache textMetrics = new TextMetricsCache ();
 
 
     /**
@@ -55,7 +56,10 @@ public class BitmapImpl implements IBitmap
     @Override
     public void render (final boolean enableAntialias, final IRenderer renderer)
     {
-        this.bitmap.render (gc -> renderer.render (new GraphicsContextImpl (enableAntialias ? AntialiasMode.BEST : AntialiasMode.OFF, gc)));
+        this.bitmap.render (gc -> {
+            renderer.render (new GraphicsContextImpl (enableAntialias ? AntialiasMode.BEST : AntialiasMode.OFF, gc, this.textMetrics));
+            this.textMetrics.endFrame ();
+        });
     }
 
 
@@ -68,6 +72,22 @@ public class BitmapImpl implements IBitmap
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public double getWidth ()
+    {
+        return this.bitmap.getWidth ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getHeight ()
+    {
+        return this.bitmap.getHeight ();
+    }
+
+
     /**
      * Get the Bitwig bitmap.
      *
@@ -77,4 +97,32 @@ public class BitmapImpl implements IBitmap
     {
         return this.bitmap;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getLastFrameTextCacheHits ()
+    {
+        return this.textMetrics.getLastFrameCacheHits ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getLastFrameTextExtentCalls ()
+    {
+        return this.textMetrics.getLastFrameExtentCalls ();
+    }
+
+
+    /**
+     * Get the cache of the text measurements, which also counts the cache hits and the measurements
+     * of the last rendered frame.
+     *
+     * @return The cache
+     */
+    public TextMetricsCache getTextMetrics ()
+    {
+        return this.textMetrics;
+    }
 }
@@ -23,7 +23,8 @@ import com.bitwig.extension.api.graphics.Image;
  */
 public class GraphicsContextImpl implements IGraphicsContext
 {
-    private GraphicsOutput gc;
+    private GraphicsOutput         gc;
+    private final TextMetricsCache textMetrics;
 
 
     /**
@@ -31,11 +32,13 @@ public class GraphicsContextImpl implements IGraphicsContext
      *
      * @param antialiasMode The antialias mode to apply
      * @param gc The Bitwig graphics context
+     * @param textMetrics The cache for text measurements
      */
-    public GraphicsContextImpl (final AntialiasMode antialiasMode, final GraphicsOutput gc)
+    public GraphicsContextImpl (final AntialiasMode antialiasMode, final GraphicsOutput gc, final TextMetricsCache textMetrics)
     {
         gc.setAntialias (antialiasMode);
         this.gc = gc;
+        this.textMetrics = textMetrics;
     }
 
 
@@ -174,8 +177,8 @@ public class GraphicsContextImpl implements IGraphicsContext
 
         // We need to calculate the text height from a character which has no ascent, since showText
         // always draws the text on the baseline of the font!
-        final double h = this.gc.getTextExtents ("T").getHeight ();
-        final double w = this.gc.getTextExtents (txt).getWidth ();
+        final double h = this.textMetrics.getHeight (this.gc, "T", fontSize);
+        final double w = this.textMetrics.getWidth (this.gc, txt, fontSize);
         final double posX = alignment == Align.CENTER ? x + (width - w) / 2.0 : x;
         final double posY = y + (height + h) / 2;
 
@@ -218,12 +221,12 @@ public class GraphicsContextImpl implements IGraphicsContext
 
         // We need to calculate the text height from a character which has no ascent, since showText
         // always draws the text on the baseline of the font!
-        final double h = this.gc.getTextExtents ("T").getHeight ();
+        final double h = this.textMetrics.getHeight (this.gc, "T", fontSize);
         final double posY = y + (height + h) / 2;
 
         if (backgroundColor != null)
         {
-            final double w = this.gc.getTextExtents (txt).getWidth ();
+            final double w = this.textMetrics.getWidth (this.gc, txt, fontSize);
             final double inset = 12.0;
             this.fillRoundedRectangle (x - inset, posY - h - inset, w + 2 * inset, h + 2 * inset, inset, backgroundColor);
         }
@@ -239,7 +242,7 @@ public class GraphicsContextImpl implements IGraphicsContext
     @Override
     public void drawImage (final IImage icon, final double x, final double y)
     {
-        this.gc.drawImage (((ImageImpl) icon).getImage (), x, y);
+        this.gc.drawImage (getImage (icon), x, y);
     }
 
 
@@ -247,11 +250,10 @@ public class GraphicsContextImpl implements IGraphicsContext
     @Override
     public void maskImage (final IImage icon, final double x, final double y, final ColorEx maskColor)
     {
-        final ImageImpl imageImpl = (ImageImpl) icon;
         try
         {
             this.setColor (maskColor);
-            final Image image = imageImpl.getImage ();
+            final Image image = getImage (icon);
             this.gc.mask (image, x, y);
             this.gc.fill ();
         }
@@ -266,18 +268,37 @@ public class GraphicsContextImpl implements IGraphicsContext
     @Override
     public double calculateFontSize (final String text, final double maxHeight, final double maxWidth, final double minimumFontSize)
     {
-        double size = minimumFontSize;
-        double fittingSize = -1;
-        while (size < maxHeight)
+        // Binary search for the largest step of 1.0 above the minimum size (and below the maximum
+        // height) which still fits into the width. Requires that the width grows with the size
+        int low = 0;
+        int high = (int) Math.ceil (maxHeight - minimumFontSize) - 1;
+        int fittingStep = -1;
+        while (low <= high)
         {
-            this.gc.setFontSize (size);
-            final double width = this.gc.getTextExtents (text).getWidth ();
-            if (width > maxWidth)
-                break;
-            fittingSize = size;
-            size += 1.0;
+            final int step = (low + high) >>> 1;
+            if (this.textMetrics.getWidth (this.gc, text, minimumFontSize + step) > maxWidth)
+                high = step - 1;
+            else
+            {
+                fittingStep = step;
+                low = step + 1;
+            }
         }
-        return fittingSize;
+        return fittingStep < 0 ? -1 : minimumFontSize + fittingStep;
+    }
+
+
+    /**
+     * Get the Bitwig image of an image or bitmap.
+     *
+     * @param image The image
+     * @return The Bitwig image
+     */
+    private static Image getImage (final IImage image)
+    {
+        if (image instanceof BitmapImpl)
+            return ((BitmapImpl) image).getBitmap ();
+        return ((ImageImpl) image).getImage ();
     }
 
 
@@ -0,0 +1,180 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.graphics;
+
+import com.bitwig.extension.api.graphics.GraphicsOutput;
+import com.bitwig.extension.api.graphics.TextExtents;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Caches the measured text extents of a bitmap across rendered frames, since the same labels are
+ * measured again and again. The least recently used entries are removed if the cache is full. Also
+ * counts the cache hits and the calls to the graphics output for the current and last frame. Must
+ * only be used from the rendering of one bitmap.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TextMetricsCache
+{
+    private static final int                  MAX_ENTRIES = 512;
+
+    private final Map<TextKey, TextExtent>    extents     = new LinkedHashMap<> (MAX_ENTRIES, 0.75f, true)
+                                                          {
+                                                              private static final long serialVersionUID = 1L;
+
+
+                                                              /** {@inheritDoc} */
+                                                              @Override
+                                                              protected boolean removeEldestEntry (final Map.Entry<TextKey, TextExtent> eldest)
+                                                              {
+                                                                  return this.size () > MAX_ENTRIES;
+                                                              }
+                                                          };
+    private final TextKey                     lookupKey   = new TextKey ();
+
+    private int                               cacheHits;
+    private int                               extentCalls;
+    private int                               lastFrameCacheHits;
+    private int                               lastFrameExtentCalls;
+
+
+    /**
+     * Get the width of a text.
+     *
+     * @param gc The graphics output to use for measuring
+     * @param text The text
+     * @param fontSize The font size
+     * @return The width
+     */
+    public double getWidth (final GraphicsOutput gc, final String text, final double fontSize)
+    {
+        return this.getExtent (gc, text, fontSize).width;
+    }
+
+
+    /**
+     * Get the height of a text.
+     *
+     * @param gc The graphics output to use for measuring
+     * @param text The text
+     * @param fontSize The font size
+     * @return The height
+     */
+    public double getHeight (final GraphicsOutput gc, final String text, final double fontSize)
+    {
+        return this.getExtent (gc, text, fontSize).height;
+    }
+
+
+    private TextExtent getExtent (final GraphicsOutput gc, final String text, final double fontSize)
+    {
+        this.lookupKey.text = text;
+        this.lookupKey.fontSize = fontSize;
+        TextExtent extent = this.extents.get (this.lookupKey);
+        if (extent != null)
+        {
+            this.cacheHits++;
+            return extent;
+        }
+
+        this.extentCalls++;
+        gc.setFontSize (fontSize);
+        final TextExtents textExtents = gc.getTextExtents (text);
+        extent = new TextExtent (textExtents.getWidth (), textExtents.getHeight ());
+
+        final TextKey key = new TextKey ();
+        key.text = text;
+        key.fontSize = fontSize;
+        this.extents.put (key, extent);
+        return extent;
+    }
+
+
+    /**
+     * Ends the counting of the current frame.
+     */
+    public void endFrame ()
+    {
+        this.lastFrameCacheHits = this.cacheHits;
+        this.lastFrameExtentCalls = this.extentCalls;
+        this.cacheHits = 0;
+        this.extentCalls = 0;
+    }
+
+
+    /**
+     * Get the number of measurements of the last frame which were answered from the cache.
+     *
+     * @return The number of cache hits
+     */
+    public int getLastFrameCacheHits ()
+    {
+        return this.lastFrameCacheHits;
+    }
+
+
+    /**
+     * Get the number of measurements of the last frame which needed a call to the graphics output.
+     *
+     * @return The number of calls
+     */
+    public int getLastFrameExtentCalls ()
+    {
+        return this.lastFrameExtentCalls;
+    }
+
+
+    /** The key of a cache entry. */
+    private static class TextKey
+    {
+        private String text;
+        private double fontSize;
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode ()
+        {
+            return 31 * this.text.hashCode () + Double.hashCode (this.fontSize);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals (final Object obj)
+        {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof TextKey))
+                return false;
+            final TextKey other = (TextKey) obj;
+            return Double.compare (this.fontSize, other.fontSize) == 0 && this.text.equals (other.text);
+        }
+    }
+
+
+    /** The measured extent of a text. */
+    private static class TextExtent
+    {
+        private final double width;
+        private final double height;
+
+
+        /**
+         * Constructor.
+         *
+         * @param width The width of the text
+         * @param height The height of the text
+         */
+        TextExtent (final double width, final double height)
+        {
+            this.width = width;
+            this.height = height;
+        }
+    }
+}
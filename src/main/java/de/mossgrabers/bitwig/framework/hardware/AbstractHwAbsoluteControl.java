@@ -13,6 +13,7 @@ import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.controller.hardware.IHwAbsoluteControl;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 import com.bitwig.extension.controller.api.AbsoluteHardwarControlBindable;
 import com.bitwig.extension.controller.api.AbsoluteHardwareControl;
@@ -43,12 +44,13 @@ public abstract class AbstractHwAbsoluteControl<T extends AbsoluteHardwareContro
      * Constructor.
      *
      * @param host The host
+     * @param timerWheel The timer wheel of the surface for detecting long touches
      * @param label The label of the control
      * @param hardwareControl The Bitwig hardware control to wrap
      */
-    protected AbstractHwAbsoluteControl (final HostImpl host, final String label, final T hardwareControl)
+    protected AbstractHwAbsoluteControl (final HostImpl host, final TimerWheel timerWheel, final String label, final T hardwareControl)
     {
-        super (host, label);
+        super (host, timerWheel, label);
 
         this.hardwareControl = hardwareControl;
         this.controllerHost = host.getControllerHost ();
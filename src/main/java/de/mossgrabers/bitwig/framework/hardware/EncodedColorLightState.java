@@ -22,6 +22,7 @@ public class EncodedColorLightState extends InternalHardwareLightState
 {
     private final int                  encodedColorState;
     private final IntFunction<ColorEx> stateToColorFunction;
+    private HardwareLightVisualState   visualState;
 
 
     /**
@@ -38,9 +39,29 @@ public class EncodedColorLightState extends InternalHardwareLightState
     }
 
 
+    /**
+     * Get the encoded color state.
+     *
+     * @return The color and blink information
+     */
+    public int getEncodedColorState ()
+    {
+        return this.encodedColorState;
+    }
+
+
     /** {@inheritDoc}} */
     @Override
     public HardwareLightVisualState getVisualState ()
+    {
+        // The state is immutable, therefore the visual state needs to be created only once
+        if (this.visualState == null)
+            this.visualState = this.createVisualState ();
+        return this.visualState;
+    }
+
+
+    private HardwareLightVisualState createVisualState ()
     {
         if (this.encodedColorState == -1)
             return HardwareLightVisualState.createForColor (Color.blackColor (), Color.whiteColor ());
@@ -0,0 +1,60 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.hardware;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+
+/**
+ * Caches the light states (and therefore their visual states) of a light for each encoded color
+ * state. Avoids creating new states and colors each time the host polls the state of the light.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+class EncodedColorLightStateCache
+{
+    private static final int                             MAX_ENTRIES = 64;
+
+    private final IntFunction<ColorEx>                   stateToColorFunction;
+    private final Map<Integer, EncodedColorLightState>   states      = new HashMap<> ();
+    private EncodedColorLightState                       lastState;
+
+
+    /**
+     * Constructor.
+     *
+     * @param stateToColorFunction Convert the state of the light to a color, which can be displayed
+     *            in the simulated GUI
+     */
+    EncodedColorLightStateCache (final IntFunction<ColorEx> stateToColorFunction)
+    {
+        this.stateToColorFunction = stateToColorFunction;
+    }
+
+
+    /**
+     * Get the light state for the given encoded color state.
+     *
+     * @param encodedColorState The color and blink information
+     * @return The light state
+     */
+    EncodedColorLightState get (final int encodedColorState)
+    {
+        // Most of the time the state did not change since the last poll
+        final EncodedColorLightState last = this.lastState;
+        if (last != null && last.getEncodedColorState () == encodedColorState)
+            return last;
+
+        if (this.states.size () >= MAX_ENTRIES)
+            this.states.clear ();
+        final EncodedColorLightState state = this.states.computeIfAbsent (Integer.valueOf (encodedColorState), key -> new EncodedColorLightState (key.intValue (), this.stateToColorFunction));
+        this.lastState = state;
+        return state;
+    }
+}
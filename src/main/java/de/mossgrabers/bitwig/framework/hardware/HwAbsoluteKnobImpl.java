@@ -9,6 +9,7 @@ import de.mossgrabers.framework.command.core.TriggerCommand;
 import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.controller.hardware.IHwAbsoluteKnob;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 import com.bitwig.extension.controller.api.AbsoluteHardwareKnob;
 
@@ -24,12 +25,13 @@ public class HwAbsoluteKnobImpl extends AbstractHwAbsoluteControl<AbsoluteHardwa
      * Constructor.
      *
      * @param host The controller host
+     * @param timerWheel The timer wheel of the surface for detecting long touches
      * @param hardwareControl The Bitwig hardware knob
      * @param label The label of the knob
      */
-    public HwAbsoluteKnobImpl (final HostImpl host, final AbsoluteHardwareKnob hardwareControl, final String label)
+    public HwAbsoluteKnobImpl (final HostImpl host, final TimerWheel timerWheel, final AbsoluteHardwareKnob hardwareControl, final String label)
     {
-        super (host, label, hardwareControl);
+        super (host, timerWheel, label, hardwareControl);
     }
 
 
@@ -10,6 +10,7 @@ import de.mossgrabers.framework.controller.hardware.AbstractHwButton;
 import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.controller.hardware.IHwLight;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 import com.bitwig.extension.controller.api.ControllerHost;
 import com.bitwig.extension.controller.api.HardwareButton;
@@ -29,12 +30,13 @@ public class HwButtonImpl extends AbstractHwButton
      * Constructor.
      *
      * @param host The controller host
+     * @param timerWheel The timer wheel of the surface for detecting long presses
      * @param hardwareButton The Bitwig hardware button
      * @param label The label of the button
      */
-    public HwButtonImpl (final HostImpl host, final HardwareButton hardwareButton, final String label)
+    public HwButtonImpl (final HostImpl host, final TimerWheel timerWheel, final HardwareButton hardwareButton, final String label)
     {
-        super (host, label);
+        super (host, timerWheel, label);
 
         this.hardwareButton = hardwareButton;
         this.hardwareButton.setLabel (label);
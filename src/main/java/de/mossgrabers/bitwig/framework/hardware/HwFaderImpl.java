@@ -10,6 +10,7 @@ import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.controller.hardware.IHwFader;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 import com.bitwig.extension.controller.api.HardwareSlider;
 
@@ -25,13 +26,14 @@ public class HwFaderImpl extends AbstractHwAbsoluteControl<HardwareSlider> imple
      * Constructor.
      *
      * @param host The controller host
+     * @param timerWheel The timer wheel of the surface for detecting long touches
      * @param hardwareControl The Bitwig hardware fader
      * @param label The label of the fader
      * @param isVertical True if the fader is vertical, otherwise horizontal
      */
-    public HwFaderImpl (final HostImpl host, final HardwareSlider hardwareControl, final String label, final boolean isVertical)
+    public HwFaderImpl (final HostImpl host, final TimerWheel timerWheel, final HardwareSlider hardwareControl, final String label, final boolean isVertical)
     {
-        super (host, label, hardwareControl);
+        super (host, timerWheel, label, hardwareControl);
 
         this.hardwareControl.setIsHorizontal (!isVertical);
     }
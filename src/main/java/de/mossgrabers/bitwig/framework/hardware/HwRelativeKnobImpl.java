@@ -13,8 +13,10 @@ import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
 import de.mossgrabers.framework.controller.valuechanger.DefaultValueChanger;
 import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
+import de.mossgrabers.framework.controller.valuechanger.RelativeValueAccumulator;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 import com.bitwig.extension.controller.api.ControllerHost;
 import com.bitwig.extension.controller.api.HardwareBindable;
@@ -38,18 +40,21 @@ public class HwRelativeKnobImpl extends AbstractHwContinuousControl implements I
     private RelativeHardwareControlBinding binding;
     private IParameter                     parameter;
     private boolean                        shouldAdaptSensitivity = true;
+    private final RelativeValueAccumulator commandAccumulator;
+    private final RelativeValueAccumulator parameterAccumulator;
 
 
     /**
      * Constructor. Uses Two's complement as the default relative encoding.
      *
      * @param host The controller host
+     * @param timerWheel The timer wheel of the surface for detecting long touches
      * @param hardwareKnob The Bitwig hardware knob
      * @param label The label of the knob
      */
-    public HwRelativeKnobImpl (final HostImpl host, final RelativeHardwareKnob hardwareKnob, final String label)
+    public HwRelativeKnobImpl (final HostImpl host, final TimerWheel timerWheel, final RelativeHardwareKnob hardwareKnob, final String label)
     {
-        this (host, hardwareKnob, label, RelativeEncoding.TWOS_COMPLEMENT);
+        this (host, timerWheel, hardwareKnob, label, RelativeEncoding.TWOS_COMPLEMENT);
     }
 
 
@@ -57,13 +62,14 @@ public class HwRelativeKnobImpl extends AbstractHwContinuousControl implements I
      * Constructor.
      *
      * @param host The controller host
+     * @param timerWheel The timer wheel of the surface for detecting long touches
      * @param hardwareKnob The Bitwig hardware knob
      * @param label The label of the knob
      * @param encoding The encoding of the relative value
      */
-    public HwRelativeKnobImpl (final HostImpl host, final RelativeHardwareKnob hardwareKnob, final String label, final RelativeEncoding encoding)
+    public HwRelativeKnobImpl (final HostImpl host, final TimerWheel timerWheel, final RelativeHardwareKnob hardwareKnob, final String label, final RelativeEncoding encoding)
     {
-        super (host, label);
+        super (host, timerWheel, label);
 
         this.encoding = encoding;
 
@@ -75,6 +81,9 @@ public class HwRelativeKnobImpl extends AbstractHwContinuousControl implements I
 
         this.defaultAction = this.controllerHost.createRelativeHardwareControlAdjustmentTarget (this::handleValue);
         this.defaultSimpleParameterAction = this.controllerHost.createRelativeHardwareControlAdjustmentTarget (this::handleSimpleParameterValue);
+
+        this.commandAccumulator = new RelativeValueAccumulator (host, this::executeCommand);
+        this.parameterAccumulator = new RelativeValueAccumulator (host, this::changeParameter);
     }
 
 
@@ -159,11 +168,7 @@ public class HwRelativeKnobImpl extends AbstractHwContinuousControl implements I
         if (this.command == null)
             return;
 
-        // Convert the value back from the default 2s relative matcher, because we do the conversion
-        // our own way
-        final double a = value * 61.0;
-        final int v = (int) (a > 0 ? Math.ceil (a) : Math.floor (a));
-        this.command.execute (v < 0 ? v + 128 : v);
+        this.commandAccumulator.add (decodeValue (value));
     }
 
 
@@ -172,11 +177,35 @@ public class HwRelativeKnobImpl extends AbstractHwContinuousControl implements I
         if (this.parameter == null)
             return;
 
-        // Convert the value back from the default 2s relative matcher, because we do the conversion
-        // our own way
-        final double a = value * 61.0;
-        final int v = (int) (a > 0 ? Math.ceil (a) : Math.floor (a));
-        this.parameter.changeValue (v);
+        this.parameterAccumulator.add (decodeValue (value));
+    }
+
+
+    private void executeCommand (final int speed)
+    {
+        if (this.command != null)
+            this.command.execute (speed < 0 ? speed + 128 : speed);
+    }
+
+
+    private void changeParameter (final int speed)
+    {
+        if (this.parameter != null)
+            this.parameter.changeValue (speed);
+    }
+
+
+    /**
+     * Convert the value back from the default 2s relative matcher, because we do the conversion our
+     * own way.
+     *
+     * @param value The value from the relative matcher
+     * @return The decoded speed
+     */
+    private static int decodeValue (final double value)
+    {
+        final double a = value * RelativeValueAccumulator.MAX_SPEED;
+        return (int) (a > 0 ? Math.ceil (a) : Math.floor (a));
     }
 
 
@@ -221,4 +250,14 @@ public class HwRelativeKnobImpl extends AbstractHwContinuousControl implements I
     {
         this.shouldAdaptSensitivity = shouldAdaptSensitivity;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setChangeWindow (final int window, final int acceleration)
+    {
+        // Commands might only take one step per call, therefore their changes are not summed up
+        this.commandAccumulator.configure (0, acceleration);
+        this.parameterAccumulator.configure (window, acceleration);
+    }
 }
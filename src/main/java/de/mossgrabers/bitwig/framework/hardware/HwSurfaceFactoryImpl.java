@@ -19,9 +19,11 @@ import de.mossgrabers.framework.controller.hardware.IHwPianoKeyboard;
 import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
 import de.mossgrabers.framework.controller.hardware.IHwSurfaceFactory;
 import de.mossgrabers.framework.controller.hardware.IHwTextDisplay;
+import de.mossgrabers.framework.controller.hardware.LightStateBuffer;
 import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.utils.OperatingSystem;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 import com.bitwig.extension.api.Color;
 import com.bitwig.extension.controller.api.HardwareButton;
@@ -44,12 +46,14 @@ import java.util.function.Supplier;
  */
 public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
 {
-    private final HostImpl        host;
-    private final HardwareSurface hardwareSurface;
+    private final HostImpl         host;
+    private final HardwareSurface  hardwareSurface;
+    private final TimerWheel       timerWheel;
+    private final LightStateBuffer lightStateBuffer = new LightStateBuffer ();
 
-    private int                   lightCounter = 0;
-    private long                  startup      = System.currentTimeMillis ();
-    private boolean               startupDone  = false;
+    private int                    lightCounter     = 0;
+    private long                   startup          = System.currentTimeMillis ();
+    private boolean                startupDone      = false;
 
 
     /**
@@ -64,6 +68,9 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
         this.host = host;
         this.hardwareSurface = host.getControllerHost ().createHardwareSurface ();
         this.hardwareSurface.setPhysicalSize (width, height);
+
+        // All controls of the surface share one timer wheel for long press detection
+        this.timerWheel = new TimerWheel (host);
     }
 
 
@@ -73,7 +80,7 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
     {
         final String id = createID (surfaceID, buttonID.name ());
         final HardwareButton hwButton = this.hardwareSurface.createHardwareButton (id);
-        return new HwButtonImpl (this.host, hwButton, label);
+        return new HwButtonImpl (this.host, this.timerWheel, hwButton, label);
     }
 
 
@@ -104,11 +111,19 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
 
         final MultiStateHardwareLight hardwareLight = this.hardwareSurface.createMultiStateHardwareLight (id);
 
-        final Supplier<InternalHardwareLightState> valueSupplier = () -> new EncodedColorLightState (supplier.getAsInt (), stateToColorFunction);
+        // Light states are immutable, therefore re-use them for the same encoded state
+        final EncodedColorLightStateCache stateCache = new EncodedColorLightStateCache (stateToColorFunction);
+        final Supplier<InternalHardwareLightState> valueSupplier = () -> stateCache.get (supplier.getAsInt ());
+
+        // Changes are only collected here and sent all together in flush
+        final int lightIndex = this.lightStateBuffer.register (sendValueConsumer);
         final Consumer<InternalHardwareLightState> hardwareUpdater = state -> {
-            final HardwareLightVisualState visualState = state == null ? null : state.getVisualState ();
-            final int encodedColorState = visualState == null ? 0 : supplier.getAsInt ();
-            sendValueConsumer.accept (encodedColorState);
+            final int encodedColorState;
+            if (state instanceof EncodedColorLightState)
+                encodedColorState = ((EncodedColorLightState) state).getEncodedColorState ();
+            else
+                encodedColorState = state == null || state.getVisualState () == null ? 0 : supplier.getAsInt ();
+            this.lightStateBuffer.set (lightIndex, encodedColorState);
         };
 
         final HwLightImpl lightImpl = new HwLightImpl (this.host, hardwareLight, valueSupplier, hardwareUpdater);
@@ -123,7 +138,7 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
     public IHwFader createFader (final int surfaceID, final ContinuousID faderID, final String label, final boolean isVertical)
     {
         final String id = createID (surfaceID, faderID.name ());
-        return new HwFaderImpl (this.host, this.hardwareSurface.createHardwareSlider (id), label, isVertical);
+        return new HwFaderImpl (this.host, this.timerWheel, this.hardwareSurface.createHardwareSlider (id), label, isVertical);
     }
 
 
@@ -132,7 +147,7 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
     public IHwAbsoluteKnob createAbsoluteKnob (final int surfaceID, final ContinuousID knobID, final String label)
     {
         final String id = createID (surfaceID, knobID.name ());
-        return new HwAbsoluteKnobImpl (this.host, this.hardwareSurface.createAbsoluteHardwareKnob (id), label);
+        return new HwAbsoluteKnobImpl (this.host, this.timerWheel, this.hardwareSurface.createAbsoluteHardwareKnob (id), label);
     }
 
 
@@ -141,7 +156,7 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
     public IHwRelativeKnob createRelativeKnob (final int surfaceID, final ContinuousID knobID, final String label)
     {
         final String id = createID (surfaceID, knobID.name ());
-        return new HwRelativeKnobImpl (this.host, this.hardwareSurface.createRelativeHardwareKnob (id), label);
+        return new HwRelativeKnobImpl (this.host, this.timerWheel, this.hardwareSurface.createRelativeHardwareKnob (id), label);
     }
 
 
@@ -150,7 +165,7 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
     public IHwRelativeKnob createRelativeKnob (final int surfaceID, final ContinuousID knobID, final String label, final RelativeEncoding encoding)
     {
         final String id = createID (surfaceID, knobID.name ());
-        return new HwRelativeKnobImpl (this.host, this.hardwareSurface.createRelativeHardwareKnob (id), label, encoding);
+        return new HwRelativeKnobImpl (this.host, this.timerWheel, this.hardwareSurface.createRelativeHardwareKnob (id), label, encoding);
     }
 
 
@@ -191,11 +206,20 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
         // Workaround for state not updated on first startup on Macos 11
         if (OperatingSystem.get () == OperatingSystem.MAC && !this.startupDone && System.currentTimeMillis () - this.startup > 10000)
         {
-            this.hardwareSurface.invalidateHardwareOutputState ();
+            this.clearCache ();
             this.startupDone = true;
         }
 
         this.hardwareSurface.updateHardware ();
+        this.lightStateBuffer.flush ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public TimerWheel getTimerWheel ()
+    {
+        return this.timerWheel;
     }
 
 
@@ -204,6 +228,7 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
     public void clearCache ()
     {
         this.hardwareSurface.invalidateHardwareOutputState ();
+        this.lightStateBuffer.invalidate ();
     }
 
 
@@ -4,7 +4,8 @@
 
 package de.mossgrabers.bitwig.framework.osc;
 
-import de.mossgrabers.framework.osc.IOpenSoundControlClient;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.osc.AbstractOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 
 import com.bitwig.extension.api.opensoundcontrol.OscConnection;
@@ -18,7 +19,7 @@ import java.util.List;
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public class OpenSoundControlClientImpl implements IOpenSoundControlClient
+public class OpenSoundControlClientImpl extends AbstractOpenSoundControlClient
 {
     private OscConnection connection;
 
@@ -26,10 +27,15 @@ public class OpenSoundControlClientImpl implements IOpenSoundControlClient
     /**
      * Constructor.
      *
+     * @param host The DAW host
      * @param connection The OSC connection
+     * @param maxBundleSize The maximum size of a bundle in bytes
+     * @param bundlesPerPass The maximum number of bundles to send in one pass
      */
-    public OpenSoundControlClientImpl (final OscConnection connection)
+    public OpenSoundControlClientImpl (final IHost host, final OscConnection connection, final int maxBundleSize, final int bundlesPerPass)
     {
+        super (host, maxBundleSize, bundlesPerPass);
+
         this.connection = connection;
     }
 
@@ -46,35 +52,11 @@ public class OpenSoundControlClientImpl implements IOpenSoundControlClient
 
     /** {@inheritDoc} */
     @Override
-    public void sendBundle (final List<IOpenSoundControlMessage> messages) throws IOException
+    protected void sendBundleChunk (final List<IOpenSoundControlMessage> messages) throws IOException
     {
-        int pos = 0;
         this.connection.startBundle ();
         for (final IOpenSoundControlMessage message: messages)
-        {
             this.sendMessage (message);
-            pos++;
-            // We cannot get the exact size of the message due to the API, so let's try to stay
-            // below 64K, which is the maximum of an UDP message
-            if (pos > 100)
-            {
-                pos = 0;
-                this.connection.endBundle ();
-
-                // Ugly hack, but we need to slow down a bit otherwise clients like Open Stage
-                // Control cannot keep up...
-                try
-                {
-                    Thread.sleep (10);
-                }
-                catch (final InterruptedException ex)
-                {
-                    Thread.currentThread ().interrupt ();
-                }
-
-                this.connection.startBundle ();
-            }
-        }
         this.connection.endBundle ();
     }
 }
@@ -34,7 +34,7 @@ public class APCTapTempoCommand extends TapTempoCommand<APCControlSurface, APCCo
     {
         super (model, surface);
 
-        this.timeout = new Timeout (model.getHost (), 500);
+        this.timeout = new Timeout (surface.getTimerWheel (), 500);
     }
 
 
@@ -9,10 +9,14 @@ import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
-import java.util.regex.Pattern;
+import java.util.Optional;
 
 
 /**
@@ -25,9 +29,24 @@ import java.util.regex.Pattern;
  */
 public class AutoColor
 {
-    private final EnumMap<DAWColor, List<Pattern>> colorRegex = new EnumMap<> (DAWColor.class);
-    private final AutoColorConfiguration           configuration;
-    private ITrackBank                             trackBank;
+    private static final int                        MAX_CACHED_NAMES = 2048;
+
+    private final EnumMap<DAWColor, List<String>>   colorKeywords    = new EnumMap<> (DAWColor.class);
+    private final Map<String, Optional<DAWColor>>   matchCache       = new LinkedHashMap<> (256, 0.75f, true)
+                                                                     {
+                                                                         private static final long serialVersionUID = 1L;
+
+
+                                                                         /** {@inheritDoc} */
+                                                                         @Override
+                                                                         protected boolean removeEldestEntry (final Map.Entry<String, Optional<DAWColor>> eldest)
+                                                                         {
+                                                                             return this.size () > MAX_CACHED_NAMES;
+                                                                         }
+                                                                     };
+    private final AutoColorConfiguration            configuration;
+    private volatile KeywordMatcher                 matcher          = new KeywordMatcher (Collections.emptyMap ());
+    private ITrackBank                              trackBank;
 
 
     /**
@@ -52,18 +71,29 @@ public class AutoColor
         if (!this.configuration.isEnableAutoColor ())
             return;
 
-        final List<Pattern> patterns = new ArrayList<> ();
+        final List<String> keywords = new ArrayList<> ();
         if (filter != null && !filter.trim ().isEmpty ())
         {
             for (final String part: filter.split (","))
-                patterns.add (Pattern.compile (".*" + Pattern.quote (part.trim ()) + ".*"));
+            {
+                final String keyword = part.trim ();
+                if (!keyword.isEmpty ())
+                    keywords.add (keyword);
+            }
         }
-        synchronized (this.colorRegex)
+
+        final KeywordMatcher colorMatcher = new KeywordMatcher (Collections.singletonMap (color, keywords));
+        final DAWColor [] previousColors = this.getPageColors ();
+        synchronized (this.matchCache)
         {
-            this.colorRegex.put (color, patterns);
-            if (!patterns.isEmpty ())
-                this.updateTracks (color, patterns);
+            final List<String> oldKeywords = this.colorKeywords.put (color, keywords);
+            if (keywords.equals (oldKeywords))
+                return;
+            this.matcher = new KeywordMatcher (this.colorKeywords);
+            this.updateCache (color, colorMatcher);
         }
+
+        this.updateTracks (color, previousColors);
     }
 
 
@@ -81,23 +111,40 @@ public class AutoColor
 
 
     /**
-     * Updates all tracks (in the page) for a color.
+     * Updates all tracks (in the page) which match the keywords of the color or which were matched
+     * by the color before its keywords changed.
      *
      * @param color The color to match for
-     * @param patterns The patterns to match
+     * @param previousColors The matching colors of the tracks in the page before the change
      */
-    private void updateTracks (final DAWColor color, final List<Pattern> patterns)
+    private void updateTracks (final DAWColor color, final DAWColor [] previousColors)
     {
-        for (int i = 0; i < this.trackBank.getPageSize (); i++)
+        for (int i = 0; i < previousColors.length; i++)
         {
             final ITrack track = this.trackBank.getItem (i);
-            matchColorToTrack (track, track.getName (), color, patterns);
+            final DAWColor newColor = this.getMatchingColor (track.getName ());
+            if (newColor != null && (newColor == color || previousColors[i] == color))
+                track.setColor (newColor.getColor ());
         }
     }
 
 
     /**
-     * Tests a track against all color patterns.
+     * Get the matching colors of all tracks in the page.
+     *
+     * @return The colors, null entries if no keyword matches
+     */
+    private DAWColor [] getPageColors ()
+    {
+        final DAWColor [] colors = new DAWColor [this.trackBank.getPageSize ()];
+        for (int i = 0; i < colors.length; i++)
+            colors[i] = this.getMatchingColor (this.trackBank.getItem (i).getName ());
+        return colors;
+    }
+
+
+    /**
+     * Tests a track against all color keywords and applies the matching color.
      *
      * @param track The track to test
      * @param trackName The name of the track (the track name of the track might not yet beend
@@ -105,32 +152,66 @@ public class AutoColor
      */
     private void matchColorsToTrack (final ITrack track, final String trackName)
     {
-        synchronized (this.colorRegex)
+        final DAWColor color = this.getMatchingColor (trackName);
+        if (color != null)
+            track.setColor (color.getColor ());
+    }
+
+
+    /**
+     * Get the color which matches the name of a track. The results are cached per name.
+     *
+     * @param trackName The name of the track
+     * @return The color or null if no keyword matches
+     */
+    private DAWColor getMatchingColor (final String trackName)
+    {
+        synchronized (this.matchCache)
         {
-            for (final Entry<DAWColor, List<Pattern>> e: this.colorRegex.entrySet ())
-                matchColorToTrack (track, trackName, e.getKey (), e.getValue ());
+            final Optional<DAWColor> cached = this.matchCache.get (trackName);
+            if (cached != null)
+                return cached.orElse (null);
         }
+
+        final KeywordMatcher currentMatcher = this.matcher;
+        final DAWColor color = currentMatcher.match (trackName);
+
+        synchronized (this.matchCache)
+        {
+            // Do not cache results of a matcher which was replaced in the meantime
+            if (currentMatcher == this.matcher)
+                this.matchCache.put (trackName, Optional.ofNullable (color));
+        }
+        return color;
     }
 
 
     /**
-     * Tests a track for all given patterns and assigns the given color if it matches one of the
-     * patterns.
+     * Update the cached results after the keywords of one color have changed. Only the names which
+     * were matched by the color or might now be matched by it need to be checked again. Must be
+     * called with the cache lock.
      *
-     * @param track The track to test
-     * @param trackName The name of the track (the track name of the track might not yet beend
-     *            updated)
-     * @param color The color to apply
-     * @param patterns The pattern to test against
+     * @param color The color which keywords have changed
+     * @param colorMatcher A matcher which contains only the new keywords of the color
      */
-    private static void matchColorToTrack (final ITrack track, final String trackName, final DAWColor color, final List<Pattern> patterns)
+    private void updateCache (final DAWColor color, final KeywordMatcher colorMatcher)
     {
-        for (final Pattern pattern: patterns)
+        // Without keywords the color cannot match any other names
+        final boolean hasKeywords = !colorMatcher.isEmpty ();
+        final Iterator<Entry<String, Optional<DAWColor>>> iterator = this.matchCache.entrySet ().iterator ();
+        while (iterator.hasNext ())
         {
-            if (pattern.matcher (trackName).matches ())
+            final Entry<String, Optional<DAWColor>> entry = iterator.next ();
+            final DAWColor cachedColor = entry.getValue ().orElse (null);
+            if (cachedColor == color)
+            {
+                // Another color might match now
+                iterator.remove ();
+            }
+            else if (hasKeywords && (cachedColor == null || cachedColor.ordinal () < color.ordinal ()) && colorMatcher.match (entry.getKey ()) != null)
             {
-                track.setColor (color.getColor ());
-                break;
+                // The color has a higher priority than the previous result
+                entry.setValue (Optional.of (color));
             }
         }
     }
@@ -0,0 +1,190 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.autocolor;
+
+import de.mossgrabers.framework.daw.DAWColor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.TreeMap;
+
+
+/**
+ * Finds the color of the keywords which are contained in a text. All keywords are compiled into one
+ * Aho-Corasick automaton, therefore a text is scanned only once independent of the number of
+ * keywords. If keywords of several colors are contained, the color with the highest ordinal wins.
+ * The matcher is immutable and therefore thread-safe.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+class KeywordMatcher
+{
+    private static final DAWColor [] COLORS = DAWColor.values ();
+    private static final int         ROOT   = 0;
+
+    /** The characters of the outgoing edges of each node, sorted. */
+    private final char [] []         edgeCharacters;
+    /** The target nodes of the outgoing edges of each node. */
+    private final int [] []          edgeTargets;
+    /** The node to continue with if there is no matching edge. */
+    private final int []             failures;
+    /** The highest color ordinal of all keywords which end at the node, -1 if none. */
+    private final int []             outputs;
+    private final int                maxOutput;
+
+
+    /**
+     * Constructor.
+     *
+     * @param keywords The keywords for each color, empty keywords are ignored
+     */
+    KeywordMatcher (final Map<DAWColor, List<String>> keywords)
+    {
+        // Build the trie
+        final List<TreeMap<Character, Integer>> children = new ArrayList<> ();
+        final List<Integer> nodeOutputs = new ArrayList<> ();
+        children.add (new TreeMap<> ());
+        nodeOutputs.add (Integer.valueOf (-1));
+
+        int max = -1;
+        for (final Entry<DAWColor, List<String>> e: keywords.entrySet ())
+        {
+            final int output = e.getKey ().ordinal ();
+            for (final String keyword: e.getValue ())
+            {
+                if (keyword.isEmpty ())
+                    continue;
+
+                int node = ROOT;
+                for (int i = 0; i < keyword.length (); i++)
+                {
+                    final Character c = Character.valueOf (keyword.charAt (i));
+                    final Integer child = children.get (node).get (c);
+                    if (child == null)
+                    {
+                        final int newNode = children.size ();
+                        children.add (new TreeMap<> ());
+                        nodeOutputs.add (Integer.valueOf (-1));
+                        children.get (node).put (c, Integer.valueOf (newNode));
+                        node = newNode;
+                    }
+                    else
+                        node = child.intValue ();
+                }
+                nodeOutputs.set (node, Integer.valueOf (Math.max (nodeOutputs.get (node).intValue (), output)));
+                max = Math.max (max, output);
+            }
+        }
+        this.maxOutput = max;
+
+        // Convert to arrays
+        final int size = children.size ();
+        this.edgeCharacters = new char [size] [];
+        this.edgeTargets = new int [size] [];
+        this.failures = new int [size];
+        this.outputs = new int [size];
+        for (int node = 0; node < size; node++)
+        {
+            final TreeMap<Character, Integer> edges = children.get (node);
+            this.edgeCharacters[node] = new char [edges.size ()];
+            this.edgeTargets[node] = new int [edges.size ()];
+            int i = 0;
+            for (final Entry<Character, Integer> edge: edges.entrySet ())
+            {
+                this.edgeCharacters[node][i] = edge.getKey ().charValue ();
+                this.edgeTargets[node][i] = edge.getValue ().intValue ();
+                i++;
+            }
+            this.outputs[node] = nodeOutputs.get (node).intValue ();
+        }
+
+        // Calculate the failure links breadth first, the outputs of the failure node are inherited
+        final Queue<Integer> queue = new ArrayDeque<> ();
+        for (final int child: this.edgeTargets[ROOT])
+        {
+            this.failures[child] = ROOT;
+            queue.add (Integer.valueOf (child));
+        }
+        while (!queue.isEmpty ())
+        {
+            final int node = queue.remove ().intValue ();
+            for (int i = 0; i < this.edgeCharacters[node].length; i++)
+            {
+                final char c = this.edgeCharacters[node][i];
+                final int child = this.edgeTargets[node][i];
+                this.failures[child] = this.next (this.failures[node], c);
+                this.outputs[child] = Math.max (this.outputs[child], this.outputs[this.failures[child]]);
+                queue.add (Integer.valueOf (child));
+            }
+        }
+    }
+
+
+    /**
+     * Get the color of the keywords contained in the given text.
+     *
+     * @param text The text to search
+     * @return The color with the highest ordinal of all contained keywords or null if no keyword is
+     *         contained
+     */
+    public DAWColor match (final String text)
+    {
+        if (this.maxOutput < 0)
+            return null;
+
+        int node = ROOT;
+        int best = -1;
+        for (int i = 0; i < text.length (); i++)
+        {
+            node = this.next (node, text.charAt (i));
+            if (this.outputs[node] > best)
+            {
+                best = this.outputs[node];
+                if (best == this.maxOutput)
+                    break;
+            }
+        }
+        return best < 0 ? null : COLORS[best];
+    }
+
+
+    /**
+     * Test if the matcher contains at least one keyword.
+     *
+     * @return True if there are no keywords
+     */
+    public boolean isEmpty ()
+    {
+        return this.maxOutput < 0;
+    }
+
+
+    /**
+     * Get the node to continue with after reading a character. Follows the failure links until a
+     * node with a matching edge is found.
+     *
+     * @param startNode The current node
+     * @param c The character
+     * @return The next node
+     */
+    private int next (final int startNode, final char c)
+    {
+        int node = startNode;
+        while (true)
+        {
+            final int index = Arrays.binarySearch (this.edgeCharacters[node], c);
+            if (index >= 0)
+                return this.edgeTargets[node][index];
+            if (node == ROOT)
+                return ROOT;
+            node = this.failures[node];
+        }
+    }
+}
@@ -156,10 +156,10 @@ public class SequencerView extends BaseSequencerView
             final int step = clip.getCurrentStep ();
             final int hiStep = this.isInXRange (step) ? step % SequencerView.NUM_DISPLAY_COLS : -1;
             final int editMidiChannel = this.configuration.getMidiEditChannel ();
+            final int y = this.offsetY + this.selectedPad;
+            final int map = this.scales.getNoteMatrix ()[y];
             for (int col = 0; col < SequencerView.NUM_DISPLAY_COLS; col++)
             {
-                final int y = this.offsetY + this.selectedPad;
-                final int map = this.scales.getNoteMatrix ()[y];
                 final int isSet = clip.getStep (editMidiChannel, col, map).getState ();
                 padGrid.lightEx (col % 8, 1 - col / 8, getSequencerColor (isSet, col == hiStep));
             }
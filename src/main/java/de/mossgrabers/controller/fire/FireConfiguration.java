@@ -102,6 +102,7 @@ public class FireConfiguration extends AbstractConfiguration
         this.activateExcludeDeactivatedItemsSetting (globalSettings);
         this.activateNewClipLengthSetting (globalSettings);
         this.activateKnobSpeedSetting (globalSettings);
+        this.activateFrameRateSetting (globalSettings);
 
         ///////////////////////////
         // Hardware
@@ -7,11 +7,15 @@ package de.mossgrabers.controller.fire.controller;
 import de.mossgrabers.framework.controller.display.AbstractGraphicDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 import de.mossgrabers.framework.graphics.ChromaticGraphicsConfiguration;
 import de.mossgrabers.framework.graphics.DefaultGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IBounds;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.List;
 
 
 /**
@@ -35,15 +39,47 @@ public class FireDisplay extends AbstractGraphicDisplay
       };
     // @formatter:on
 
+    private static final int       WIDTH         = 128;
+    private static final int       NUM_BANDS     = 8;
+    private static final int       BAND_HEIGHT   = 8;
+    private static final int       TILE_WIDTH    = 7;
+    private static final int       TILE_SIZE     = 8;
     private static final int       STRIPE_SIZE   = 147;
-    private static final int       PACKET_SIZE   = 4 + STRIPE_SIZE;
+
+    /**
+     * The display goes into sleep mode if it does not receive data. Therefore, a band is sent again
+     * after this time in milliseconds if there was no update.
+     */
+    private static final int       KEEP_ALIVE    = 3000;
+
+    /** The index of the byte in a stripe for each pixel of a band (y * WIDTH + x). */
+    private static final int []    REMAP_INDEX   = new int [BAND_HEIGHT * WIDTH];
+    /** The bit in the byte of the stripe for each pixel of a band (y * WIDTH + x). */
+    private static final int []    REMAP_MASK    = new int [BAND_HEIGHT * WIDTH];
+
+    static
+    {
+        // Re-map by tiling 7x8 block of translated pixels
+        for (int y = 0; y < BAND_HEIGHT; y++)
+        {
+            for (int x = 0; x < WIDTH; x++)
+            {
+                final int remapBit = BIT_MUTATE[y][x % TILE_WIDTH];
+                REMAP_INDEX[y * WIDTH + x] = x / TILE_WIDTH * TILE_SIZE + remapBit / 7;
+                REMAP_MASK[y * WIDTH + x] = 1 << remapBit % 7;
+            }
+        }
+    }
 
     private final IMidiOutput      output;
-    private final int [] []        oledBitmap    = new int [8] [STRIPE_SIZE];
-    private final int [] []        oldOledBitmap = new int [8] [STRIPE_SIZE];
-    private final byte []          data          = new byte [12 + STRIPE_SIZE];
+    private final int [] []        oledBitmap    = new int [NUM_BANDS] [STRIPE_SIZE];
+    private final int [] []        oldOledBitmap = new int [NUM_BANDS] [STRIPE_SIZE];
+    private final int []           changedStart  = new int [NUM_BANDS];
+    private final int []           changedEnd    = new int [NUM_BANDS];
+    private final SysExBuilder     builder       = new SysExBuilder ("F0 47 7F 43 0E");
 
     private long                   lastSend      = System.currentTimeMillis ();
+    private boolean                isShutdown    = false;
 
 
     /**
@@ -56,27 +92,11 @@ public class FireDisplay extends AbstractGraphicDisplay
      */
     public FireDisplay (final IHost host, final IMidiOutput output, final int maxParameterValue)
     {
-        super (host, new ChromaticGraphicsConfiguration (), new DefaultGraphicsDimensions (128, 64, maxParameterValue), "Fire Display");
+        super (host, new ChromaticGraphicsConfiguration (), new DefaultGraphicsDimensions (WIDTH, 64, maxParameterValue), "Fire Display");
 
         this.output = output;
 
-        this.data[0] = (byte) 0xF0;
-        this.data[1] = 0x47; // AKAI
-        this.data[2] = 0x7F; // All-Call
-        this.data[3] = 0x43; // Fire
-        this.data[4] = 0x0E; // WRITE OLED
-
-        // Payload length high
-        this.data[5] = (byte) (PACKET_SIZE / 128);
-        // Payload length low
-        this.data[6] = (byte) (PACKET_SIZE % 128);
-
-        // Start colum of update
-        this.data[9] = 0x00;
-        // End column of update
-        this.data[10] = 0x7f;
-
-        this.data[this.data.length - 1] = (byte) 0xF7;
+        this.host.scheduleTask (this::keepAlive, KEEP_ALIVE);
     }
 
 
@@ -91,63 +111,148 @@ public class FireDisplay extends AbstractGraphicDisplay
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void shutdown ()
+    {
+        synchronized (this.builder)
+        {
+            this.isShutdown = true;
+        }
+
+        super.shutdown ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     protected void send (final IBitmap image)
     {
-        synchronized (this.data)
+        final List<IBounds> changedAreas = this.getChangedAreas ();
+        if (changedAreas.isEmpty ())
+            return;
+
+        synchronized (this.builder)
         {
+            // Collect the changed column range of each band
+            Arrays.fill (this.changedStart, WIDTH);
+            Arrays.fill (this.changedEnd, 0);
+            for (final IBounds area: changedAreas)
+            {
+                final int left = Math.max (0, (int) Math.floor (area.getLeft ()));
+                final int right = Math.min (WIDTH, (int) Math.ceil (area.getLeft () + area.getWidth ()));
+                final int top = Math.max (0, (int) Math.floor (area.getTop ()));
+                final int bottom = Math.min (NUM_BANDS * BAND_HEIGHT, (int) Math.ceil (area.getTop () + area.getHeight ()));
+                for (int band = top / BAND_HEIGHT; band <= (bottom - 1) / BAND_HEIGHT; band++)
+                {
+                    this.changedStart[band] = Math.min (this.changedStart[band], left);
+                    this.changedEnd[band] = Math.max (this.changedEnd[band], right);
+                }
+            }
+
             image.encode ( (imageBuffer, width, height) -> {
 
-                // Unwind 128x64 arrangement into a 1024x8 arrangement of pixels
-                for (int stripe = 0; stripe < 8; stripe++)
+                for (int band = 0; band < NUM_BANDS; band++)
                 {
-                    for (int y = 0; y < height / 8; y++)
-                    {
-                        for (int x = 0; x < width; x++)
-                        {
-                            final int blue = imageBuffer.get ();
-                            final int green = imageBuffer.get ();
-                            final int red = imageBuffer.get ();
-                            imageBuffer.get (); // Drop unused Alpha
-
-                            final int xpos = x + 128 * (y / 8);
-                            final int ypos = y % 8;
-
-                            // Re-map by tiling 7x8 block of translated pixels
-                            final int remapBit = BIT_MUTATE[ypos][xpos % 7];
-                            final int idx = xpos / 7 * 8 + remapBit / 7;
-                            if (blue + green + red < 0)
-                                this.oledBitmap[stripe][idx] |= 1 << remapBit % 7;
-                            else
-                                this.oledBitmap[stripe][idx] &= ~(1 << remapBit % 7);
-                        }
-                    }
+                    if (this.changedStart[band] >= this.changedEnd[band])
+                        continue;
+
+                    // Extend the range to complete tiles since they are encoded together
+                    final int startTile = this.changedStart[band] / TILE_WIDTH;
+                    final int endTile = (this.changedEnd[band] - 1) / TILE_WIDTH;
+                    this.remapBand (imageBuffer, width, band, startTile, endTile);
+                    this.sendBand (band, startTile, endTile, false);
                 }
+
             });
+        }
+    }
+
+
+    /**
+     * Convert the pixels of a range of tiles of a band into the format of the display.
+     *
+     * @param imageBuffer The image data (blue, green, red, alpha, ...)
+     * @param width The width of the image
+     * @param band The index of the band
+     * @param startTile The index of the first tile
+     * @param endTile The index of the last tile (inclusive)
+     */
+    private void remapBand (final ByteBuffer imageBuffer, final int width, final int band, final int startTile, final int endTile)
+    {
+        final int [] stripe = this.oledBitmap[band];
+        final int startX = startTile * TILE_WIDTH;
+        final int endX = Math.min (WIDTH, (endTile + 1) * TILE_WIDTH);
+        Arrays.fill (stripe, startTile * TILE_SIZE, Math.min (STRIPE_SIZE, (endTile + 1) * TILE_SIZE), 0);
 
-            // Convert to system exclusive and send to device
-            for (int stripe = 0; stripe < 8; stripe++)
+        for (int y = 0; y < BAND_HEIGHT; y++)
+        {
+            int position = ((band * BAND_HEIGHT + y) * width + startX) * 4;
+            for (int x = startX; x < endX; x++)
             {
-                // Start 8-pixel band of update
-                this.data[7] = (byte) stripe;
-                // End 8-pixel band of update (here, 8 bands of 8 pixels, i.e. the whole display)
-                this.data[8] = (byte) stripe;
-
-                for (int i = 0; i < STRIPE_SIZE; i++)
-                    this.data[11 + i] = (byte) this.oledBitmap[stripe][i];
-
-                // Slow down display updates to not flood the device controller
-                // Send if content has change or every 3 seconds if there was no change to keep
-                // the display from going into sleep mode
-                final long now = System.currentTimeMillis ();
-                if (Arrays.compare (this.oledBitmap[stripe], this.oldOledBitmap[stripe]) == 0 && now - this.lastSend < 3000)
-                    continue;
-                System.arraycopy (this.oledBitmap[stripe], 0, this.oldOledBitmap[stripe], 0, STRIPE_SIZE);
-                this.lastSend = now;
-
-                this.output.sendSysex (this.data);
+                final int blue = imageBuffer.get (position);
+                final int green = imageBuffer.get (position + 1);
+                final int red = imageBuffer.get (position + 2);
+                // Drop unused Alpha
+                position += 4;
+
+                if (blue + green + red < 0)
+                {
+                    final int pixel = y * WIDTH + x;
+                    stripe[REMAP_INDEX[pixel]] |= REMAP_MASK[pixel];
+                }
             }
         }
     }
-}
\ No newline at end of file
+
+
+    /**
+     * Send a range of tiles of a band, if it has changed since it was sent the last time.
+     *
+     * @param band The index of the band
+     * @param startTile The index of the first tile
+     * @param endTile The index of the last tile (inclusive)
+     * @param force Send even if it has not changed
+     */
+    private void sendBand (final int band, final int startTile, final int endTile, final boolean force)
+    {
+        final int from = startTile * TILE_SIZE;
+        final int to = Math.min (STRIPE_SIZE, (endTile + 1) * TILE_SIZE);
+        final int [] stripe = this.oledBitmap[band];
+        if (!force && Arrays.equals (stripe, from, to, this.oldOledBitmap[band], from, to))
+            return;
+        System.arraycopy (stripe, from, this.oldOledBitmap[band], from, to - from);
+
+        final int length = 4 + to - from;
+        this.builder.reset ();
+        // Payload length high and low
+        this.builder.add (length / 128, length % 128);
+        // Start and end of the 8-pixel bands of the update
+        this.builder.add (band, band);
+        // Start and end column of the update
+        this.builder.add (startTile * TILE_WIDTH, Math.min (WIDTH, (endTile + 1) * TILE_WIDTH) - 1);
+        this.builder.add (stripe, from, to - from);
+        this.output.sendSysex (this.builder);
+
+        this.lastSend = System.currentTimeMillis ();
+    }
+
+
+    /**
+     * Send the first band again if there was no update to keep the display from going into sleep
+     * mode.
+     */
+    private void keepAlive ()
+    {
+        synchronized (this.builder)
+        {
+            if (this.isShutdown)
+                return;
+
+            if (System.currentTimeMillis () - this.lastSend >= KEEP_ALIVE)
+                this.sendBand (0, 0, (WIDTH - 1) / TILE_WIDTH, true);
+        }
+
+        this.host.scheduleTask (this::keepAlive, KEEP_ALIVE);
+    }
+}
@@ -9,7 +9,7 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.BlinkingPadGrid;
 import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -40,8 +40,9 @@ public class FirePadGrid extends BlinkingPadGrid
             INVERSE_TRANSLATE_16x4_MATRIX.put (Integer.valueOf (TRANSLATE_16x4_MATRIX[i]), Integer.valueOf (36 + i));
     }
 
-    private double padBrightness = 1.0;
-    private double padSaturation = 1.0;
+    private final SysExBuilder builder       = new SysExBuilder ("F0 47 7F 43 65");
+    private double             padBrightness = 1.0;
+    private double             padSaturation = 1.0;
 
 
     /**
@@ -81,7 +82,8 @@ public class FirePadGrid extends BlinkingPadGrid
     @Override
     protected void updateController ()
     {
-        final StringBuilder sb = new StringBuilder ();
+        // Reserve the 2 bytes for the length of the data
+        this.builder.reset ().add (0, 0);
 
         for (final Entry<Integer, LightInfo> e: this.padInfos.entrySet ())
         {
@@ -91,10 +93,7 @@ public class FirePadGrid extends BlinkingPadGrid
             final int index = note - 54;
             // Note: The exact PADx is not needed for getting the color
             final int [] c = this.colorManager.getColor (info.getColor (), ButtonID.PAD1).scale (this.padBrightness, this.padSaturation).toIntRGB127 ();
-            sb.append (StringUtils.toHexStr (index)).append (' ');
-            sb.append (StringUtils.toHexStr (c[0])).append (' ');
-            sb.append (StringUtils.toHexStr (c[1])).append (' ');
-            sb.append (StringUtils.toHexStr (c[2])).append (' ');
+            this.builder.add (index, c[0], c[1], c[2]);
 
             // Hardware does not support blinking, therefore needs to be implemented the hard
             // way
@@ -105,36 +104,27 @@ public class FirePadGrid extends BlinkingPadGrid
                 this.blinkingLights.remove (key);
         }
 
-        int length = this.padInfos.size ();
-
         // Toggle blink colors every 600ms
         if (this.checkBlinking ())
         {
-            length += this.blinkingLights.size ();
-
             for (final Entry<Integer, LightInfo> value: this.blinkingLights.entrySet ())
             {
                 final LightInfo info = value.getValue ();
 
                 final int colorIndex = this.isBlink ? info.getBlinkColor () : info.getColor ();
                 final int [] c = this.colorManager.getColor (colorIndex, ButtonID.PAD1).scale (this.padBrightness, this.padSaturation).toIntRGB127 ();
-                sb.append (StringUtils.toHexStr (value.getKey ().intValue ())).append (' ');
-                sb.append (StringUtils.toHexStr (c[0])).append (' ');
-                sb.append (StringUtils.toHexStr (c[1])).append (' ');
-                sb.append (StringUtils.toHexStr (c[2])).append (' ');
+                this.builder.add (value.getKey ().intValue (), c[0], c[1], c[2]);
             }
         }
 
+        final int length = this.builder.getDataSize () - 2;
+
         // No update necessary
-        if (sb.length () == 0)
+        if (length == 0)
             return;
 
-        length *= 4;
-        final StringBuilder msg = new StringBuilder ("F0 47 7F 43 65 ");
-        msg.append (StringUtils.toHexStr (length / 128)).append (' ');
-        msg.append (StringUtils.toHexStr (length % 128)).append (' ');
-
-        this.output.sendSysex (msg.append (sb).append ("F7").toString ());
+        this.builder.set (0, length / 128).set (1, length % 128);
+        this.output.sendSysex (this.builder);
     }
 
 
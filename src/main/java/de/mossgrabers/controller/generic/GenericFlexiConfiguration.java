@@ -19,7 +19,6 @@ import de.mossgrabers.framework.daw.midi.ArpeggiatorMode;
 import de.mossgrabers.framework.observer.IValueObserver;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.FileEx;
-import de.mossgrabers.framework.utils.Pair;
 
 import java.io.File;
 import java.io.FileReader;
@@ -259,6 +258,9 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     /** The number of command slots. */
     public static final int                          NUM_SLOTS                    = 200;
 
+    /** Pseudo-type for the lookup of high resolution CC slots by their MSB or LSB number. */
+    private static final int                         LOOKUP_HIGH_RES              = CommandSlot.TYPE_MMC + 1;
+
     private IEnumSetting                             slotSelectionSetting;
     private IEnumSetting                             typeSetting;
     private IEnumSetting                             numberSetting;
@@ -282,6 +284,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     private String                                   filename;
     private Object                                   syncMapUpdate                = new Object ();
     private int []                                   keyMap;
+    private int []                                   slotLookup;
     private int                                      selectedSlot                 = 0;
 
     private String                                   learnTypeValue               = null;
@@ -449,6 +452,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
             final boolean isHighRes = OPTIONS_RESOLUTION.get (1).equals (value);
             this.getSelectedSlot ().setResolution (OPTIONS_RESOLUTION.get (1).equals (value));
+            this.clearSlotLookup ();
 
             // High resolution can only be set for CC < 32 and pitchbend (fixed to high res)
             final int type = AbstractConfiguration.lookupIndex (OPTIONS_TYPE, this.typeSetting.get ()) - 1;
@@ -533,6 +537,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         final FlexiCommand oldCommand = slot.getCommand ();
         final FlexiCommand newCommand = FlexiCommand.lookupByName (value);
         slot.setCommand (newCommand);
+        this.clearSlotLookup ();
 
         this.fixKnobMode ();
         this.notifyCommandObserver ();
@@ -598,33 +603,112 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
      */
     public int getSlotCommand (final int type, final int number, final int midiChannel)
     {
-        for (int i = 0; i < this.commandSlots.length; i++)
+        if (type < CommandSlot.TYPE_CC || type > CommandSlot.TYPE_MMC)
+            return -1;
+        // The number is ignored for pitchbend
+        return this.lookupSlot (type, type == CommandSlot.TYPE_PITCH_BEND ? 0 : number, midiChannel);
+    }
+
+
+    /**
+     * Get a matching configured high resolution CC slot, if available. The slot is configured with
+     * the number of the MSB (0-31), the LSB is sent on the number + 32.
+     *
+     * @param number The number of the MSB or LSB CC
+     * @param midiChannel The MIDI channel
+     * @return The slot index or -1 if not found
+     */
+    public int getHighResSlotCommand (final int number, final int midiChannel)
+    {
+        return number < 64 ? this.lookupSlot (LOOKUP_HIGH_RES, number, midiChannel) : -1;
+    }
+
+
+    /**
+     * Lookup a slot in the lookup table, which is (re-)created if necessary.
+     *
+     * @param type The type
+     * @param number The number
+     * @param midiChannel The MIDI channel
+     * @return The slot index or -1 if not found
+     */
+    private int lookupSlot (final int type, final int number, final int midiChannel)
+    {
+        if (number < 0 || number > 127 || midiChannel < 0 || midiChannel > 15)
+            return -1;
+
+        synchronized (this.syncMapUpdate)
+        {
+            if (this.slotLookup == null)
+                this.slotLookup = this.createSlotLookup ();
+            return this.slotLookup[getLookupIndex (type, number, midiChannel)];
+        }
+    }
+
+
+    /**
+     * Create the lookup table which maps type, MIDI channel and number to the first matching slot.
+     *
+     * @return The lookup table
+     */
+    private int [] createSlotLookup ()
+    {
+        final int [] lookup = new int [getLookupIndex (LOOKUP_HIGH_RES + 1, 0, 0)];
+        Arrays.fill (lookup, -1);
+
+        // Iterate backwards to let the first matching slot win
+        for (int i = this.commandSlots.length - 1; i >= 0; i--)
         {
             final CommandSlot slot = this.commandSlots[i];
-            if (slot.getCommand () != FlexiCommand.OFF && slot.getType () == type && slot.getMidiChannel () == midiChannel && (type == CommandSlot.TYPE_PITCH_BEND || slot.getNumber () == number))
-                return i;
+            final int type = slot.getType ();
+            final int midiChannel = slot.getMidiChannel ();
+            final int number = type == CommandSlot.TYPE_PITCH_BEND ? 0 : slot.getNumber ();
+            if (slot.getCommand () == FlexiCommand.OFF || type < CommandSlot.TYPE_CC || type > CommandSlot.TYPE_MMC || midiChannel < 0 || midiChannel > 15 || number < 0 || number > 127)
+                continue;
+            lookup[getLookupIndex (type, number, midiChannel)] = i;
         }
-        return -1;
+
+        // The high resolution slots must be the first matching CC slot of the MSB number
+        for (int midiChannel = 0; midiChannel < 16; midiChannel++)
+        {
+            for (int number = 0; number < 32; number++)
+            {
+                final int index = lookup[getLookupIndex (CommandSlot.TYPE_CC, number, midiChannel)];
+                if (index >= 0 && this.commandSlots[index].getResolution ())
+                {
+                    lookup[getLookupIndex (LOOKUP_HIGH_RES, number, midiChannel)] = index;
+                    lookup[getLookupIndex (LOOKUP_HIGH_RES, number + 32, midiChannel)] = index;
+                }
+            }
+        }
+
+        return lookup;
     }
 
 
     /**
-     * Get a matching configured slot, if available.
+     * Get the index in the slot lookup table.
      *
      * @param type The type
      * @param number The number
      * @param midiChannel The MIDI channel
-     * @return The slot or empty if not found
+     * @return The index
      */
-    public Optional<Pair<Integer, CommandSlot>> getSlot (final int type, final int number, final int midiChannel)
+    private static int getLookupIndex (final int type, final int number, final int midiChannel)
     {
-        for (int i = 0; i < this.commandSlots.length; i++)
+        return (type * 16 + midiChannel) * 128 + number;
+    }
+
+
+    /**
+     * Clear the slot lookup table. It is re-created on the next lookup.
+     */
+    private void clearSlotLookup ()
+    {
+        synchronized (this.syncMapUpdate)
         {
-            final CommandSlot slot = this.commandSlots[i];
-            if (slot.getCommand () != FlexiCommand.OFF && slot.getType () == type && slot.getMidiChannel () == midiChannel && (type == CommandSlot.TYPE_PITCH_BEND || slot.getNumber () == number))
-                return Optional.of (new Pair<> (Integer.valueOf (i), slot));
+            this.slotLookup = null;
         }
-        return Optional.empty ();
     }
 
 
@@ -663,6 +747,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         synchronized (this.syncMapUpdate)
         {
             this.keyMap = null;
+            this.slotLookup = null;
         }
         this.notifyObservers (SLOT_CHANGE);
     }
@@ -14,7 +14,6 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.mode.Modes;
-import de.mossgrabers.framework.utils.Pair;
 import de.mossgrabers.framework.utils.StringUtils;
 import de.mossgrabers.nativefiledialogs.FileFilter;
 import de.mossgrabers.nativefiledialogs.NativeFileDialogs;
@@ -232,49 +231,21 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
 
         this.configuration.setLearnValues (GenericFlexiConfiguration.OPTIONS_TYPE.get (CommandSlot.TYPE_CC + 1), data1, channel, isHighRes);
 
-        int slotIndex = -1;
-        int value = 0;
-        boolean isHighResValue = false;
-
         // Check for high resolution related setting
-        if (data1 >= 0 && data1 < 32)
-        {
-            final Optional<Pair<Integer, CommandSlot>> optional = this.configuration.getSlot (CommandSlot.TYPE_CC, data1, channel);
-            if (optional.isPresent ())
-            {
-                final Pair<Integer, CommandSlot> pair = optional.get ();
-                if (pair.getValue ().getResolution ())
-                {
-                    slotIndex = pair.getKey ().intValue ();
-                    value = data2 * 128 + this.lastCCValues[data1 + 32];
-                    isHighResValue = true;
-                }
-            }
-        }
-        else if (data1 >= 32 && data1 < 64)
+        int slotIndex = this.configuration.getHighResSlotCommand (data1, channel);
+        final int value;
+        final boolean isHighResValue = slotIndex >= 0;
+        if (isHighResValue)
         {
-            final int firstCC = data1 - 32;
-            final Optional<Pair<Integer, CommandSlot>> optional = this.configuration.getSlot (CommandSlot.TYPE_CC, firstCC, channel);
-            if (optional.isPresent ())
-            {
-                final Pair<Integer, CommandSlot> pair = optional.get ();
-                if (pair.getValue ().getResolution ())
-                {
-                    slotIndex = pair.getKey ().intValue ();
-                    value = this.lastCCValues[firstCC] * 128 + data2;
-                    isHighResValue = true;
-                }
-            }
+            if (data1 < 32)
+                value = data2 * 128 + this.lastCCValues[data1 + 32];
+            else
+                value = this.lastCCValues[data1 - 32] * 128 + data2;
         }
-
-        if (slotIndex == -1)
+        else
         {
-            final Optional<Pair<Integer, CommandSlot>> optional = this.configuration.getSlot (CommandSlot.TYPE_CC, data1, channel);
-            if (optional.isPresent ())
-            {
-                slotIndex = optional.get ().getKey ().intValue ();
-                value = data2;
-            }
+            slotIndex = this.configuration.getSlotCommand (CommandSlot.TYPE_CC, data1, channel);
+            value = slotIndex >= 0 ? data2 : 0;
         }
 
         this.handleCommand (slotIndex, MidiValue.get (value, isHighResValue));
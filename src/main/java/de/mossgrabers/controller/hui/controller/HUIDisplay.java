@@ -7,8 +7,8 @@ package de.mossgrabers.controller.hui.controller;
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 import de.mossgrabers.framework.utils.LatestTaskExecutor;
-import de.mossgrabers.framework.utils.StringUtils;
 
 import java.util.concurrent.TimeUnit;
 
@@ -25,6 +25,11 @@ public class HUIDisplay extends AbstractTextDisplay
     private static final String      SYSEX_DISPLAY_HEADER = "F0 00 00 66 05 00 10 ";
 
     private final LatestTaskExecutor executor             = new LatestTaskExecutor ();
+    private final SysExBuilder       builder              = new SysExBuilder (SYSEX_DISPLAY_HEADER);
+
+    private final Object             pendingLock          = new Object ();
+    private String                   pendingLine;
+    private int                      pendingCells;
 
 
     /**
@@ -40,16 +45,47 @@ public class HUIDisplay extends AbstractTextDisplay
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void updateRange (final int row, final String text, final int offset, final int length)
+    {
+        this.hwDisplay.setLine (row, this.convertCharacterset (text));
+        this.writeCells (text, offset / 4, (offset + length - 1) / 4);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void writeLine (final int row, final String text)
+    {
+        this.writeCells (text, 0, this.noOfCells - 1);
+    }
+
+
+    /**
+     * Send a range of cells of the line to the display. Cells which are not yet sent are merged,
+     * since the executor only runs the latest task.
+     *
+     * @param text The text of the whole line
+     * @param firstCell The index of the first cell to send
+     * @param lastCell The index of the last cell to send
+     */
+    private void writeCells (final String text, final int firstCell, final int lastCell)
     {
         if (this.executor.isShutdown ())
             return;
+
+        synchronized (this.pendingLock)
+        {
+            this.pendingLine = text;
+            for (int cell = firstCell; cell <= lastCell; cell++)
+                this.pendingCells |= 1 << cell;
+        }
+
         this.executor.execute ( () -> {
             try
             {
-                this.sendDisplayLine (text);
+                this.sendPendingCells ();
             }
             catch (final RuntimeException ex)
             {
@@ -60,21 +96,25 @@ public class HUIDisplay extends AbstractTextDisplay
 
 
     /**
-     * Send a line to the display.
-     *
-     * @param text The text to send
+     * Send the cells of the line which have changed since the last send.
      */
-    private void sendDisplayLine (final String text)
+    private void sendPendingCells ()
     {
-        final String t = text;
+        final String text;
+        final int cells;
+        synchronized (this.pendingLock)
+        {
+            text = this.pendingLine;
+            cells = this.pendingCells;
+            this.pendingCells = 0;
+        }
 
-        final int [] array = new int [5];
         for (int cell = 0; cell < this.noOfCells; cell++)
         {
-            array[0] = cell;
-            for (int i = 0; i < 4; i++)
-                array[1 + i] = t.charAt (cell * 4 + i);
-            this.output.sendSysex (new StringBuilder (SYSEX_DISPLAY_HEADER).append (StringUtils.toHexStr (array)).append ("F7").toString ());
+            if ((cells & 1 << cell) == 0)
+                continue;
+            this.builder.reset ().add (cell).addText (text, cell * 4, cell * 4 + 4);
+            this.output.sendSysex (this.builder);
         }
     }
 
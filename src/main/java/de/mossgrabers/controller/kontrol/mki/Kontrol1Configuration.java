@@ -70,6 +70,7 @@ public class Kontrol1Configuration extends AbstractConfiguration
         this.activateExcludeDeactivatedItemsSetting (globalSettings);
         this.activateEnableVUMetersSetting (globalSettings);
         this.activateKnobSpeedSetting (globalSettings);
+        this.activateFrameRateSetting (globalSettings);
     }
 
 
@@ -216,21 +216,14 @@ public class Kontrol1ControlSurface extends AbstractControlSurface<Kontrol1Confi
 
         for (int i = 0; i < 88; i++)
             this.usbDevice.setKeyLED (i, 0, 0, 0);
-        this.updateKeyLEDs ();
 
         this.getTextDisplay ().clear ().notify (" START  " + this.host.getName ().toUpperCase (Locale.US) + " TO PLAY");
 
-        super.internalShutdown ();
-    }
-
+        // Send everything immediately, the device is closed when the display is shutdown and a
+        // delayed flush would never be executed
+        this.usbDevice.flush (true);
 
-    /** {@inheritDoc} */
-    @Override
-    protected void updateGrid ()
-    {
-        super.updateGrid ();
-
-        this.updateKeyLEDs ();
+        super.internalShutdown ();
     }
 
 
@@ -305,30 +298,14 @@ public class Kontrol1ControlSurface extends AbstractControlSurface<Kontrol1Confi
     }
 
 
-    /**
-     * Send the LED stati to the device.
-     */
-    public void updateButtonLEDs ()
-    {
-        this.usbDevice.updateButtonLEDs ();
-    }
-
-
-    /**
-     * Send the key LED stati updates to the device.
-     */
-    public void updateKeyLEDs ()
-    {
-        this.usbDevice.updateKeyLEDs ();
-    }
-
-
     /** {@inheritDoc} */
     @Override
-    protected void updateViewControls ()
+    protected void flushHardware ()
     {
-        super.updateViewControls ();
-        this.updateButtonLEDs ();
+        super.flushHardware ();
+
+        // All reports are sent together after the display and the lights were updated
+        this.usbDevice.flush (false);
     }
 
 
@@ -46,15 +46,6 @@ public class Kontrol1Display extends AbstractTextDisplay
     }
 
 
-    /** {@inheritDoc} */
-    @Override
-    public void flush ()
-    {
-        super.flush ();
-        this.usbDevice.sendDisplayData ();
-    }
-
-
     /** {@inheritDoc} */
     @Override
     public ITextDisplay clear ()
@@ -163,13 +154,9 @@ public class Kontrol1Display extends AbstractTextDisplay
 
         synchronized (this.notificationLock)
         {
-            final boolean isRunning = this.isNotificationActive > 0;
-            this.isNotificationActive = AbstractTextDisplay.NOTIFICATION_TIME;
+            this.startNotification ();
             this.clear ();
             this.flush ();
-
-            if (!isRunning)
-                this.host.scheduleTask (this::watch, 100);
         }
     }
 
@@ -391,6 +391,12 @@ public class Kontrol1UsbDevice
         0x80
     };
 
+    private static final byte []               BLANK                     = new byte []
+    {
+        0,
+        0
+    };
+
     private static final int []                KEY_SIZES                 =
     {
         25,
@@ -407,6 +413,10 @@ public class Kontrol1UsbDevice
 
     private static final int                   SIZE_DISPLAY              = 248;
     private static final int                   SIZE_BUTTON_LEDS          = 25;
+    private static final int                   NUM_CELLS                 = 72;
+
+    /** The minimum time between two flushes of the output reports in milliseconds. */
+    private static final int                   MIN_FLUSH_INTERVAL        = 25;
 
     private final int                          sizeKeyLEDs;
     private final IMemoryBlock                 displayBlock;
@@ -433,12 +443,20 @@ public class Kontrol1UsbDevice
     private byte []                            keyColors                 = new byte [88 * 3];
     private byte []                            oldKeyColors              = new byte [88 * 3];
 
-    private final boolean [] []                dots                      = new boolean [2] [72];
+    private final boolean [] []                dots                      = new boolean [2] [NUM_CELLS];
     private final int [] []                    bars                      = new int [9] [9];
-    private final char [] []                   texts                     = new char [2] [72];
-    private final char [] []                   oldTexts                  = new char [2] [72];
+    private final char [] []                   texts                     = new char [2] [NUM_CELLS];
+
+    /** The encoded cells (2 bytes each) of the 3 display rows: bars and dots, 2 text rows. */
+    private final byte [] []                   cells                     = new byte [3] [NUM_CELLS * 2];
+    private final byte [] []                   sentCells                 = new byte [3] [NUM_CELLS * 2];
 
-    private final byte []                      line0                     = new byte [SIZE_DISPLAY];
+    private final Object                       outputLock                = new Object ();
+    private boolean                            isDisplayChanged          = true;
+    private boolean                            isButtonLEDsChanged       = false;
+    private boolean                            isKeyLEDsChanged          = true;
+    private long                               lastFlush                 = 0;
+    private boolean                            isFlushScheduled          = false;
 
     private boolean                            isFirstStateMsg           = true;
 
@@ -503,8 +521,10 @@ public class Kontrol1UsbDevice
         this.keyLedBlock = host.createMemoryBlock (this.sizeKeyLEDs);
         this.initBlock = host.createMemoryBlock (2);
 
-        // To send black LEDs on startup
+        // To send black LEDs and the whole display on startup
         this.oldKeyColors[0] = -1;
+        for (final byte [] rowCells: this.sentCells)
+            Arrays.fill (rowCells, (byte) -1);
     }
 
 
@@ -538,7 +558,7 @@ public class Kontrol1UsbDevice
         if (this.hidDevice == null)
             return;
 
-        synchronized (this.initBlock)
+        synchronized (this.outputLock)
         {
             final ByteBuffer buffer = this.initBlock.createByteBuffer ();
             padBuffer (buffer);
@@ -558,7 +578,11 @@ public class Kontrol1UsbDevice
     {
         if (row < 0 || row > 1 || index < 0 || index > 71)
             return;
-        this.texts[row][index] = character;
+        synchronized (this.outputLock)
+        {
+            this.texts[row][index] = character;
+            this.isDisplayChanged = true;
+        }
     }
 
 
@@ -573,7 +597,11 @@ public class Kontrol1UsbDevice
     {
         if (row < 0 || row > 1 || index < 0 || index > 71)
             return;
-        this.dots[row][index] = set;
+        synchronized (this.outputLock)
+        {
+            this.dots[row][index] = set;
+            this.isDisplayChanged = true;
+        }
     }
 
 
@@ -587,27 +615,32 @@ public class Kontrol1UsbDevice
      */
     public void setBar (final int column, final boolean hasBorder, final int value, final int maxValue)
     {
-        final int v = value * 36 / maxValue;
-        final int full = v / 4;
-
-        for (int i = 0; i < 9; i++)
+        synchronized (this.outputLock)
         {
-            this.bars[column][i] = i < full ? 3 : 0;
-            if (hasBorder)
-                this.bars[column][i] += 68;
-        }
+            this.isDisplayChanged = true;
 
-        if (full < 9)
-        {
-            int dashes = v % 4;
-            // Strangely, 1 dash 2 but 2 dashes are 1...
-            if (dashes == 1)
-                dashes = 2;
-            else if (dashes == 2)
-                dashes = 1;
-            this.bars[column][full] = dashes;
-            if (hasBorder)
-                this.bars[column][full] += 68;
+            final int v = value * 36 / maxValue;
+            final int full = v / 4;
+
+            for (int i = 0; i < 9; i++)
+            {
+                this.bars[column][i] = i < full ? 3 : 0;
+                if (hasBorder)
+                    this.bars[column][i] += 68;
+            }
+
+            if (full < 9)
+            {
+                int dashes = v % 4;
+                // Strangely, 1 dash 2 but 2 dashes are 1...
+                if (dashes == 1)
+                    dashes = 2;
+                else if (dashes == 2)
+                    dashes = 1;
+                this.bars[column][full] = dashes;
+                if (hasBorder)
+                    this.bars[column][full] += 68;
+            }
         }
     }
 
@@ -622,97 +655,173 @@ public class Kontrol1UsbDevice
      */
     public void setPanBar (final int column, final boolean hasBorder, final int value, final int maxValue)
     {
-        for (int i = 0; i < 9; i++)
-            this.bars[column][i] = i == 4 ? 3 : 0;
-
-        final int middle = maxValue / 2;
-        if (value != middle)
+        synchronized (this.outputLock)
         {
-            final boolean isLeft = value < middle;
-            final int pos = isLeft ? middle - value : value - middle;
-            final int noOfBars = 16 * pos / maxValue;
-            final int half = noOfBars / 2;
-            final int rest = noOfBars % 2;
+            this.isDisplayChanged = true;
 
-            if (isLeft)
-            {
-                for (int i = 4 - half; i <= 4; i++)
-                    this.bars[column][i] = 3;
-                if (rest > 0 && 4 - half - 1 >= 0)
-                    this.bars[column][4 - half - 1] = 2;
-            }
-            else
+            for (int i = 0; i < 9; i++)
+                this.bars[column][i] = i == 4 ? 3 : 0;
+
+            final int middle = maxValue / 2;
+            if (value != middle)
             {
-                for (int i = 0; i <= half; i++)
-                    this.bars[column][5 + i] = 3;
-                if (rest > 0 && 5 + half + 1 <= 8)
-                    this.bars[column][5 + half + 1] = 2;
+                final boolean isLeft = value < middle;
+                final int pos = isLeft ? middle - value : value - middle;
+                final int noOfBars = 16 * pos / maxValue;
+                final int half = noOfBars / 2;
+                final int rest = noOfBars % 2;
+
+                if (isLeft)
+                {
+                    for (int i = 4 - half; i <= 4; i++)
+                        this.bars[column][i] = 3;
+                    if (rest > 0 && 4 - half - 1 >= 0)
+                        this.bars[column][4 - half - 1] = 2;
+                }
+                else
+                {
+                    for (int i = 0; i <= half; i++)
+                        this.bars[column][5 + i] = 3;
+                    if (rest > 0 && 5 + half + 1 <= 8)
+                        this.bars[column][5 + half + 1] = 2;
+                }
             }
-        }
 
-        if (!hasBorder)
-            return;
-        for (int i = 0; i < 9; i++)
-            this.bars[column][i] += 68;
+            if (!hasBorder)
+                return;
+            for (int i = 0; i < 9; i++)
+                this.bars[column][i] += 68;
+        }
     }
 
 
     /**
-     * Send all display data to the device.
+     * Send the changed display content, button LEDs and key LEDs to the device. Each report is sent
+     * at most once and the reports are not sent more often than the device can handle them without
+     * delaying its input reports. If the last flush was too recent, the changes are sent a bit
+     * later.
+     *
+     * @param force Send the changes immediately, e.g. on shutdown
      */
-    public void sendDisplayData ()
+    public void flush (final boolean force)
     {
-        if (this.hidDevice == null)
+        final IHidDevice device = this.hidDevice;
+        if (device == null)
             return;
 
-        synchronized (this.displayBlock)
+        synchronized (this.outputLock)
         {
-            final ByteBuffer displayBuffer = this.displayBlock.createByteBuffer ();
-            fillHeader (displayBuffer, 0);
-            for (int j = 0; j < 72; j++)
-            {
-                final int col = j / 8;
-                displayBuffer.put ((byte) this.bars[col][j - col * 8]);
+            if (!this.isDisplayChanged && !this.isButtonLEDsChanged && !this.isKeyLEDsChanged)
+                return;
 
-                if (j % 8 == 7)
-                    displayBuffer.put ((byte) this.bars[col][8]);
-                else
+            final long now = System.currentTimeMillis ();
+            final long elapsed = now - this.lastFlush;
+            if (!force && elapsed < MIN_FLUSH_INTERVAL)
+            {
+                if (!this.isFlushScheduled)
                 {
-                    if (this.dots[0][j] && this.dots[1][j])
-                        displayBuffer.put ((byte) 255);
-                    else if (this.dots[0][j])
-                        displayBuffer.put ((byte) 253);
-                    else if (this.dots[1][j])
-                        displayBuffer.put ((byte) 254);
-                    else
-                        displayBuffer.put ((byte) 0);
+                    this.isFlushScheduled = true;
+                    this.host.scheduleTask (this::flushDelayed, MIN_FLUSH_INTERVAL - elapsed);
                 }
+                return;
             }
-            padBuffer (displayBuffer);
 
-            final byte [] l0 = new byte [SIZE_DISPLAY];
-            displayBuffer.rewind ();
-            displayBuffer.get (l0);
+            // Buttons first since they are the most important feedback
+            boolean hasSent = this.sendButtonLEDs (device);
+            hasSent |= this.sendDisplay (device);
+            hasSent |= this.sendKeyLEDs (device);
+            if (hasSent)
+                this.lastFlush = now;
+        }
+    }
 
-            if (!Arrays.equals (this.line0, l0))
-            {
-                System.arraycopy (l0, 0, this.line0, 0, this.line0.length);
-                this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock);
-            }
 
-            for (int row = 1; row < 3; row++)
-            {
-                if (!Arrays.equals (this.oldTexts[row - 1], this.texts[row - 1]))
-                {
-                    System.arraycopy (this.texts[row - 1], 0, this.oldTexts[row - 1], 0, this.oldTexts[row - 1].length);
+    /**
+     * Flush the changes which were postponed.
+     */
+    private void flushDelayed ()
+    {
+        synchronized (this.outputLock)
+        {
+            this.isFlushScheduled = false;
+        }
+        this.flush (false);
+    }
 
-                    fillHeader (displayBuffer, row);
-                    for (int j = 0; j < 72; j++)
-                        displayBuffer.put (this.getCharacter (row - 1, j));
 
-                    padBuffer (displayBuffer);
-                    this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock);
-                }
+    /**
+     * Send the changed ranges of the display rows. Must be called with the output lock.
+     *
+     * @param device The HID device
+     * @return True if a report was sent
+     */
+    private boolean sendDisplay (final IHidDevice device)
+    {
+        if (!this.isDisplayChanged)
+            return false;
+        this.isDisplayChanged = false;
+
+        this.encodeDisplay ();
+
+        boolean hasSent = false;
+        for (int row = 0; row < 3; row++)
+        {
+            final byte [] rowCells = this.cells[row];
+            final byte [] sentRowCells = this.sentCells[row];
+            final int first = Arrays.mismatch (rowCells, sentRowCells);
+            if (first < 0)
+                continue;
+            int last = rowCells.length - 1;
+            while (rowCells[last] == sentRowCells[last])
+                last--;
+
+            // Only send the range of the changed cells
+            final int start = first / 2;
+            final int length = last / 2 + 1 - start;
+            System.arraycopy (rowCells, start * 2, sentRowCells, start * 2, length * 2);
+
+            final ByteBuffer displayBuffer = this.displayBlock.createByteBuffer ();
+            fillHeader (displayBuffer, row, start, length);
+            displayBuffer.put (rowCells, start * 2, length * 2);
+            padBuffer (displayBuffer);
+            device.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock);
+            hasSent = true;
+        }
+        return hasSent;
+    }
+
+
+    /**
+     * Encode the bars, dots and texts into the display cells.
+     */
+    private void encodeDisplay ()
+    {
+        final byte [] barCells = this.cells[0];
+        for (int j = 0; j < NUM_CELLS; j++)
+        {
+            final int col = j / 8;
+            barCells[2 * j] = (byte) this.bars[col][j - col * 8];
+
+            if (j % 8 == 7)
+                barCells[2 * j + 1] = (byte) this.bars[col][8];
+            else if (this.dots[0][j] && this.dots[1][j])
+                barCells[2 * j + 1] = (byte) 255;
+            else if (this.dots[0][j])
+                barCells[2 * j + 1] = (byte) 253;
+            else if (this.dots[1][j])
+                barCells[2 * j + 1] = (byte) 254;
+            else
+                barCells[2 * j + 1] = 0;
+        }
+
+        for (int row = 1; row < 3; row++)
+        {
+            final byte [] textCells = this.cells[row];
+            for (int j = 0; j < NUM_CELLS; j++)
+            {
+                final byte [] character = this.getCharacter (row - 1, j);
+                textCells[2 * j] = character[0];
+                textCells[2 * j + 1] = character[1];
             }
         }
     }
@@ -737,30 +846,32 @@ public class Kontrol1UsbDevice
     {
         final Integer pos = LED_MAPPING.get (Integer.valueOf (buttonID));
         if (pos != null)
-            this.buttonStates[pos.intValue ()] = (byte) intensity;
+            this.setButtonState (pos.intValue (), intensity);
     }
 
 
     /**
-     * Send the LED status updates to the device.
+     * Send the button LED report if the LEDs have changed. Must be called with the output lock.
+     *
+     * @param device The HID device
+     * @return True if the report was sent
      */
-    public void updateButtonLEDs ()
+    private boolean sendButtonLEDs (final IHidDevice device)
     {
-        if (this.hidDevice == null)
-            return;
-
-        synchronized (this.ledBlock)
-        {
-            if (Arrays.equals (this.oldButtonStates, this.buttonStates))
-                return;
-            System.arraycopy (this.buttonStates, 0, this.oldButtonStates, 0, this.oldButtonStates.length);
-
-            final ByteBuffer ledBuffer = this.ledBlock.createByteBuffer ();
-            ledBuffer.clear ();
-            ledBuffer.put (this.buttonStates);
-            padBuffer (ledBuffer);
-            this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_LEDS, this.ledBlock);
-        }
+        if (!this.isButtonLEDsChanged)
+            return false;
+        this.isButtonLEDsChanged = false;
+
+        if (Arrays.equals (this.oldButtonStates, this.buttonStates))
+            return false;
+        System.arraycopy (this.buttonStates, 0, this.oldButtonStates, 0, this.oldButtonStates.length);
+
+        final ByteBuffer ledBuffer = this.ledBlock.createByteBuffer ();
+        ledBuffer.clear ();
+        ledBuffer.put (this.buttonStates);
+        padBuffer (ledBuffer);
+        device.sendOutputReport (REPORT_ID_OUTPUT_LEDS, this.ledBlock);
+        return true;
     }
 
 
@@ -779,51 +890,61 @@ public class Kontrol1UsbDevice
         if (key < 0 || key >= 88)
             return;
         final int pos = 3 * key;
-        synchronized (this.keyLedBlock)
+        synchronized (this.outputLock)
         {
+            if (this.keyColors[pos] == (byte) red && this.keyColors[pos + 1] == (byte) green && this.keyColors[pos + 2] == (byte) blue)
+                return;
             this.keyColors[pos] = (byte) red;
             this.keyColors[pos + 1] = (byte) green;
             this.keyColors[pos + 2] = (byte) blue;
+            this.isKeyLEDsChanged = true;
         }
     }
 
 
     /**
-     * Send the key LED stati updates to the device.
+     * Send the key LED report if the LEDs have changed. The report always contains all keys. Must
+     * be called with the output lock.
+     *
+     * @param device The HID device
+     * @return True if the report was sent
      */
-    public void updateKeyLEDs ()
+    private boolean sendKeyLEDs (final IHidDevice device)
     {
-        if (this.hidDevice == null)
-            return;
-
-        synchronized (this.keyLedBlock)
-        {
-            if (Arrays.equals (this.oldKeyColors, this.keyColors))
-                return;
-            System.arraycopy (this.keyColors, 0, this.oldKeyColors, 0, this.oldKeyColors.length);
-            final ByteBuffer keyLedBuffer = this.keyLedBlock.createByteBuffer ();
-            keyLedBuffer.clear ();
-            keyLedBuffer.put (this.keyColors, 0, this.sizeKeyLEDs);
-            padBuffer (keyLedBuffer);
-            this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_KEY_LEDS, this.keyLedBlock);
-        }
+        if (!this.isKeyLEDsChanged)
+            return false;
+        this.isKeyLEDsChanged = false;
+
+        if (Arrays.equals (this.oldKeyColors, 0, this.sizeKeyLEDs, this.keyColors, 0, this.sizeKeyLEDs))
+            return false;
+        System.arraycopy (this.keyColors, 0, this.oldKeyColors, 0, this.sizeKeyLEDs);
+
+        final ByteBuffer keyLedBuffer = this.keyLedBlock.createByteBuffer ();
+        keyLedBuffer.clear ();
+        keyLedBuffer.put (this.keyColors, 0, this.sizeKeyLEDs);
+        padBuffer (keyLedBuffer);
+        device.sendOutputReport (REPORT_ID_OUTPUT_KEY_LEDS, this.keyLedBlock);
+        return true;
     }
 
 
     /**
-     * Fill the display buffer with the header data
+     * Fill the display buffer with the header data. The header contains the position and size of
+     * the update (x, y, width and height as 16 bit little endian values).
      *
      * @param displayBuffer The display buffer to which to add the header
      * @param row The row number (0-3)
+     * @param start The index of the first cell
+     * @param length The number of cells
      */
-    private static void fillHeader (final ByteBuffer displayBuffer, final int row)
+    private static void fillHeader (final ByteBuffer displayBuffer, final int row, final int start, final int length)
     {
         displayBuffer.clear ();
-        displayBuffer.put ((byte) 0x00);
+        displayBuffer.put ((byte) start);
         displayBuffer.put ((byte) 0x00);
         displayBuffer.put ((byte) row);
         displayBuffer.put ((byte) 0x00);
-        displayBuffer.put ((byte) 0x48);
+        displayBuffer.put ((byte) length);
         displayBuffer.put ((byte) 0x00);
         displayBuffer.put ((byte) 0x01);
         displayBuffer.put ((byte) 0x00);
@@ -942,11 +1063,7 @@ public class Kontrol1UsbDevice
                 return BWD_SLASH;
 
             default:
-                return new byte []
-                {
-                    0,
-                    0
-                };
+                return BLANK;
         }
     }
 
@@ -972,8 +1089,25 @@ public class Kontrol1UsbDevice
     public void turnOffButtonLEDs ()
     {
         for (final Integer buttonLED: LED_MAPPING.values ())
-            this.buttonStates[buttonLED.intValue ()] = 0;
-        this.updateButtonLEDs ();
+            this.setButtonState (buttonLED.intValue (), 0);
+    }
+
+
+    /**
+     * Set the intensity of a button LED.
+     *
+     * @param index The index of the LED in the report
+     * @param intensity 0-255 The light intensity (0 is off)
+     */
+    private void setButtonState (final int index, final int intensity)
+    {
+        synchronized (this.outputLock)
+        {
+            if (this.buttonStates[index] == (byte) intensity)
+                return;
+            this.buttonStates[index] = (byte) intensity;
+            this.isButtonLEDsChanged = true;
+        }
     }
 
 
@@ -11,6 +11,7 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 import de.mossgrabers.framework.utils.StringUtils;
 
 import java.util.ArrayList;
@@ -123,6 +124,7 @@ public class KontrolProtocolControlSurface extends AbstractControlSurface<Kontro
     private int             protocolVersion                      = KontrolProtocol.MAX_VERSION;
     private ValueCache      valueCache                           = new ValueCache ();
     private final Object    cacheLock                            = new Object ();
+    private SysExBuilder    trackSysExBuilder                    = new SysExBuilder ("F0 00 21 09 00 00 44 43 01 00");
     private final Object    handshakeLock                        = new Object ();
     private boolean         isConnectedToNIHIA                   = false;
 
@@ -282,16 +284,10 @@ public class KontrolProtocolControlSurface extends AbstractControlSurface<Kontro
         {
             if (this.valueCache.store (track, stateID, value, info))
                 return;
-        }
-
-        final int [] data = new int [3 + info.length];
-        data[0] = stateID;
-        data[1] = value;
-        data[2] = track;
-        for (int i = 0; i < info.length; i++)
-            data[3 + i] = info[i];
 
-        this.output.sendSysex ("F0 00 21 09 00 00 44 43 01 00 " + StringUtils.toHexStr (data) + "F7");
+            this.trackSysExBuilder.reset ().add (stateID, value, track).add (info);
+            this.output.sendSysex (this.trackSysExBuilder);
+        }
     }
 
 
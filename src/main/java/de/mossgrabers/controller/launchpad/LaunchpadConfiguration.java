@@ -89,6 +89,7 @@ public class LaunchpadConfiguration extends AbstractConfiguration
         this.activateExcludeDeactivatedItemsSetting (globalSettings);
         this.activateIncludeMasterSetting (globalSettings);
         this.activateNewClipLengthSetting (globalSettings);
+        this.activateFrameRateSetting (globalSettings);
 
         ///////////////////////////
         // Pad Sensitivity
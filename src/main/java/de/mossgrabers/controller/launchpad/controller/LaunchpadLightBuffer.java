@@ -0,0 +1,186 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.launchpad.controller;
+
+/**
+ * Collects the changed pad lights of a Launchpad during a frame. There is one slot for each of the
+ * 128 MIDI notes and a list of the notes which were changed, which keeps the collection free of
+ * allocations. Not thread-safe, the pad grid synchronizes the access.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LaunchpadLightBuffer
+{
+    private static final int NUM_NOTES   = 128;
+
+    private final int []     colors      = new int [NUM_NOTES];
+    private final int []     blinkColors = new int [NUM_NOTES];
+    private final boolean [] fast        = new boolean [NUM_NOTES];
+    private final int []     rgbColors   = new int [NUM_NOTES];
+    private final boolean [] isRGB       = new boolean [NUM_NOTES];
+    private final boolean [] isDirty     = new boolean [NUM_NOTES];
+    private final int []     dirtyNotes  = new int [NUM_NOTES];
+    private int              numDirty    = 0;
+
+
+    /**
+     * Set the palette color of a pad.
+     *
+     * @param note The note of the pad
+     * @param color The index of the color in the palette
+     */
+    public void setColor (final int note, final int color)
+    {
+        this.markDirty (note);
+        this.colors[note] = color;
+        this.isRGB[note] = false;
+    }
+
+
+    /**
+     * Set the blink color of a pad.
+     *
+     * @param note The note of the pad
+     * @param blinkColor The index of the blink color in the palette
+     * @param fast True to blink fast otherwise the pad pulses
+     */
+    public void setBlinkColor (final int note, final int blinkColor, final boolean fast)
+    {
+        this.markDirty (note);
+        this.blinkColors[note] = blinkColor;
+        this.fast[note] = fast;
+        this.isRGB[note] = false;
+    }
+
+
+    /**
+     * Set an arbitrary color of a pad. Only supported by devices with RGB colors.
+     *
+     * @param note The note of the pad
+     * @param red The red part of the color (0-127)
+     * @param green The green part of the color (0-127)
+     * @param blue The blue part of the color (0-127)
+     */
+    public void setRGBColor (final int note, final int red, final int green, final int blue)
+    {
+        this.markDirty (note);
+        this.rgbColors[note] = red << 16 | green << 8 | blue;
+        this.isRGB[note] = true;
+    }
+
+
+    /**
+     * Get the number of changed pads.
+     *
+     * @return The number
+     */
+    public int getNumChanges ()
+    {
+        return this.numDirty;
+    }
+
+
+    /**
+     * Get the note of a changed pad.
+     *
+     * @param index The index of the change (0 to number of changes - 1)
+     * @return The note of the pad
+     */
+    public int getNote (final int index)
+    {
+        return this.dirtyNotes[index];
+    }
+
+
+    /**
+     * Get the palette color of a pad.
+     *
+     * @param note The note of the pad
+     * @return The index of the color in the palette
+     */
+    public int getColor (final int note)
+    {
+        return this.colors[note];
+    }
+
+
+    /**
+     * Get the blink color of a pad.
+     *
+     * @param note The note of the pad
+     * @return The index of the blink color in the palette, 0 if the pad does not blink
+     */
+    public int getBlinkColor (final int note)
+    {
+        return this.blinkColors[note];
+    }
+
+
+    /**
+     * Blink fast or pulse?
+     *
+     * @param note The note of the pad
+     * @return True if fast
+     */
+    public boolean isFast (final int note)
+    {
+        return this.fast[note];
+    }
+
+
+    /**
+     * Is an arbitrary color set for the pad?
+     *
+     * @param note The note of the pad
+     * @return True if RGB
+     */
+    public boolean isRGB (final int note)
+    {
+        return this.isRGB[note];
+    }
+
+
+    /**
+     * Get the arbitrary color of a pad.
+     *
+     * @param note The note of the pad
+     * @return The color encoded as 0x00RRGGBB with 7-bit values
+     */
+    public int getRGBColor (final int note)
+    {
+        return this.rgbColors[note];
+    }
+
+
+    /**
+     * Remove all changes.
+     */
+    public void clear ()
+    {
+        for (int i = 0; i < this.numDirty; i++)
+            this.isDirty[this.dirtyNotes[i]] = false;
+        this.numDirty = 0;
+    }
+
+
+    /**
+     * Add the note to the changed pads. If it was not changed before in this frame the state is
+     * reset.
+     *
+     * @param note The note of the pad
+     */
+    private void markDirty (final int note)
+    {
+        if (this.isDirty[note])
+            return;
+        this.isDirty[note] = true;
+        this.dirtyNotes[this.numDirty++] = note;
+
+        this.colors[note] = 0;
+        this.blinkColors[note] = 0;
+        this.fast[note] = false;
+        this.isRGB[note] = false;
+    }
+}
@@ -5,14 +5,12 @@
 package de.mossgrabers.controller.launchpad.controller;
 
 import de.mossgrabers.controller.launchpad.definition.ILaunchpadControllerDefinition;
+import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.color.ColorManager;
-import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.Arrays;
 
 
 /**
@@ -36,15 +34,26 @@ public class LaunchpadPadGrid extends PadGridImpl
     };
     // @formatter:on
 
-    private static final Map<Integer, Integer> INVERSE_TRANSLATE_MATRIX = new HashMap<> (64);
+    private static final int []                  INVERSE_TRANSLATE_MATRIX = new int [128];
+    private static final int [] []               CONTROLLER_NOTES         = new int [TRANSLATE_MATRIX.length] [];
     static
     {
+        Arrays.fill (INVERSE_TRANSLATE_MATRIX, -1);
         for (int i = 0; i < TRANSLATE_MATRIX.length; i++)
-            INVERSE_TRANSLATE_MATRIX.put (Integer.valueOf (TRANSLATE_MATRIX[i]), Integer.valueOf (36 + i));
+        {
+            INVERSE_TRANSLATE_MATRIX[TRANSLATE_MATRIX[i]] = 36 + i;
+            CONTROLLER_NOTES[i] = new int []
+            {
+                0,
+                TRANSLATE_MATRIX[i]
+            };
+        }
     }
 
     private final ILaunchpadControllerDefinition definition;
-    private final Map<Integer, LightInfo>        padInfos = new TreeMap<> ();
+    private final LaunchpadLightBuffer           lights                   = new LaunchpadLightBuffer ();
+    private final int []                         rgbColors                = new int [NUM_NOTES];
+    private final int []                         sentRGBColors            = new int [NUM_NOTES];
 
 
     /**
@@ -59,6 +68,9 @@ public class LaunchpadPadGrid extends PadGridImpl
         super (colorManager, output);
 
         this.definition = definition;
+
+        Arrays.fill (this.rgbColors, -1);
+        Arrays.fill (this.sentRGBColors, -1);
     }
 
 
@@ -66,8 +78,7 @@ public class LaunchpadPadGrid extends PadGridImpl
     @Override
     public int translateToGrid (final int note)
     {
-        final Integer value = INVERSE_TRANSLATE_MATRIX.get (Integer.valueOf (note));
-        return value == null ? -1 : value.intValue ();
+        return note < 0 || note >= INVERSE_TRANSLATE_MATRIX.length ? -1 : INVERSE_TRANSLATE_MATRIX[note];
     }
 
 
@@ -76,11 +87,55 @@ public class LaunchpadPadGrid extends PadGridImpl
     public int [] translateToController (final int note)
     {
         // Translates note range 36-100 to launchpad grid (11-18, 21-28, ...)
-        return new int []
+        return CONTROLLER_NOTES[note - 36];
+    }
+
+
+    /**
+     * Light a pad with an arbitrary color, if supported by the device. Must be called after the
+     * palette color of the pad was set, which is used on devices without RGB colors. Setting the
+     * palette color again removes the RGB color.
+     *
+     * @param note The note of the pad (36-99)
+     * @param color The color
+     */
+    public void lightRGB (final int note, final ColorEx color)
+    {
+        if (!this.definition.hasRGBColors ())
+            return;
+
+        final int [] rgb = color.toIntRGB127 ();
+        synchronized (this.lights)
         {
-            0,
-            TRANSLATE_MATRIX[note - 36]
-        };
+            this.rgbColors[note] = rgb[0] << 16 | rgb[1] << 8 | rgb[2];
+        }
+    }
+
+
+    /**
+     * Light a pad with an arbitrary color, if supported by the device. See
+     * {@link #lightRGB(int, ColorEx)}.
+     *
+     * @param x The x position of the pad
+     * @param y The y position of the pad
+     * @param color The color
+     */
+    public void lightRGBEx (final int x, final int y, final ColorEx color)
+    {
+        this.lightRGB ((this.rows - 1) * this.cols + this.startNote + x - this.cols * y, color);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void setLight (final int note, final int color, final int blinkColor, final boolean fast)
+    {
+        super.setLight (note, color, blinkColor, fast);
+
+        synchronized (this.lights)
+        {
+            this.rgbColors[note] = -1;
+        }
     }
 
 
@@ -89,13 +144,38 @@ public class LaunchpadPadGrid extends PadGridImpl
      */
     public void flush ()
     {
-        synchronized (this.padInfos)
+        synchronized (this.lights)
         {
-            if (this.padInfos.isEmpty ())
+            this.updateRGBColors ();
+
+            if (this.lights.getNumChanges () == 0)
                 return;
-            for (final String update: this.definition.buildLEDUpdate (this.padInfos))
-                this.output.sendSysex (update);
-            this.padInfos.clear ();
+            this.definition.sendLEDUpdate (this.output, this.lights);
+            this.lights.clear ();
+        }
+    }
+
+
+    /**
+     * Add the changed RGB colors to the light buffer after the palette colors, which are sent with
+     * the light states. If an RGB color was removed the palette color is sent again.
+     */
+    private void updateRGBColors ()
+    {
+        for (int note = this.startNote; note <= this.endNote; note++)
+        {
+            final int controllerNote = TRANSLATE_MATRIX[note - 36];
+            final int rgb = this.rgbColors[note];
+            if (rgb == this.sentRGBColors[controllerNote])
+                continue;
+
+            if (rgb < 0)
+                this.sendState (note);
+            else
+            {
+                this.lights.setRGBColor (controllerNote, rgb >> 16, rgb >> 8 & 0x7F, rgb & 0x7F);
+                this.sentRGBColors[controllerNote] = rgb;
+            }
         }
     }
 
@@ -104,9 +184,10 @@ public class LaunchpadPadGrid extends PadGridImpl
     @Override
     protected void sendNoteState (final int channel, final int note, final int color)
     {
-        synchronized (this.padInfos)
+        synchronized (this.lights)
         {
-            this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ()).setColor (color);
+            this.sentRGBColors[note] = -1;
+            this.lights.setColor (note, color);
         }
     }
 
@@ -115,11 +196,10 @@ public class LaunchpadPadGrid extends PadGridImpl
     @Override
     protected void sendBlinkState (final int channel, final int note, final int blinkColor, final boolean fast)
     {
-        synchronized (this.padInfos)
+        synchronized (this.lights)
         {
-            final LightInfo info = this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ());
-            info.setBlinkColor (blinkColor);
-            info.setFast (fast);
+            this.sentRGBColors[note] = -1;
+            this.lights.setBlinkColor (note, blinkColor, fast);
         }
     }
-}
\ No newline at end of file
+}
@@ -5,16 +5,13 @@
 package de.mossgrabers.controller.launchpad.definition;
 
 import de.mossgrabers.controller.launchpad.controller.LaunchpadControlSurface;
+import de.mossgrabers.controller.launchpad.controller.LaunchpadLightBuffer;
 import de.mossgrabers.controller.launchpad.definition.button.ButtonSetup;
 import de.mossgrabers.controller.launchpad.definition.button.LaunchpadButton;
 import de.mossgrabers.framework.controller.DefaultControllerDefinition;
-import de.mossgrabers.framework.controller.grid.LightInfo;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.UUID;
 
 
@@ -27,6 +24,8 @@ public abstract class AbstractLaunchpadDefinition extends DefaultControllerDefin
 {
     protected final ButtonSetup buttonSetup = new ButtonSetup ();
 
+    private SysExBuilder        ledBuilder;
+
 
     /**
      * Constructor.
@@ -110,35 +109,51 @@ public abstract class AbstractLaunchpadDefinition extends DefaultControllerDefin
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public boolean hasRGBColors ()
     {
-        final StringBuilder sb = new StringBuilder (this.getSysExHeader ()).append ("03 ");
-        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendLEDUpdate (final IMidiOutput output, final LaunchpadLightBuffer lights)
+    {
+        if (this.ledBuilder == null)
+            this.ledBuilder = new SysExBuilder (this.getSysExHeader () + "03");
+
+        this.ledBuilder.reset ();
+        for (int i = 0; i < lights.getNumChanges (); i++)
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
+            final int note = lights.getNote (i);
 
-            if (info.getBlinkColor () <= 0)
+            if (lights.isRGB (note))
+            {
+                // 03h: RGB color, Lighting data is 3 bytes specifying Red, Green and Blue.
+                final int rgb = lights.getRGBColor (note);
+                this.ledBuilder.add (0x03, note).add (rgb >> 16, rgb >> 8, rgb);
+            }
+            else if (lights.getBlinkColor (note) <= 0)
             {
                 // 00h: Static color from palette, Lighting data is 1 byte specifying palette
                 // entry.
-                sb.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                this.ledBuilder.add (0x00, note, lights.getColor (note));
             }
             else
             {
-                if (info.isFast ())
+                if (lights.isFast (note))
                 {
                     // 01h: Flashing color, Lighting data is 2 bytes specifying Color B and
                     // Color A.
-                    sb.append ("01 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                    this.ledBuilder.add (0x01, note, lights.getBlinkColor (note), lights.getColor (note));
                 }
                 else
                 {
                     // 02h: Pulsing color, Lighting data is 1 byte specifying palette entry.
-                    sb.append ("02 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                    this.ledBuilder.add (0x02, note, lights.getColor (note));
                 }
             }
         }
-        return Collections.singletonList (sb.append ("F7").toString ());
+        output.sendSysex (this.ledBuilder);
     }
 }
@@ -5,11 +5,9 @@
 package de.mossgrabers.controller.launchpad.definition;
 
 import de.mossgrabers.controller.launchpad.controller.LaunchpadControlSurface;
+import de.mossgrabers.controller.launchpad.controller.LaunchpadLightBuffer;
 import de.mossgrabers.controller.launchpad.definition.button.ButtonSetup;
-import de.mossgrabers.framework.controller.grid.LightInfo;
-
-import java.util.List;
-import java.util.Map;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
 
 /**
@@ -93,10 +91,18 @@ public interface ILaunchpadControllerDefinition
 
 
     /**
-     * Create an update system exclusive string for all given pads.
+     * Can the pads display arbitrary (RGB) colors?
+     *
+     * @return True if supported
+     */
+    boolean hasRGBColors ();
+
+
+    /**
+     * Send the update system exclusive messages for all changed pads.
      *
-     * @param padInfos The info how to update the pads
-     * @return The system exclusive string
+     * @param output The MIDI output to send the messages to
+     * @param lights The changed pads
      */
-    List<String> buildLEDUpdate (Map<Integer, LightInfo> padInfos);
+    void sendLEDUpdate (IMidiOutput output, LaunchpadLightBuffer lights);
 }
@@ -5,16 +5,15 @@
 package de.mossgrabers.controller.launchpad.definition;
 
 import de.mossgrabers.controller.launchpad.controller.LaunchpadControlSurface;
+import de.mossgrabers.controller.launchpad.controller.LaunchpadLightBuffer;
 import de.mossgrabers.controller.launchpad.definition.button.LaunchpadButton;
-import de.mossgrabers.framework.controller.grid.LightInfo;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 import de.mossgrabers.framework.utils.OperatingSystem;
 import de.mossgrabers.framework.utils.Pair;
 import de.mossgrabers.framework.utils.StringUtils;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.UUID;
 
 
@@ -28,6 +27,10 @@ public class LaunchpadProControllerDefinition extends AbstractLaunchpadDefinitio
     private static final UUID   EXTENSION_ID = UUID.fromString ("80B63970-64F1-11E5-A837-0800200C9A66");
     private static final String SYSEX_HEADER = "F0 00 20 29 02 10 ";
 
+    private SysExBuilder        normalBuilder;
+    private SysExBuilder        flashBuilder;
+    private SysExBuilder        pulseBuilder;
+
 
     /**
      * Constructor.
@@ -144,36 +147,47 @@ public class LaunchpadProControllerDefinition extends AbstractLaunchpadDefinitio
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public boolean hasRGBColors ()
+    {
+        // Not supported by the batched LED update messages
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendLEDUpdate (final IMidiOutput output, final LaunchpadLightBuffer lights)
     {
-        final StringBuilder sbNormal = new StringBuilder ();
-        final StringBuilder sbFlash = new StringBuilder ();
-        final StringBuilder sbPulse = new StringBuilder ();
+        if (this.normalBuilder == null)
+        {
+            final String sysExHeader = this.getSysExHeader ();
+            this.normalBuilder = new SysExBuilder (sysExHeader + "0A");
+            this.flashBuilder = new SysExBuilder (sysExHeader + "23");
+            this.pulseBuilder = new SysExBuilder (sysExHeader + "28");
+        }
+
+        this.normalBuilder.reset ();
+        this.flashBuilder.reset ();
+        this.pulseBuilder.reset ();
 
-        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
+        for (int i = 0; i < lights.getNumChanges (); i++)
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
+            final int note = lights.getNote (i);
 
-            sbNormal.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+            this.normalBuilder.add (note, lights.getColor (note));
 
-            if (info.getBlinkColor () > 0)
+            if (lights.getBlinkColor (note) > 0)
             {
-                if (info.isFast ())
-                    sbFlash.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
-                else
-                    sbPulse.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
+                final SysExBuilder builder = lights.isFast (note) ? this.flashBuilder : this.pulseBuilder;
+                builder.add (note, lights.getBlinkColor (note));
             }
         }
 
-        final List<String> result = new ArrayList<> (3);
-        final String sysExHeader = this.getSysExHeader ();
-        if (sbNormal.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("0A ").append (sbNormal).append ("F7").toString ());
-        if (sbFlash.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("23 ").append (sbFlash).append ("F7").toString ());
-        if (sbPulse.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("28 ").append (sbPulse).append ("F7").toString ());
-        return result;
+        if (this.normalBuilder.getDataSize () > 0)
+            output.sendSysex (this.normalBuilder);
+        if (this.flashBuilder.getDataSize () > 0)
+            output.sendSysex (this.flashBuilder);
+        if (this.pulseBuilder.getDataSize () > 0)
+            output.sendSysex (this.pulseBuilder);
     }
 }
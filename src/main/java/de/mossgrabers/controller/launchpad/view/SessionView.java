@@ -8,8 +8,10 @@ import de.mossgrabers.controller.launchpad.LaunchpadConfiguration;
 import de.mossgrabers.controller.launchpad.command.trigger.SelectSessionViewCommand;
 import de.mossgrabers.controller.launchpad.controller.LaunchpadColorManager;
 import de.mossgrabers.controller.launchpad.controller.LaunchpadControlSurface;
+import de.mossgrabers.controller.launchpad.controller.LaunchpadPadGrid;
 import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.controller.ButtonID;
+import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
@@ -156,6 +158,21 @@ public class SessionView extends AbstractSessionView<LaunchpadControlSurface, La
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void drawPad (final ISlot slot, final int x, final int y, final boolean isArmed)
+    {
+        super.drawPad (slot, x, y, isArmed);
+
+        // Show the exact clip color on devices with RGB colors, if the pad does not blink
+        if (!slot.hasContent () || slot.isSelected () || slot.isPlaying () || slot.isPlayingQueued () || slot.isRecording () || slot.isRecordingQueued ())
+            return;
+        final ColorEx color = slot.getColor ();
+        if (color != null)
+            ((LaunchpadPadGrid) this.surface.getPadGrid ()).lightRGBEx (x, y, color);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setBirdsEyeActive (final boolean isBirdsEyeActive)
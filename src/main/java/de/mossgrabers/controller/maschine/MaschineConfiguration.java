@@ -113,6 +113,7 @@ public class MaschineConfiguration extends AbstractConfiguration
         this.activateExcludeDeactivatedItemsSetting (globalSettings);
         this.activateNewClipLengthSetting (globalSettings);
         this.activateKnobSpeedSetting (globalSettings);
+        this.activateFrameRateSetting (globalSettings);
     }
 
 
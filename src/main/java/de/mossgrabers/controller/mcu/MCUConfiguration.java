@@ -8,6 +8,7 @@ import de.mossgrabers.controller.mcu.controller.MCUDeviceType;
 import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.configuration.IActionSetting;
 import de.mossgrabers.framework.configuration.IEnumSetting;
+import de.mossgrabers.framework.configuration.IIntegerSetting;
 import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
@@ -57,6 +58,8 @@ public class MCUConfiguration extends AbstractConfiguration
     public static final Integer       MASTER_VU_METER                         = Integer.valueOf (63);
     /** Pin FX tracks to last controller. */
     public static final Integer       PIN_FXTRACKS_TO_LAST_CONTROLLER         = Integer.valueOf (64);
+    /** The refresh interval of the VU meters. */
+    public static final Integer       VU_REFRESH_INTERVAL                     = Integer.valueOf (65);
 
     /** Use a Function button to switch to previous mode. */
     public static final int           FOOTSWITCH_2_PREV_MODE                  = 15;
@@ -194,6 +197,7 @@ public class MCUConfiguration extends AbstractConfiguration
     private boolean                   useVertZoomForModes;
     private boolean                   useFadersAsKnobs;
     private boolean                   masterVuMeter;
+    private int                       vuRefreshInterval                       = 40;
     private boolean                   touchChannel;
     private int []                    assignableFunctions                     = new int [7];
     private String []                 assignableFunctionActions               = new String [7];
@@ -265,6 +269,7 @@ public class MCUConfiguration extends AbstractConfiguration
         this.activateZoomStateSetting (globalSettings);
         this.activateChannelTouchSetting (globalSettings);
         this.activateKnobSpeedSetting (globalSettings);
+        this.activateFrameRateSetting (globalSettings);
 
         ///////////////////////////
         // Browser
@@ -427,6 +432,13 @@ public class MCUConfiguration extends AbstractConfiguration
             this.notifyObservers (MASTER_VU_METER);
         });
         this.isSettingActive.add (MASTER_VU_METER);
+
+        final IIntegerSetting vuRefreshIntervalSetting = settingsUI.getRangeSetting ("VU meter refresh interval", CATEGORY_HARDWARE_SETUP, 10, 1000, 10, "ms", 40);
+        vuRefreshIntervalSetting.addValueObserver (value -> {
+            this.vuRefreshInterval = value.intValue ();
+            this.notifyObservers (VU_REFRESH_INTERVAL);
+        });
+        this.isSettingActive.add (VU_REFRESH_INTERVAL);
     }
 
 
@@ -698,6 +710,17 @@ public class MCUConfiguration extends AbstractConfiguration
     }
 
 
+    /**
+     * Get the minimum time between two updates of the VU meters.
+     *
+     * @return The interval in milliseconds
+     */
+    public int getVuRefreshInterval ()
+    {
+        return this.vuRefreshInterval;
+    }
+
+
     /**
      * Returns true if faders should be used like the editing knobs.
      *
@@ -86,7 +86,6 @@ import de.mossgrabers.framework.daw.constants.AutomationMode;
 import de.mossgrabers.framework.daw.data.ICursorDevice;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.data.IParameter;
-import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
@@ -141,13 +140,15 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
         MODE_ACRONYMS.put (Modes.MARKERS, "MK");
     }
 
-    private static final Set<Modes> VALUE_MODES      = EnumSet.of (Modes.VOLUME, Modes.PAN, Modes.TRACK, Modes.SEND1, Modes.SEND2, Modes.SEND3, Modes.SEND4, Modes.SEND5, Modes.SEND6, Modes.SEND7, Modes.SEND8, Modes.DEVICE_PARAMS);
+    private static final Set<Modes> VALUE_MODES        = EnumSet.of (Modes.VOLUME, Modes.PAN, Modes.TRACK, Modes.SEND1, Modes.SEND2, Modes.SEND3, Modes.SEND4, Modes.SEND5, Modes.SEND6, Modes.SEND7, Modes.SEND8, Modes.DEVICE_PARAMS);
 
-    private final int []            masterVuValues   = new int [2];
-    private int                     masterFaderValue = -1;
-    private final int []            vuValues         = new int [36];
-    private final int []            faderValues      = new int [36];
+    private final int []            masterVuValues     = new int [2];
+    private int                     masterFaderValue   = -1;
+    private final int []            vuValues;
+    private final int []            faderValues;
     private final int               numMCUDevices;
+    private long                    lastVuUpdate       = 0;
+    private boolean                 isVuRefreshPending = false;
 
 
     /**
@@ -164,6 +165,8 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
         super (factory, host, globalSettings, documentSettings);
 
         this.numMCUDevices = numMCUDevices;
+        this.vuValues = new int [numMCUDevices * 8];
+        this.faderValues = new int [numMCUDevices * 8];
 
         Arrays.fill (this.vuValues, -1);
         Arrays.fill (this.faderValues, -1);
@@ -181,22 +184,52 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     {
         super.flush ();
 
-        this.surfaces.forEach (surface -> {
+        final Modes mainMode = this.getSurface ().getModeManager ().getActiveID ();
+        this.updateMode (mainMode);
+        if (mainMode != null)
+            this.updateSegmentDisplay ();
+
+        // VU meters are updated with their own (usually lower) rate, if an update is skipped a
+        // refresh is scheduled at the end of the interval to not lose the latest values
+        boolean updateVUMeters = false;
+        if (this.configuration.isEnableVUMeters ())
+        {
+            final long now = System.currentTimeMillis ();
+            final long remaining = this.lastVuUpdate + this.configuration.getVuRefreshInterval () - now;
+            if (remaining <= 0)
+            {
+                this.lastVuUpdate = now;
+                updateVUMeters = true;
+            }
+            else if (!this.isVuRefreshPending)
+            {
+                this.isVuRefreshPending = true;
+                this.host.scheduleTask (this::refreshVUMeters, remaining);
+            }
+        }
+
+        final Modes faderModeId = this.configuration.useFadersAsKnobs () && VALUE_MODES.contains (mainMode) ? mainMode : Modes.VOLUME;
+        final ITrackBank tb = this.model.getCurrentTrackBank ();
+        final ITrackBank effectTrackBank = this.model.getEffectTrackBank ();
+        final boolean shouldPinFXTracksToLastController = this.configuration.shouldPinFXTracksToLastController ();
+
+        // Update all devices in a single pass
+        for (int index = 0; index < this.numMCUDevices; index++)
+        {
+            final MCUControlSurface surface = this.getSurface (index);
             final ModeManager modeManager = surface.getModeManager ();
-            final Modes mode = modeManager.getActiveID ();
-            this.updateMode (mode);
+            if (modeManager.getActiveID () == null)
+                continue;
 
-            if (mode == null)
-                return;
+            if (updateVUMeters)
+                this.updateVUMeters (index, surface, tb, effectTrackBank, shouldPinFXTracksToLastController);
 
-            this.updateVUMeters ();
-            this.updateFaders (surface.isShiftPressed ());
-            this.updateSegmentDisplay ();
+            this.updateFaders (index, surface, faderModeId);
 
             final IMode activeOrTempMode = modeManager.getActive ();
             if (activeOrTempMode instanceof BaseMode)
                 ((BaseMode<?>) activeOrTempMode).updateKnobLEDs ();
-        });
+        }
     }
 
 
@@ -723,102 +756,140 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     }
 
 
-    private void updateVUMeters ()
+    /**
+     * Trailing update of the VU meters of all devices after updates were skipped in the refresh
+     * interval.
+     */
+    private void refreshVUMeters ()
     {
+        this.isVuRefreshPending = false;
         if (!this.configuration.isEnableVUMeters ())
             return;
+        this.lastVuUpdate = System.currentTimeMillis ();
 
         final ITrackBank tb = this.model.getCurrentTrackBank ();
+        final ITrackBank effectTrackBank = this.model.getEffectTrackBank ();
         final boolean shouldPinFXTracksToLastController = this.configuration.shouldPinFXTracksToLastController ();
-
         for (int index = 0; index < this.numMCUDevices; index++)
         {
             final MCUControlSurface surface = this.getSurface (index);
-            final IMidiOutput output = surface.getMidiOutput ();
-            final boolean pinLastDevice = shouldPinFXTracksToLastController && index == this.numMCUDevices - 1;
-            final ITrackBank effectTrackBank = this.model.getEffectTrackBank ();
-            final ITrackBank trackBank = pinLastDevice && effectTrackBank != null ? effectTrackBank : tb;
-            final int extenderOffset = pinLastDevice ? 0 : surface.getExtenderOffset ();
-            for (int i = 0; i < 8; i++)
-            {
-                final int channel = extenderOffset + i;
-                final ITrack track = trackBank.getItem (channel);
+            if (surface.getModeManager ().getActiveID () != null)
+                this.updateVUMeters (index, surface, tb, effectTrackBank, shouldPinFXTracksToLastController);
+        }
+    }
 
-                final int vu = track.getVu ();
-                if (vu != this.vuValues[channel])
-                {
-                    this.vuValues[channel] = vu;
-                    this.sendVUValue (output, i, vu, false);
-                }
-            }
 
-            // Stereo VU of master channel
-            if (this.configuration.getDeviceType (index) == MCUDeviceType.MAIN && this.configuration.hasMasterVU ())
-            {
-                final IMasterTrack masterTrack = this.model.getMasterTrack ();
+    /**
+     * Update the VU meters of one device.
+     *
+     * @param index The index of the device
+     * @param surface The surface of the device
+     * @param tb The current track bank
+     * @param effectTrackBank The effect track bank, might be null
+     * @param shouldPinFXTracksToLastController True if the FX tracks are displayed on the last
+     *            device
+     */
+    private void updateVUMeters (final int index, final MCUControlSurface surface, final ITrackBank tb, final ITrackBank effectTrackBank, final boolean shouldPinFXTracksToLastController)
+    {
+        final boolean pinLastDevice = shouldPinFXTracksToLastController && index == this.numMCUDevices - 1;
+        final ITrackBank trackBank = pinLastDevice && effectTrackBank != null ? effectTrackBank : tb;
+        this.updateVUMeters (index, surface, trackBank, pinLastDevice ? 0 : surface.getExtenderOffset ());
+    }
 
-                int vu = masterTrack.getVuLeft ();
-                if (vu != this.masterVuValues[0])
-                {
-                    this.masterVuValues[0] = vu;
-                    this.sendVUValue (output, 0, vu, true);
-                }
 
-                vu = masterTrack.getVuRight ();
-                if (vu != this.masterVuValues[1])
-                {
-                    this.masterVuValues[1] = vu;
-                    this.sendVUValue (output, 1, vu, true);
-                }
+    /**
+     * Update the VU meters of one device. Only values which changed at the resolution of the meters
+     * are sent.
+     *
+     * @param index The index of the device
+     * @param surface The surface of the device
+     * @param trackBank The track bank which is displayed on the device
+     * @param trackOffset The offset of the first track of the device in the track bank
+     */
+    private void updateVUMeters (final int index, final MCUControlSurface surface, final ITrackBank trackBank, final int trackOffset)
+    {
+        final IMidiOutput output = surface.getMidiOutput ();
+        for (int i = 0; i < 8; i++)
+        {
+            final int vu = this.scaleVU (trackBank.getItem (trackOffset + i).getVu ());
+            final int position = index * 8 + i;
+            if (vu != this.vuValues[position])
+            {
+                this.vuValues[position] = vu;
+                sendVUValue (output, i, vu, false);
             }
         }
+
+        // Stereo VU of master channel
+        if (this.configuration.getDeviceType (index) != MCUDeviceType.MAIN || !this.configuration.hasMasterVU ())
+            return;
+
+        final IMasterTrack masterTrack = this.model.getMasterTrack ();
+
+        int vu = this.scaleVU (masterTrack.getVuLeft ());
+        if (vu != this.masterVuValues[0])
+        {
+            this.masterVuValues[0] = vu;
+            sendVUValue (output, 0, vu, true);
+        }
+
+        vu = this.scaleVU (masterTrack.getVuRight ());
+        if (vu != this.masterVuValues[1])
+        {
+            this.masterVuValues[1] = vu;
+            sendVUValue (output, 1, vu, true);
+        }
+    }
+
+
+    /**
+     * Scale a VU value to the 13 segments of the meter.
+     *
+     * @param vu The VU value
+     * @return The scaled value in the range of 0..13
+     */
+    private int scaleVU (final int vu)
+    {
+        return (int) Math.round (this.valueChanger.toNormalizedValue (vu) * 13);
     }
 
 
-    private void sendVUValue (final IMidiOutput output, final int track, final int vu, final boolean isMaster)
+    private static void sendVUValue (final IMidiOutput output, final int track, final int scaledValue, final boolean isMaster)
     {
-        final int scaledValue = (int) Math.round (this.valueChanger.toNormalizedValue (vu) * 13);
         output.sendChannelAftertouch (isMaster ? 1 : 0, 0x10 * track + scaledValue, 0);
     }
 
 
-    private void updateFaders (final boolean isShiftPressed)
+    private void updateFaders (final int index, final MCUControlSurface surface, final Modes modeId)
     {
         if (!this.configuration.hasMotorFaders ())
             return;
 
-        final Modes activeMode = this.getSurface ().getModeManager ().getActiveID ();
-        final Modes modeId = this.configuration.useFadersAsKnobs () && VALUE_MODES.contains (activeMode) ? activeMode : Modes.VOLUME;
-
-        for (int index = 0; index < this.numMCUDevices; index++)
+        final IMode mode = surface.getModeManager ().get (modeId);
+        final IMidiOutput output = surface.getMidiOutput ();
+        for (int channel = 0; channel < 8; channel++)
         {
-            final MCUControlSurface surface = this.getSurface (index);
-            final IMode mode = surface.getModeManager ().get (modeId);
-            final IMidiOutput output = surface.getMidiOutput ();
-            for (int channel = 0; channel < 8; channel++)
-            {
-                // Dont't update fader if the user touches and therefore 'stops' it
-                if (mode.isKnobTouched (channel))
-                    continue;
+            // Dont't update fader if the user touches and therefore 'stops' it
+            if (mode.isKnobTouched (channel))
+                continue;
 
-                final int value = Math.max (0, mode.getKnobValue (channel));
-                final int position = surface.getExtenderOffset () + channel;
-                if (value != this.faderValues[position])
-                {
-                    this.faderValues[position] = value;
-                    output.sendPitchbend (channel, value % 127, value / 127);
-                }
+            final int value = Math.max (0, mode.getKnobValue (channel));
+            final int position = index * 8 + channel;
+            if (value != this.faderValues[position])
+            {
+                this.faderValues[position] = value;
+                output.sendPitchbend (channel, value % 127, value / 127);
             }
+        }
 
-            // Update motor fader of master channel
-            if (this.configuration.getDeviceType (index) == MCUDeviceType.MAIN)
+        // Update motor fader of master channel
+        if (this.configuration.getDeviceType (index) == MCUDeviceType.MAIN)
+        {
+            final int volume = surface.isShiftPressed () ? this.model.getTransport ().getMetronomeVolume () : this.model.getMasterTrack ().getVolume ();
+            if (volume != this.masterFaderValue)
             {
-                final int volume = isShiftPressed ? this.model.getTransport ().getMetronomeVolume () : this.model.getMasterTrack ().getVolume ();
-                if (volume != this.masterFaderValue)
-                {
-                    this.masterFaderValue = volume;
-                    output.sendPitchbend (8, volume % 127, volume / 127);
-                }
+                this.masterFaderValue = volume;
+                output.sendPitchbend (8, volume % 127, volume / 127);
             }
         }
     }
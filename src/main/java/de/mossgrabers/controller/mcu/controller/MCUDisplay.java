@@ -8,9 +8,11 @@ import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 import de.mossgrabers.framework.utils.LatestTaskExecutor;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 
 
@@ -30,6 +32,12 @@ public class MCUDisplay extends AbstractTextDisplay
     private final boolean               hasMaster;
 
     private final LatestTaskExecutor [] executors                      = new LatestTaskExecutor [4];
+    private final SysExBuilder []       builders                       = new SysExBuilder [2];
+
+    private final Object                pendingLock                    = new Object ();
+    private final String []             pendingLines                   = new String [2];
+    private final int []                pendingStart                   = new int [2];
+    private final int []                pendingEnd                     = new int [2];
 
 
     /**
@@ -52,6 +60,12 @@ public class MCUDisplay extends AbstractTextDisplay
 
         for (int i = 0; i < 4; i++)
             this.executors[i] = new LatestTaskExecutor ();
+
+        // One builder for each row since the rows are sent from different executors
+        for (int i = 0; i < 2; i++)
+            this.builders[i] = new SysExBuilder (this.getHeader ());
+
+        Arrays.fill (this.pendingStart, Integer.MAX_VALUE);
     }
 
 
@@ -75,34 +89,70 @@ public class MCUDisplay extends AbstractTextDisplay
     @Override
     protected void updateLine (final int row, final String text)
     {
-        String t = text;
-        if (!this.isFirstDisplay && this.hasMaster)
-        {
-            if (row == 0)
-                t = t.substring (0, t.length () - 1) + 'r';
-            t = "  " + t;
-        }
+        super.updateLine (row, this.adaptLine (row, text));
+    }
+
 
-        super.updateLine (row, t);
+    /** {@inheritDoc} */
+    @Override
+    protected void updateRange (final int row, final String text, final int offset, final int length)
+    {
+        final String t = this.adaptLine (row, text);
+        this.hwDisplay.setLine (row, this.convertCharacterset (t));
+        this.writeRange (row, t, offset + t.length () - text.length (), length);
+    }
+
+
+    /**
+     * Adds the master cell to the line of the 2nd display, if enabled.
+     *
+     * @param row The text row
+     * @param text The text of the line
+     * @return The adapted text
+     */
+    private String adaptLine (final int row, final String text)
+    {
+        if (this.isFirstDisplay || !this.hasMaster)
+            return text;
+        return "  " + (row == 0 ? text.substring (0, text.length () - 1) + 'r' : text);
     }
 
 
     /** {@inheritDoc} */
     @Override
     public void writeLine (final int row, final String text)
+    {
+        this.writeRange (row, text, 0, text.length ());
+    }
+
+
+    /**
+     * Send some characters of a line to the display. The MCU display can be addressed by character
+     * offsets. Ranges which are not yet sent are merged, since the executor only runs the latest
+     * task.
+     *
+     * @param row The text row
+     * @param text The text of the whole line
+     * @param offset The index of the first character to send
+     * @param length The number of characters to send
+     */
+    private void writeRange (final int row, final String text, final int offset, final int length)
     {
         final LatestTaskExecutor executor = this.executors[row + (this.isFirstDisplay ? 0 : 2)];
         if (executor.isShutdown ())
             return;
 
+        synchronized (this.pendingLock)
+        {
+            this.pendingLines[row] = text;
+            this.pendingStart[row] = Math.min (this.pendingStart[row], offset);
+            this.pendingEnd[row] = Math.max (this.pendingEnd[row], offset + length);
+        }
+
         executor.execute ( () -> {
             try
             {
-                final int length = text.length ();
-                final int [] array = new int [length];
-                for (int i = 0; i < length; i++)
-                    array[i] = text.charAt (i);
-                this.output.sendSysex (new StringBuilder (this.getHeader ()).append (row == 0 ? "00 " : "38 ").append (StringUtils.toHexStr (array)).append ("F7").toString ());
+                this.sendPendingRange (row);
             }
             catch (final RuntimeException ex)
             {
@@ -112,6 +162,33 @@ public class MCUDisplay extends AbstractTextDisplay
     }
 
 
+    /**
+     * Send the characters of a row which have changed since the last send.
+     *
+     * @param row The text row
+     */
+    private void sendPendingRange (final int row)
+    {
+        final String text;
+        final int start;
+        final int end;
+        synchronized (this.pendingLock)
+        {
+            text = this.pendingLines[row];
+            start = this.pendingStart[row];
+            end = Math.min (this.pendingEnd[row], text == null ? 0 : text.length ());
+            this.pendingStart[row] = Integer.MAX_VALUE;
+            this.pendingEnd[row] = 0;
+        }
+        if (start >= end)
+            return;
+
+        final SysExBuilder builder = this.builders[row];
+        builder.reset ().add ((row == 0 ? 0x00 : 0x38) + start).addText (text, start, end);
+        this.output.sendSysex (builder);
+    }
+
+
     private String getHeader ()
     {
         if (this.isFirstDisplay)
@@ -12,6 +12,7 @@ import de.mossgrabers.framework.configuration.IStringSetting;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.ArpeggiatorMode;
+import de.mossgrabers.framework.osc.AbstractOpenSoundControlClient;
 import de.mossgrabers.framework.osc.AbstractOpenSoundControlConfiguration;
 
 import java.util.Arrays;
@@ -57,6 +58,8 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     private int                    receivePort               = 8000;
     private String                 sendHost                  = DEFAULT_SERVER;
     private int                    sendPort                  = 9000;
+    private int                    maxBundleSize             = AbstractOpenSoundControlClient.DEFAULT_MAX_BUNDLE_SIZE;
+    private int                    bundlesPerPass            = AbstractOpenSoundControlClient.DEFAULT_BUNDLES_PER_PASS;
     private ValueResolution        valueResolution           = ValueResolution.LOW;
     private int                    bankPageSize              = 8;
     private String []              assignableFunctionActions = new String [8];
@@ -97,6 +100,12 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         final IIntegerSetting sendPortSetting = globalSettings.getRangeSetting ("Port to send to (requires restart)", CATEGORY_SETUP, 1024, 65535, 1, "", 9000);
         this.sendPort = sendPortSetting.get ().intValue ();
 
+        final IIntegerSetting maxBundleSizeSetting = globalSettings.getRangeSetting ("Max. bundle size in bytes (requires restart)", CATEGORY_SETUP, 512, 65507, 1, "", AbstractOpenSoundControlClient.DEFAULT_MAX_BUNDLE_SIZE);
+        this.maxBundleSize = maxBundleSizeSetting.get ().intValue ();
+
+        final IIntegerSetting bundlesPerPassSetting = globalSettings.getRangeSetting ("Bundles to send every 10ms (requires restart)", CATEGORY_SETUP, 1, 100, 1, "", AbstractOpenSoundControlClient.DEFAULT_BUNDLES_PER_PASS);
+        this.bundlesPerPass = bundlesPerPassSetting.get ().intValue ();
+
         ///////////////////////////
         // Protocol
 
@@ -186,6 +195,28 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     }
 
 
+    /**
+     * Get the maximum size of an OSC bundle to send.
+     *
+     * @return The size in bytes
+     */
+    public int getMaxBundleSize ()
+    {
+        return this.maxBundleSize;
+    }
+
+
+    /**
+     * Get the maximum number of OSC bundles to send every 10ms.
+     *
+     * @return The number of bundles
+     */
+    public int getBundlesPerPass ()
+    {
+        return this.bundlesPerPass;
+    }
+
+
     /**
      * Get the selected value resolution.
      *
@@ -6,6 +6,8 @@ package de.mossgrabers.controller.osc.module;
 
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
+import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IClip;
 import de.mossgrabers.framework.daw.IHost;
@@ -13,8 +15,8 @@ import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.daw.data.ISend;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlAddress;
 
-import java.util.LinkedList;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -166,7 +168,7 @@ public abstract class AbstractModule implements IModule
      * @return The sub-command
      * @throws MissingCommandException If the path is empty
      */
-    protected static String getSubCommand (final LinkedList<String> path) throws MissingCommandException
+    protected static String getSubCommand (final OSCPath path) throws MissingCommandException
     {
         if (path.isEmpty ())
             throw new MissingCommandException ();
@@ -174,22 +176,40 @@ public abstract class AbstractModule implements IModule
     }
 
 
+    /**
+     * Get the next sub-command from the path as a number and removes it from the path.
+     *
+     * @param path The path
+     * @return The positive number of the sub-command
+     * @throws MissingCommandException If the path is empty
+     * @throws UnknownCommandException If the sub-command is not a number
+     */
+    protected static int getSubCommandNumber (final OSCPath path) throws MissingCommandException, UnknownCommandException
+    {
+        final int number = path.peekNumber ();
+        final String subCommand = getSubCommand (path);
+        if (number == OSCPath.NO_NUMBER)
+            throw new UnknownCommandException (subCommand);
+        return number;
+    }
+
+
     /**
      * Flush all data of a parameter.
      *
      * @param writer Where to send the messages to
-     * @param fxAddress The start address for the effect
+     * @param fxAddress The addresses of the effect
      * @param fxParam The parameter
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    protected void flushParameterData (final IOpenSoundControlWriter writer, final String fxAddress, final IParameter fxParam, final boolean dump)
+    protected void flushParameterData (final IOpenSoundControlWriter writer, final OpenSoundControlAddress fxAddress, final IParameter fxParam, final boolean dump)
     {
         final boolean isSend = fxParam instanceof ISend;
 
-        writer.sendOSC (fxAddress + TAG_NAME, fxParam.getName (), dump);
-        writer.sendOSC (fxAddress + (isSend ? "volumeStr" : "valueStr"), fxParam.getDisplayedValue (), dump);
-        writer.sendOSC (fxAddress + (isSend ? TAG_VOLUME : "value"), fxParam.getValue (), dump);
-        writer.sendOSC (fxAddress + "modulatedValue", fxParam.getModulatedValue (), dump);
+        writer.sendOSC (fxAddress.get (TAG_NAME), fxParam.getName (), dump);
+        writer.sendOSC (fxAddress.get (isSend ? "volumeStr" : "valueStr"), fxParam.getDisplayedValue (), dump);
+        writer.sendOSC (fxAddress.get (isSend ? TAG_VOLUME : "value"), fxParam.getValue (), dump);
+        writer.sendOSC (fxAddress.get ("modulatedValue"), fxParam.getModulatedValue (), dump);
     }
 
 
@@ -8,12 +8,11 @@ import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 
-import java.util.LinkedList;
-
 
 /**
  * All action related commands.
@@ -54,22 +53,14 @@ public class ActionModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if (!"action".equals (command))
             throw new UnknownCommandException (command);
 
-        final String subCommand = getSubCommand (path);
-        try
-        {
-            final int actionNo = Math.min (7, Math.max (0, Integer.parseInt (subCommand) - 1));
-            final String assignableActionID = this.configuration.getAssignableAction (actionNo);
-            if (assignableActionID != null)
-                this.model.getApplication ().invokeAction (assignableActionID);
-        }
-        catch (final NumberFormatException ex)
-        {
-            throw new UnknownCommandException (subCommand);
-        }
+        final int actionNo = Math.min (7, Math.max (0, getSubCommandNumber (path) - 1));
+        final String assignableActionID = this.configuration.getAssignableAction (actionNo);
+        if (assignableActionID != null)
+            this.model.getApplication ().invokeAction (assignableActionID);
     }
 }
@@ -7,14 +7,14 @@ package de.mossgrabers.controller.osc.module;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.daw.IBrowser;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IBrowserColumn;
 import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
-
-import java.util.LinkedList;
+import de.mossgrabers.framework.osc.OpenSoundControlAddress;
 
 
 /**
@@ -24,6 +24,9 @@ import java.util.LinkedList;
  */
 public class BrowserModule extends AbstractModule
 {
+    private final OpenSoundControlAddress browserAddresses = new OpenSoundControlAddress ("/browser/");
+
+
     /**
      * Constructor.
      *
@@ -50,7 +53,7 @@ public class BrowserModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if (!"browser".equals (command))
             throw new UnknownCommandException (command);
@@ -90,8 +93,7 @@ public class BrowserModule extends AbstractModule
                 break;
 
             case "filter":
-                final String indexCmd = getSubCommand (path);
-                int column = Integer.parseInt (indexCmd);
+                int column = getSubCommandNumber (path);
                 if (column < 1 || column > 6)
                     return;
                 column = column - 1;
@@ -127,47 +129,47 @@ public class BrowserModule extends AbstractModule
     @Override
     public void flush (final boolean dump)
     {
-        final String browserAddress = "/browser/";
+        final OpenSoundControlAddress browserAddress = this.browserAddresses;
         final IBrowser browser = this.model.getBrowser ();
 
         final boolean isActive = browser.isActive ();
-        this.writer.sendOSC (browserAddress + "isActive", isActive, dump);
+        this.writer.sendOSC (browserAddress.get ("isActive"), isActive, dump);
 
         if (!isActive)
             return;
 
-        this.writer.sendOSC (browserAddress + "tab", browser.getSelectedContentType (), dump);
+        this.writer.sendOSC (browserAddress.get ("tab"), browser.getSelectedContentType (), dump);
 
         IBrowserColumn column;
         // Filter Columns
         for (int i = 0; i < browser.getFilterColumnCount (); i++)
         {
-            final String filterAddress = browserAddress + "filter/" + (i + 1) + "/";
+            final OpenSoundControlAddress filterAddress = browserAddress.getChild ("filter").getItem (i);
             column = browser.getFilterColumn (i);
-            this.writer.sendOSC (filterAddress + TAG_EXISTS, column.doesExist (), dump);
-            this.writer.sendOSC (filterAddress + TAG_NAME, column.getName (), dump);
-            this.writer.sendOSC (filterAddress + "wildcard", column.getWildcard (), dump);
+            this.writer.sendOSC (filterAddress.get (TAG_EXISTS), column.doesExist (), dump);
+            this.writer.sendOSC (filterAddress.get (TAG_NAME), column.getName (), dump);
+            this.writer.sendOSC (filterAddress.get ("wildcard"), column.getWildcard (), dump);
             final IBrowserColumnItem [] items = column.getItems ();
             for (int j = 0; j < items.length; j++)
             {
-                final String browserItemAddress = filterAddress + "item/" + (j + 1) + "/";
-                this.writer.sendOSC (browserItemAddress + TAG_EXISTS, items[j].doesExist (), dump);
-                this.writer.sendOSC (browserItemAddress + TAG_NAME, items[j].getName (), dump);
-                this.writer.sendOSC (browserItemAddress + "hits", items[j].getHitCount (), dump);
-                this.writer.sendOSC (browserItemAddress + "isSelected", items[j].isSelected (), dump);
+                final OpenSoundControlAddress browserItemAddress = filterAddress.getChild ("item").getItem (j);
+                this.writer.sendOSC (browserItemAddress.get (TAG_EXISTS), items[j].doesExist (), dump);
+                this.writer.sendOSC (browserItemAddress.get (TAG_NAME), items[j].getName (), dump);
+                this.writer.sendOSC (browserItemAddress.get ("hits"), items[j].getHitCount (), dump);
+                this.writer.sendOSC (browserItemAddress.get ("isSelected"), items[j].isSelected (), dump);
             }
         }
 
         // Presets
-        final String presetAddress = browserAddress + "result/";
+        final OpenSoundControlAddress presetAddress = browserAddress.getChild ("result");
         final IBrowserColumnItem [] items = browser.getResultColumnItems ();
         for (int i = 0; i < items.length; i++)
         {
-            final String browserPresetAddress = presetAddress + (i + 1) + "/";
-            this.writer.sendOSC (browserPresetAddress + TAG_EXISTS, items[i].doesExist (), dump);
-            this.writer.sendOSC (browserPresetAddress + TAG_NAME, items[i].getName (), dump);
-            this.writer.sendOSC (browserPresetAddress + "hits", items[i].getHitCount (), dump);
-            this.writer.sendOSC (browserPresetAddress + "isSelected", items[i].isSelected (), dump);
+            final OpenSoundControlAddress browserPresetAddress = presetAddress.getItem (i);
+            this.writer.sendOSC (browserPresetAddress.get (TAG_EXISTS), items[i].doesExist (), dump);
+            this.writer.sendOSC (browserPresetAddress.get (TAG_NAME), items[i].getName (), dump);
+            this.writer.sendOSC (browserPresetAddress.get ("hits"), items[i].getHitCount (), dump);
+            this.writer.sendOSC (browserPresetAddress.get ("isSelected"), items[i].isSelected (), dump);
         }
     }
 }
@@ -8,6 +8,7 @@ import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
@@ -28,8 +29,8 @@ import de.mossgrabers.framework.daw.data.bank.IParameterPageBank;
 import de.mossgrabers.framework.daw.data.bank.ISendBank;
 import de.mossgrabers.framework.daw.data.empty.EmptyLayer;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlAddress;
 
-import java.util.LinkedList;
 import java.util.Optional;
 
 
@@ -40,7 +41,12 @@ import java.util.Optional;
  */
 public class DeviceModule extends AbstractModule
 {
-    private final OSCConfiguration configuration;
+    private final OSCConfiguration        configuration;
+    private final OpenSoundControlAddress deviceAddresses  = new OpenSoundControlAddress ("/device/");
+    private final OpenSoundControlAddress drumPadAddresses = this.deviceAddresses.getChild ("drumpad");
+    private final OpenSoundControlAddress layerAddresses   = this.deviceAddresses.getChild ("layer");
+    private final OpenSoundControlAddress primaryAddresses = new OpenSoundControlAddress ("/primary/");
+    private final OpenSoundControlAddress eqAddresses      = new OpenSoundControlAddress ("/eq/");
 
 
     /**
@@ -74,7 +80,7 @@ public class DeviceModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         switch (command)
         {
@@ -103,22 +109,22 @@ public class DeviceModule extends AbstractModule
     public void flush (final boolean dump)
     {
         final ICursorDevice cd = this.model.getCursorDevice ();
-        this.flushDevice (this.writer, "/device/", cd, dump);
-        this.writer.sendOSC ("/device/pinned", cd.isPinned (), dump);
+        this.flushDevice (this.writer, this.deviceAddresses, cd, dump);
+        this.writer.sendOSC (this.deviceAddresses.get ("pinned"), cd.isPinned (), dump);
         if (cd.hasDrumPads ())
         {
             final IDrumPadBank drumPadBank = cd.getDrumPadBank ();
             for (int i = 0; i < drumPadBank.getPageSize (); i++)
-                this.flushDeviceLayer (this.writer, "/device/drumpad/" + (i + 1) + "/", drumPadBank.getItem (i), dump);
+                this.flushDeviceLayer (this.writer, this.drumPadAddresses.getItem (i), drumPadBank.getItem (i), dump);
         }
         final ILayerBank layerBank = cd.getLayerBank ();
         for (int i = 0; i < layerBank.getPageSize (); i++)
-            this.flushDeviceLayer (this.writer, "/device/layer/" + (i + 1) + "/", layerBank.getItem (i), dump);
+            this.flushDeviceLayer (this.writer, this.layerAddresses.getItem (i), layerBank.getItem (i), dump);
         final Optional<ILayer> selectedLayer = layerBank.getSelectedItem ();
-        this.flushDeviceLayer (this.writer, "/device/layer/selected/", selectedLayer.isEmpty () ? EmptyLayer.INSTANCE : selectedLayer.get (), dump);
+        this.flushDeviceLayer (this.writer, this.layerAddresses.getChild (TAG_SELECTED), selectedLayer.isEmpty () ? EmptyLayer.INSTANCE : selectedLayer.get (), dump);
 
-        this.flushDevice (this.writer, "/primary/", this.model.getSpecificDevice (DeviceID.FIRST_INSTRUMENT), dump);
-        this.flushDevice (this.writer, "/eq/", this.model.getSpecificDevice (DeviceID.EQ), dump);
+        this.flushDevice (this.writer, this.primaryAddresses, this.model.getSpecificDevice (DeviceID.FIRST_INSTRUMENT), dump);
+        this.flushDevice (this.writer, this.eqAddresses, this.model.getSpecificDevice (DeviceID.EQ), dump);
     }
 
 
@@ -126,30 +132,28 @@ public class DeviceModule extends AbstractModule
      * Flush all data of a device.
      *
      * @param writer Where to send the messages to
-     * @param deviceAddress The start address for the device
+     * @param deviceAddress The addresses of the device
      * @param device The device
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushDevice (final IOpenSoundControlWriter writer, final String deviceAddress, final ISpecificDevice device, final boolean dump)
+    private void flushDevice (final IOpenSoundControlWriter writer, final OpenSoundControlAddress deviceAddress, final ISpecificDevice device, final boolean dump)
     {
-        writer.sendOSC (deviceAddress + TAG_EXISTS, device.doesExist (), dump);
-        writer.sendOSC (deviceAddress + TAG_NAME, device.getName (), dump);
-        writer.sendOSC (deviceAddress + "bypass", !device.isEnabled (), dump);
-        writer.sendOSC (deviceAddress + "expand", device.isExpanded (), dump);
-        writer.sendOSC (deviceAddress + "parameters", device.isParameterPageSectionVisible (), dump);
-        writer.sendOSC (deviceAddress + "window", device.isWindowOpen (), dump);
+        writer.sendOSC (deviceAddress.get (TAG_EXISTS), device.doesExist (), dump);
+        writer.sendOSC (deviceAddress.get (TAG_NAME), device.getName (), dump);
+        writer.sendOSC (deviceAddress.get ("bypass"), !device.isEnabled (), dump);
+        writer.sendOSC (deviceAddress.get ("expand"), device.isExpanded (), dump);
+        writer.sendOSC (deviceAddress.get ("parameters"), device.isParameterPageSectionVisible (), dump);
+        writer.sendOSC (deviceAddress.get ("window"), device.isWindowOpen (), dump);
 
         if (device instanceof IEqualizerDevice)
         {
             final IEqualizerDevice eqDevice = (IEqualizerDevice) device;
             for (int i = 0; i < eqDevice.getBandCount (); i++)
             {
-                final int oneplus = i + 1;
-
-                writer.sendOSC (deviceAddress + "type/" + oneplus + "/value", eqDevice.getType (i), dump);
-                this.flushParameterData (writer, deviceAddress + "gain/" + oneplus + "/", eqDevice.getGain (i), dump);
-                this.flushParameterData (writer, deviceAddress + "freq/" + oneplus + "/", eqDevice.getFrequency (i), dump);
-                this.flushParameterData (writer, deviceAddress + "q/" + oneplus + "/", eqDevice.getQ (i), dump);
+                writer.sendOSC (deviceAddress.getChild ("type").getItem (i).get ("value"), eqDevice.getType (i), dump);
+                this.flushParameterData (writer, deviceAddress.getChild ("gain").getItem (i), eqDevice.getGain (i), dump);
+                this.flushParameterData (writer, deviceAddress.getChild ("freq").getItem (i), eqDevice.getFrequency (i), dump);
+                this.flushParameterData (writer, deviceAddress.getChild ("q").getItem (i), eqDevice.getQ (i), dump);
             }
             return;
         }
@@ -160,29 +164,27 @@ public class DeviceModule extends AbstractModule
             final IDeviceBank deviceBank = ((ICursorDevice) device).getDeviceBank ();
             for (int i = 0; i < deviceBank.getPageSize (); i++)
             {
-                final int oneplus = i + 1;
-                writer.sendOSC (deviceAddress + "sibling/" + oneplus + "/name", deviceBank.getItem (i).getName (), dump);
-                writer.sendOSC (deviceAddress + "sibling/" + oneplus + "/selected", i == positionInBank, dump);
+                final OpenSoundControlAddress siblingAddress = deviceAddress.getChild ("sibling").getItem (i);
+                writer.sendOSC (siblingAddress.get (TAG_NAME), deviceBank.getItem (i).getName (), dump);
+                writer.sendOSC (siblingAddress.get (TAG_SELECTED), i == positionInBank, dump);
             }
         }
 
         final IParameterBank parameterBank = device.getParameterBank ();
         for (int i = 0; i < parameterBank.getPageSize (); i++)
-        {
-            final int oneplus = i + 1;
-            this.flushParameterData (writer, deviceAddress + "param/" + oneplus + "/", parameterBank.getItem (i), dump);
-        }
+            this.flushParameterData (writer, deviceAddress.getChild (TAG_PARAM).getItem (i), parameterBank.getItem (i), dump);
 
         final IParameterPageBank parameterPageBank = device.getParameterPageBank ();
         final int selectedParameterPage = parameterPageBank.getSelectedItemIndex ();
+        final OpenSoundControlAddress pageAddresses = deviceAddress.getChild (TAG_PAGE);
         for (int i = 0; i < parameterPageBank.getPageSize (); i++)
         {
-            final int oneplus = i + 1;
-            writer.sendOSC (deviceAddress + "page/" + oneplus + "/", parameterPageBank.getItem (i), dump);
-            writer.sendOSC (deviceAddress + "page/" + oneplus + "/selected", selectedParameterPage == i, dump);
+            final OpenSoundControlAddress pageAddress = pageAddresses.getItem (i);
+            writer.sendOSC (pageAddress.getPrefix (), parameterPageBank.getItem (i), dump);
+            writer.sendOSC (pageAddress.get (TAG_SELECTED), selectedParameterPage == i, dump);
         }
         final Optional<String> selectedItem = parameterPageBank.getSelectedItem ();
-        writer.sendOSC (deviceAddress + "page/selected/name", selectedItem.isPresent () ? selectedItem.get () : "", dump);
+        writer.sendOSC (pageAddresses.getChild (TAG_SELECTED).get (TAG_NAME), selectedItem.isPresent () ? selectedItem.get () : "", dump);
     }
 
 
@@ -190,46 +192,45 @@ public class DeviceModule extends AbstractModule
      * Flush all data of a device layer.
      *
      * @param writer Where to send the messages to
-     * @param deviceAddress The start address for the device
+     * @param deviceAddress The addresses of the device
      * @param channel The channel of the layer
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushDeviceLayer (final IOpenSoundControlWriter writer, final String deviceAddress, final IChannel channel, final boolean dump)
+    private void flushDeviceLayer (final IOpenSoundControlWriter writer, final OpenSoundControlAddress deviceAddress, final IChannel channel, final boolean dump)
     {
         if (channel == null)
             return;
 
-        writer.sendOSC (deviceAddress + TAG_EXISTS, channel.doesExist (), dump);
-        writer.sendOSC (deviceAddress + "activated", channel.isActivated (), dump);
-        writer.sendOSC (deviceAddress + TAG_SELECTED, channel.isSelected (), dump);
-        writer.sendOSC (deviceAddress + TAG_NAME, channel.getName (), dump);
-        writer.sendOSC (deviceAddress + "volumeStr", channel.getVolumeStr (), dump);
-        writer.sendOSC (deviceAddress + TAG_VOLUME, channel.getVolume (), dump);
-        writer.sendOSC (deviceAddress + "panStr", channel.getPanStr (), dump);
-        writer.sendOSC (deviceAddress + "pan", channel.getPan (), dump);
-        writer.sendOSC (deviceAddress + "mute", channel.isMute (), dump);
-        writer.sendOSC (deviceAddress + "solo", channel.isSolo (), dump);
+        writer.sendOSC (deviceAddress.get (TAG_EXISTS), channel.doesExist (), dump);
+        writer.sendOSC (deviceAddress.get ("activated"), channel.isActivated (), dump);
+        writer.sendOSC (deviceAddress.get (TAG_SELECTED), channel.isSelected (), dump);
+        writer.sendOSC (deviceAddress.get (TAG_NAME), channel.getName (), dump);
+        writer.sendOSC (deviceAddress.get ("volumeStr"), channel.getVolumeStr (), dump);
+        writer.sendOSC (deviceAddress.get (TAG_VOLUME), channel.getVolume (), dump);
+        writer.sendOSC (deviceAddress.get ("panStr"), channel.getPanStr (), dump);
+        writer.sendOSC (deviceAddress.get ("pan"), channel.getPan (), dump);
+        writer.sendOSC (deviceAddress.get ("mute"), channel.isMute (), dump);
+        writer.sendOSC (deviceAddress.get ("solo"), channel.isSolo (), dump);
 
         final ISendBank sendBank = channel.getSendBank ();
         for (int i = 0; i < sendBank.getPageSize (); i++)
-            this.flushParameterData (writer, deviceAddress + "send/" + (i + 1) + "/", sendBank.getItem (i), dump);
+            this.flushParameterData (writer, deviceAddress.getChild ("send").getItem (i), sendBank.getItem (i), dump);
 
         if (this.configuration.isEnableVUMeters ())
-            writer.sendOSC (deviceAddress + "vu", channel.getVu (), dump);
+            writer.sendOSC (deviceAddress.get ("vu"), channel.getVu (), dump);
 
         final ColorEx color = channel.getColor ();
-        writer.sendOSCColor (deviceAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+        writer.sendOSCColor (deviceAddress.get (TAG_COLOR), color.getRed (), color.getGreen (), color.getBlue (), dump);
     }
 
 
-    private void parseCursorDeviceValue (final ICursorDevice cursorDevice, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parseCursorDeviceValue (final ICursorDevice cursorDevice, final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final String command = getSubCommand (path);
         switch (command)
         {
             case "sibling":
-                final String siblingIndex = getSubCommand (path);
-                final int siblingNo = Integer.parseInt (siblingIndex);
+                final int siblingNo = getSubCommandNumber (path);
                 final String subCommand2 = getSubCommand (path);
                 switch (subCommand2)
                 {
@@ -279,19 +280,20 @@ public class DeviceModule extends AbstractModule
                 break;
 
             default:
-                path.add (0, command);
+                path.revertFirst ();
                 this.parseDeviceValue (cursorDevice, path, value);
                 break;
         }
     }
 
 
-    private void parseDeviceValue (final ISpecificDevice device, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parseDeviceValue (final ISpecificDevice device, final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final String command = getSubCommand (path);
         switch (command)
         {
             case TAG_PAGE:
+                final int pageNo = path.peekNumber ();
                 final String subCommand = getSubCommand (path);
                 switch (subCommand)
                 {
@@ -301,15 +303,9 @@ public class DeviceModule extends AbstractModule
                         break;
 
                     default:
-                        try
-                        {
-                            final int index = Integer.parseInt (subCommand) - 1;
-                            device.getParameterPageBank ().selectPage (index);
-                        }
-                        catch (final NumberFormatException ex)
-                        {
+                        if (pageNo == OSCPath.NO_NUMBER)
                             throw new UnknownCommandException (subCommand);
-                        }
+                        device.getParameterPageBank ().selectPage (pageNo - 1);
                         break;
                 }
                 break;
@@ -351,42 +347,37 @@ public class DeviceModule extends AbstractModule
                 break;
 
             case TAG_PARAM:
+                final int paramNo = path.peekNumber ();
                 final String subCommand5 = getSubCommand (path);
-                try
-                {
-                    final int paramNo = Integer.parseInt (subCommand5) - 1;
-                    parseFXParamValue (device, paramNo, path, value);
-                }
-                catch (final NumberFormatException ex)
+                if (paramNo != OSCPath.NO_NUMBER)
+                    parseFXParamValue (device, paramNo - 1, path, value);
+                else if (isTrigger (value))
                 {
-                    if (isTrigger (value))
+                    switch (subCommand5)
                     {
-                        switch (subCommand5)
-                        {
-                            case "+":
-                                device.getParameterBank ().selectNextPage ();
-                                break;
-                            case "-":
-                                device.getParameterBank ().selectPreviousPage ();
-                                break;
-
-                            case "bank":
-                                final String subCommand6 = getSubCommand (path);
-                                if (TAG_PAGE.equals (subCommand6))
-                                {
-                                    final String subCommand7 = getSubCommand (path);
-                                    if ("+".equals (subCommand7))
-                                        device.getParameterPageBank ().scrollForwards ();
-                                    else // "-"
-                                        device.getParameterPageBank ().scrollBackwards ();
-                                }
-                                else
-                                    throw new UnknownCommandException (subCommand6);
-                                break;
-
-                            default:
-                                throw new UnknownCommandException (subCommand5);
-                        }
+                        case "+":
+                            device.getParameterBank ().selectNextPage ();
+                            break;
+                        case "-":
+                            device.getParameterBank ().selectPreviousPage ();
+                            break;
+
+                        case "bank":
+                            final String subCommand6 = getSubCommand (path);
+                            if (TAG_PAGE.equals (subCommand6))
+                            {
+                                final String subCommand7 = getSubCommand (path);
+                                if ("+".equals (subCommand7))
+                                    device.getParameterPageBank ().scrollForwards ();
+                                else // "-"
+                                    device.getParameterPageBank ().scrollBackwards ();
+                            }
+                            else
+                                throw new UnknownCommandException (subCommand6);
+                            break;
+
+                        default:
+                            throw new UnknownCommandException (subCommand5);
                     }
                 }
                 break;
@@ -407,61 +398,25 @@ public class DeviceModule extends AbstractModule
     }
 
 
-    private boolean parseEqValue (final IEqualizerDevice equalizerDevice, final LinkedList<String> path, final Object value) throws MissingCommandException, UnknownCommandException, IllegalParameterException
+    private boolean parseEqValue (final IEqualizerDevice equalizerDevice, final OSCPath path, final Object value) throws MissingCommandException, UnknownCommandException, IllegalParameterException
     {
         final String command = getSubCommand (path);
         switch (command)
         {
             case "type":
-                final String subCommand1 = getSubCommand (path);
-                try
-                {
-                    final int bandNo = Integer.parseInt (subCommand1) - 1;
-                    equalizerDevice.setType (bandNo, toString (value));
-                }
-                catch (final NumberFormatException ex)
-                {
-                    throw new UnknownCommandException (subCommand1);
-                }
+                equalizerDevice.setType (getSubCommandNumber (path) - 1, toString (value));
                 return true;
 
             case "gain":
-                final String subCommand2 = getSubCommand (path);
-                try
-                {
-                    final int bandNo = Integer.parseInt (subCommand2) - 1;
-                    equalizerDevice.getGain (bandNo).setValue (toInteger (value));
-                }
-                catch (final NumberFormatException ex)
-                {
-                    throw new UnknownCommandException (subCommand2);
-                }
+                equalizerDevice.getGain (getSubCommandNumber (path) - 1).setValue (toInteger (value));
                 return true;
 
             case "freq":
-                final String subCommand3 = getSubCommand (path);
-                try
-                {
-                    final int bandNo = Integer.parseInt (subCommand3) - 1;
-                    equalizerDevice.getFrequency (bandNo).setValue (toInteger (value));
-                }
-                catch (final NumberFormatException ex)
-                {
-                    throw new UnknownCommandException (subCommand3);
-                }
+                equalizerDevice.getFrequency (getSubCommandNumber (path) - 1).setValue (toInteger (value));
                 return true;
 
             case "q":
-                final String subCommand4 = getSubCommand (path);
-                try
-                {
-                    final int bandNo = Integer.parseInt (subCommand4) - 1;
-                    equalizerDevice.getQ (bandNo).setValue (toInteger (value));
-                }
-                catch (final NumberFormatException ex)
-                {
-                    throw new UnknownCommandException (subCommand4);
-                }
+                equalizerDevice.getQ (getSubCommandNumber (path) - 1).setValue (toInteger (value));
                 return true;
 
             case "add":
@@ -472,72 +427,68 @@ public class DeviceModule extends AbstractModule
 
             default:
                 // Let this be handled by the normal device parser
-                path.add (0, command);
+                path.revertFirst ();
                 return false;
         }
     }
 
 
-    private void parseLayerOrDrumpad (final ISpecificDevice device, final LinkedList<String> path, final Object value) throws MissingCommandException, UnknownCommandException, IllegalParameterException
+    private void parseLayerOrDrumpad (final ISpecificDevice device, final OSCPath path, final Object value) throws MissingCommandException, UnknownCommandException, IllegalParameterException
     {
         final ILayerBank layerBank = device.getLayerBank ();
 
+        final int layerNo = path.peekNumber ();
         final String command = getSubCommand (path);
-        try
+        if (layerNo != OSCPath.NO_NUMBER)
         {
-            final int layerNo;
-            if (TAG_SELECTED.equals (command) || TAG_SELECT.equals (command))
-            {
-                final Optional<ILayer> selectedLayer = layerBank.getSelectedItem ();
-                layerNo = selectedLayer.isEmpty () ? -1 : selectedLayer.get ().getIndex ();
-            }
-            else
-            {
-                layerNo = Integer.parseInt (command) - 1;
-            }
-            this.parseDeviceLayerValue (device, layerNo, path, value);
+            this.parseDeviceLayerValue (device, layerNo - 1, path, value);
+            return;
         }
-        catch (final NumberFormatException ex)
+
+        switch (command)
         {
-            switch (command)
-            {
-                case "parent":
-                    if (device.doesExist () && device instanceof ICursorDevice)
-                    {
-                        final ICursorDevice cursorDevice = (ICursorDevice) device;
-                        cursorDevice.selectParent ();
-                        cursorDevice.selectChannel ();
-                    }
-                    break;
+            case TAG_SELECTED:
+            case TAG_SELECT:
+                final Optional<ILayer> selectedLayer = layerBank.getSelectedItem ();
+                this.parseDeviceLayerValue (device, selectedLayer.isEmpty () ? -1 : selectedLayer.get ().getIndex (), path, value);
+                break;
 
-                case "+":
-                    layerBank.selectNextItem ();
-                    break;
+            case "parent":
+                if (device.doesExist () && device instanceof ICursorDevice)
+                {
+                    final ICursorDevice cursorDevice = (ICursorDevice) device;
+                    cursorDevice.selectParent ();
+                    cursorDevice.selectChannel ();
+                }
+                break;
 
-                case "-":
-                    layerBank.selectPreviousItem ();
-                    break;
+            case "+":
+                layerBank.selectNextItem ();
+                break;
 
-                case TAG_PAGE:
-                    if (path.isEmpty ())
-                    {
-                        this.host.println ("Missing Layer/Drumpad Page subcommand: " + command);
-                        return;
-                    }
-                    if ("+".equals (path.get (0)))
-                        layerBank.selectNextPage ();
-                    else
-                        layerBank.selectPreviousPage ();
-                    break;
+            case "-":
+                layerBank.selectPreviousItem ();
+                break;
 
-                default:
-                    throw new UnknownCommandException (command);
-            }
+            case TAG_PAGE:
+                if (path.isEmpty ())
+                {
+                    this.host.println ("Missing Layer/Drumpad Page subcommand: " + command);
+                    return;
+                }
+                if ("+".equals (path.get (0)))
+                    layerBank.selectNextPage ();
+                else
+                    layerBank.selectPreviousPage ();
+                break;
+
+            default:
+                throw new UnknownCommandException (command);
         }
     }
 
 
-    private void parseDeviceLayerValue (final ISpecificDevice cursorDevice, final int layerIndex, final LinkedList<String> path, final Object value) throws UnknownCommandException, IllegalParameterException, MissingCommandException
+    private void parseDeviceLayerValue (final ISpecificDevice cursorDevice, final int layerIndex, final OSCPath path, final Object value) throws UnknownCommandException, IllegalParameterException, MissingCommandException
     {
         final String command = getSubCommand (path);
         final ILayerBank layerBank = cursorDevice.getLayerBank ();
@@ -593,7 +544,7 @@ public class DeviceModule extends AbstractModule
                 break;
 
             case "send":
-                final int sendNo = Integer.parseInt (path.removeFirst ()) - 1;
+                final int sendNo = getSubCommandNumber (path) - 1;
                 if (path.isEmpty ())
                     return;
                 if (!TAG_VOLUME.equals (path.removeFirst ()))
@@ -617,7 +568,7 @@ public class DeviceModule extends AbstractModule
     }
 
 
-    private static void parseFXParamValue (final ISpecificDevice cursorDevice, final int fxparamIndex, final LinkedList<String> path, final Object value) throws MissingCommandException, IllegalParameterException, UnknownCommandException
+    private static void parseFXParamValue (final ISpecificDevice cursorDevice, final int fxparamIndex, final OSCPath path, final Object value) throws MissingCommandException, IllegalParameterException, UnknownCommandException
     {
         final String command = getSubCommand (path);
         final IParameter param = cursorDevice.getParameterBank ().getItem (fxparamIndex);
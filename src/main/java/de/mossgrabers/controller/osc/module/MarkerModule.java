@@ -7,14 +7,14 @@ package de.mossgrabers.controller.osc.module;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IMarker;
 import de.mossgrabers.framework.daw.data.bank.IMarkerBank;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
-
-import java.util.LinkedList;
+import de.mossgrabers.framework.osc.OpenSoundControlAddress;
 
 
 /**
@@ -24,6 +24,9 @@ import java.util.LinkedList;
  */
 public class MarkerModule extends AbstractModule
 {
+    private final OpenSoundControlAddress markerAddresses = new OpenSoundControlAddress ("/marker/");
+
+
     /**
      * Constructor.
      *
@@ -50,42 +53,41 @@ public class MarkerModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if (!"marker".equals (command))
             throw new UnknownCommandException (command);
 
+        final int markerNo = path.peekNumber ();
         final String subCommand = getSubCommand (path);
-        try
+        if (markerNo != OSCPath.NO_NUMBER)
         {
-            final int markerNo = Integer.parseInt (subCommand) - 1;
             final String subCommand2 = getSubCommand (path);
             if ("launch".equals (subCommand2))
-                this.model.getMarkerBank ().getItem (markerNo).launch (true);
+                this.model.getMarkerBank ().getItem (markerNo - 1).launch (true);
             else
                 throw new UnknownCommandException (subCommand2);
+            return;
         }
-        catch (final NumberFormatException ex)
+
+        final IMarkerBank markerBank = this.model.getMarkerBank ();
+        if ("bank".equals (subCommand))
         {
-            final IMarkerBank markerBank = this.model.getMarkerBank ();
-            if ("bank".equals (subCommand))
+            final String subCommand2 = getSubCommand (path);
+            switch (subCommand2)
             {
-                final String subCommand2 = getSubCommand (path);
-                switch (subCommand2)
-                {
-                    case "+":
-                        markerBank.selectNextPage ();
-                        break;
-                    case "-":
-                        markerBank.selectPreviousPage ();
-                        break;
-                    default:
-                        throw new UnknownCommandException (subCommand2);
-                }
+                case "+":
+                    markerBank.selectNextPage ();
+                    break;
+                case "-":
+                    markerBank.selectPreviousPage ();
+                    break;
+                default:
+                    throw new UnknownCommandException (subCommand2);
             }
-            else
-                throw new UnknownCommandException (subCommand);
         }
+        else
+            throw new UnknownCommandException (subCommand);
     }
 
 
@@ -96,12 +98,12 @@ public class MarkerModule extends AbstractModule
         final IMarkerBank markerBank = this.model.getMarkerBank ();
         for (int i = 0; i < markerBank.getPageSize (); i++)
         {
-            final String markerAddress = "/marker/" + (i + 1) + "/";
+            final OpenSoundControlAddress markerAddress = this.markerAddresses.getItem (i);
             final IMarker marker = markerBank.getItem (i);
-            this.writer.sendOSC (markerAddress + "exists", marker.doesExist (), dump);
-            this.writer.sendOSC (markerAddress + TAG_NAME, marker.getName (), dump);
+            this.writer.sendOSC (markerAddress.get ("exists"), marker.doesExist (), dump);
+            this.writer.sendOSC (markerAddress.get (TAG_NAME), marker.getName (), dump);
             final ColorEx color = marker.getColor ();
-            this.writer.sendOSCColor (markerAddress + "color", color.getRed (), color.getGreen (), color.getBlue (), dump);
+            this.writer.sendOSCColor (markerAddress.get ("color"), color.getRed (), color.getGreen (), color.getBlue (), dump);
         }
     }
 }
\ No newline at end of file
@@ -8,6 +8,7 @@ import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.color.ColorManager;
@@ -23,8 +24,6 @@ import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.KeyManager;
 
-import java.util.LinkedList;
-
 
 /**
  * All MIDI related commands.
@@ -33,6 +32,13 @@ import java.util.LinkedList;
  */
 public class MidiModule extends AbstractModule
 {
+    private static final String []                  NOTE_COLOR_ADDRESSES = new String [127];
+    static
+    {
+        for (int i = 0; i < NOTE_COLOR_ADDRESSES.length; i++)
+            NOTE_COLOR_ADDRESSES[i] = "/vkb_midi/note/" + i + "/color";
+    }
+
     private final KeyManager                        keyManager;
     private final IControlSurface<OSCConfiguration> surface;
 
@@ -70,7 +76,7 @@ public class MidiModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if ("vkb_midi".equals (command))
             this.parseMidi (path, value);
@@ -83,11 +89,10 @@ public class MidiModule extends AbstractModule
     @Override
     public void flush (final boolean dump)
     {
-        final String noteAddress = "/vkb_midi/note/";
         for (int i = 0; i < 127; i++)
         {
             final double [] color = this.getNoteColor (i).toDoubleRGB ();
-            this.writer.sendOSCColor (noteAddress + i + "/color", color[0], color[1], color[2], dump);
+            this.writer.sendOSCColor (NOTE_COLOR_ADDRESSES[i], color[0], color[1], color[2], dump);
         }
 
         // Flush note repeat
@@ -95,11 +100,9 @@ public class MidiModule extends AbstractModule
         if (noteInput == null)
             return;
         final INoteRepeat noteRepeat = noteInput.getNoteRepeat ();
-        final String noteRepeatAddress = "/vkb_midi/noterepeat/";
-
-        this.writer.sendOSC (noteRepeatAddress + "isActive", noteRepeat.isActive (), dump);
-        this.writer.sendOSC (noteRepeatAddress + "period", Resolution.getNameAt (Resolution.getMatch (noteRepeat.getPeriod ())), dump);
-        this.writer.sendOSC (noteRepeatAddress + "length", Resolution.getNameAt (Resolution.getMatch (noteRepeat.getNoteLength ())), dump);
+        this.writer.sendOSC ("/vkb_midi/noterepeat/isActive", noteRepeat.isActive (), dump);
+        this.writer.sendOSC ("/vkb_midi/noterepeat/period", Resolution.getNameAt (Resolution.getMatch (noteRepeat.getPeriod ())), dump);
+        this.writer.sendOSC ("/vkb_midi/noterepeat/length", Resolution.getNameAt (Resolution.getMatch (noteRepeat.getNoteLength ())), dump);
     }
 
 
@@ -112,10 +115,11 @@ public class MidiModule extends AbstractModule
      * @throws UnknownCommandException Unknown sub-command
      * @throws IllegalParameterException Added an illegal parameter
      */
-    private void parseMidi (final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    private void parseMidi (final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         final OSCConfiguration conf = this.surface.getConfiguration ();
 
+        final int channelNo = path.peekNumber ();
         final String command = getSubCommand (path);
 
         switch (command)
@@ -136,15 +140,9 @@ public class MidiModule extends AbstractModule
                 break;
         }
 
-        int midiChannel;
-        try
-        {
-            midiChannel = Math.min (Math.max (0, Integer.parseInt (command) - 1), 15);
-        }
-        catch (final NumberFormatException ex)
-        {
+        if (channelNo == OSCPath.NO_NUMBER)
             throw new UnknownCommandException (command);
-        }
+        final int midiChannel = Math.min (Math.max (0, channelNo - 1), 15);
 
         final String subCommand = getSubCommand (path);
         final IMidiInput input = this.surface.getMidiInput ();
@@ -161,6 +159,7 @@ public class MidiModule extends AbstractModule
                     return;
                 }
 
+                final int noteNo = path.peekNumber ();
                 final String n = getSubCommand (path);
                 switch (n)
                 {
@@ -181,12 +180,15 @@ public class MidiModule extends AbstractModule
                         break;
 
                     default:
-                        this.sendNote (conf, midiChannel, input, Integer.parseInt (n), toInteger (value));
+                        if (noteNo == OSCPath.NO_NUMBER)
+                            throw new UnknownCommandException (n);
+                        this.sendNote (conf, midiChannel, input, noteNo, toInteger (value));
                         break;
                 }
                 break;
 
             case "drum":
+                final int drumNo = path.peekNumber ();
                 final String n2 = getSubCommand (path);
                 switch (n2)
                 {
@@ -207,11 +209,12 @@ public class MidiModule extends AbstractModule
                         break;
 
                     default:
-                        final int note = Integer.parseInt (n2);
+                        if (drumNo == OSCPath.NO_NUMBER)
+                            throw new UnknownCommandException (n2);
                         int numValue = toInteger (value);
                         if (numValue > 0)
                             numValue = conf.isAccentActive () ? conf.getFixedAccentValue () : numValue;
-                        final int data0 = this.model.getScales ().getDrumMatrix ()[note];
+                        final int data0 = this.model.getScales ().getDrumMatrix ()[drumNo];
                         if (data0 >= 0)
                             input.sendRawMidiEvent (0x90 + midiChannel, data0, numValue);
                         break;
@@ -224,7 +227,7 @@ public class MidiModule extends AbstractModule
                     this.host.println ("Missing MIDI CC value.");
                     return;
                 }
-                final int cc = Integer.parseInt (path.removeFirst ());
+                final int cc = getSubCommandNumber (path);
                 input.sendRawMidiEvent (0xB0 + midiChannel, cc, toInteger (value));
                 break;
 
@@ -237,7 +240,7 @@ public class MidiModule extends AbstractModule
                     input.sendRawMidiEvent (0xD0 + midiChannel, 0, numValue);
                     return;
                 }
-                final int note = Integer.parseInt (path.removeFirst ());
+                final int note = getSubCommandNumber (path);
                 input.sendRawMidiEvent (0xA0 + midiChannel, this.surface.getKeyTranslationTable ()[note], numValue);
                 break;
 
@@ -295,7 +298,7 @@ public class MidiModule extends AbstractModule
      * @throws UnknownCommandException Unknown sub-command
      * @throws IllegalParameterException Added an illegal parameter
      */
-    private void parseNoteRepeat (final LinkedList<String> path, final Object value) throws MissingCommandException, UnknownCommandException, IllegalParameterException
+    private void parseNoteRepeat (final OSCPath path, final Object value) throws MissingCommandException, UnknownCommandException, IllegalParameterException
     {
         final INoteInput noteInput = this.surface.getMidiInput ().getDefaultNoteInput ();
         if (noteInput == null)
@@ -7,13 +7,13 @@ package de.mossgrabers.controller.osc.module;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IScene;
 import de.mossgrabers.framework.daw.data.bank.ISceneBank;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
-
-import java.util.LinkedList;
+import de.mossgrabers.framework.osc.OpenSoundControlAddress;
 
 
 /**
@@ -23,6 +23,9 @@ import java.util.LinkedList;
  */
 public class SceneModule extends AbstractModule
 {
+    private final OpenSoundControlAddress sceneAddresses = new OpenSoundControlAddress ("/scene/");
+
+
     /**
      * Constructor.
      *
@@ -49,11 +52,12 @@ public class SceneModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if (!"scene".equals (command))
             throw new UnknownCommandException (command);
 
+        final int sceneIndex = path.peekNumber ();
         final String sceneCommand = getSubCommand (path);
         final ISceneBank sceneBank = this.model.getCurrentTrackBank ().getSceneBank ();
         switch (sceneCommand)
@@ -91,7 +95,8 @@ public class SceneModule extends AbstractModule
                 break;
 
             default:
-                final int sceneIndex = Integer.parseInt (sceneCommand);
+                if (sceneIndex == OSCPath.NO_NUMBER)
+                    throw new UnknownCommandException (sceneCommand);
                 final IScene scene = sceneBank.getItem (sceneIndex - 1);
                 final String sceneCommand2 = getSubCommand (path);
                 switch (sceneCommand2)
@@ -124,10 +129,10 @@ public class SceneModule extends AbstractModule
         for (int i = 0; i < sceneBank.getPageSize (); i++)
         {
             final IScene scene = sceneBank.getItem (i);
-            final String sceneAddress = "/scene/" + (i + 1) + "/";
-            this.writer.sendOSC (sceneAddress + TAG_EXISTS, scene.doesExist (), dump);
-            this.writer.sendOSC (sceneAddress + TAG_NAME, scene.getName (), dump);
-            this.writer.sendOSC (sceneAddress + TAG_SELECTED, scene.isSelected (), dump);
+            final OpenSoundControlAddress sceneAddress = this.sceneAddresses.getItem (i);
+            this.writer.sendOSC (sceneAddress.get (TAG_EXISTS), scene.doesExist (), dump);
+            this.writer.sendOSC (sceneAddress.get (TAG_NAME), scene.getName (), dump);
+            this.writer.sendOSC (sceneAddress.get (TAG_SELECTED), scene.isSelected (), dump);
         }
     }
 }
@@ -8,6 +8,7 @@ import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IHost;
@@ -21,8 +22,8 @@ import de.mossgrabers.framework.daw.data.bank.ISlotBank;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlAddress;
 
-import java.util.LinkedList;
 import java.util.Locale;
 import java.util.Optional;
 
@@ -34,7 +35,19 @@ import java.util.Optional;
  */
 public class TrackModule extends AbstractModule
 {
-    private final OSCConfiguration configuration;
+    private static final String []        TYPE_NAMES        = new String [ChannelType.values ().length];
+    static
+    {
+        for (final ChannelType type: ChannelType.values ())
+            TYPE_NAMES[type.ordinal ()] = type.name ().toLowerCase (Locale.US);
+    }
+
+    private final OSCConfiguration        configuration;
+    private final OpenSoundControlAddress trackAddresses    = new OpenSoundControlAddress ("/track/");
+    private final OpenSoundControlAddress masterAddresses   = new OpenSoundControlAddress ("/master/");
+    private final OpenSoundControlAddress cursorAddresses   = this.trackAddresses.getChild (TAG_SELECTED);
+    private final String                  toggleBankAddress = this.trackAddresses.get ("toggleBank");
+    private final String                  hasParentAddress  = this.trackAddresses.get ("hasParent");
 
 
     /**
@@ -67,21 +80,17 @@ public class TrackModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         switch (command)
         {
             case "track":
+                final int trackNo = path.peekNumber ();
                 final String subCommand = getSubCommand (path);
-                try
-                {
-                    final int trackNo = Integer.parseInt (subCommand) - 1;
-                    this.parseTrackValue (this.model.getCurrentTrackBank ().getItem (trackNo), path, value);
-                }
-                catch (final NumberFormatException ex)
-                {
+                if (trackNo == OSCPath.NO_NUMBER)
                     this.parseTrackCommands (subCommand, path, value);
-                }
+                else
+                    this.parseTrackValue (this.model.getCurrentTrackBank ().getItem (trackNo - 1), path, value);
                 break;
 
             case "master":
@@ -100,12 +109,12 @@ public class TrackModule extends AbstractModule
     {
         final ITrackBank trackBank = this.model.getCurrentTrackBank ();
         for (int i = 0; i < trackBank.getPageSize (); i++)
-            this.flushTrack (this.writer, "/track/" + (i + 1) + "/", trackBank.getItem (i), dump);
-        this.flushTrack (this.writer, "/master/", this.model.getMasterTrack (), dump);
+            this.flushTrack (this.writer, this.trackAddresses.getItem (i), trackBank.getItem (i), dump);
+        this.flushTrack (this.writer, this.masterAddresses, this.model.getMasterTrack (), dump);
         final ICursorTrack cursorTrack = this.model.getCursorTrack ();
-        this.flushTrack (this.writer, "/track/selected/", cursorTrack, dump);
-        this.writer.sendOSC ("/track/toggleBank", this.model.isEffectTrackBankActive () ? 1 : 0, dump);
-        this.writer.sendOSC ("/track/hasParent", trackBank.hasParent (), dump);
+        this.flushTrack (this.writer, this.cursorAddresses, cursorTrack, dump);
+        this.writer.sendOSC (this.toggleBankAddress, this.model.isEffectTrackBankActive () ? 1 : 0, dump);
+        this.writer.sendOSC (this.hasParentAddress, trackBank.hasParent (), dump);
     }
 
 
@@ -113,73 +122,75 @@ public class TrackModule extends AbstractModule
      * Flush all data of a track.
      *
      * @param writer Where to send the messages to
-     * @param trackAddress The start address for the track
+     * @param trackAddress The addresses of the track
      * @param track The track
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushTrack (final IOpenSoundControlWriter writer, final String trackAddress, final ITrack track, final boolean dump)
+    private void flushTrack (final IOpenSoundControlWriter writer, final OpenSoundControlAddress trackAddress, final ITrack track, final boolean dump)
     {
-        writer.sendOSC (trackAddress + TAG_EXISTS, track.doesExist (), dump);
+        writer.sendOSC (trackAddress.get (TAG_EXISTS), track.doesExist (), dump);
         final ChannelType type = track.getType ();
-        writer.sendOSC (trackAddress + "type", type == null ? null : type.name ().toLowerCase (Locale.US), dump);
-        writer.sendOSC (trackAddress + "activated", track.isActivated (), dump);
-        writer.sendOSC (trackAddress + TAG_SELECTED, track.isSelected (), dump);
-        writer.sendOSC (trackAddress + "isGroup", track.isGroup (), dump);
-        writer.sendOSC (trackAddress + TAG_NAME, track.getName (), dump);
-        writer.sendOSC (trackAddress + "volumeStr", track.getVolumeStr (), dump);
-        writer.sendOSC (trackAddress + TAG_VOLUME, track.getVolume (), dump);
-        writer.sendOSC (trackAddress + "panStr", track.getPanStr (), dump);
-        writer.sendOSC (trackAddress + "pan", track.getPan (), dump);
-        writer.sendOSC (trackAddress + "mute", track.isMute (), dump);
-        writer.sendOSC (trackAddress + "solo", track.isSolo (), dump);
-        writer.sendOSC (trackAddress + "recarm", track.isRecArm (), dump);
-        writer.sendOSC (trackAddress + "monitor", track.isMonitor (), dump);
-        writer.sendOSC (trackAddress + "autoMonitor", track.isAutoMonitor (), dump);
-        writer.sendOSC (trackAddress + "canHoldNotes", track.canHoldNotes (), dump);
-        writer.sendOSC (trackAddress + "canHoldAudioData", track.canHoldAudioData (), dump);
-        writer.sendOSC (trackAddress + "position", track.getPosition (), dump);
+        writer.sendOSC (trackAddress.get ("type"), type == null ? null : TYPE_NAMES[type.ordinal ()], dump);
+        writer.sendOSC (trackAddress.get ("activated"), track.isActivated (), dump);
+        writer.sendOSC (trackAddress.get (TAG_SELECTED), track.isSelected (), dump);
+        writer.sendOSC (trackAddress.get ("isGroup"), track.isGroup (), dump);
+        writer.sendOSC (trackAddress.get (TAG_NAME), track.getName (), dump);
+        writer.sendOSC (trackAddress.get ("volumeStr"), track.getVolumeStr (), dump);
+        writer.sendOSC (trackAddress.get (TAG_VOLUME), track.getVolume (), dump);
+        writer.sendOSC (trackAddress.get ("panStr"), track.getPanStr (), dump);
+        writer.sendOSC (trackAddress.get ("pan"), track.getPan (), dump);
+        writer.sendOSC (trackAddress.get ("mute"), track.isMute (), dump);
+        writer.sendOSC (trackAddress.get ("solo"), track.isSolo (), dump);
+        writer.sendOSC (trackAddress.get ("recarm"), track.isRecArm (), dump);
+        writer.sendOSC (trackAddress.get ("monitor"), track.isMonitor (), dump);
+        writer.sendOSC (trackAddress.get ("autoMonitor"), track.isAutoMonitor (), dump);
+        writer.sendOSC (trackAddress.get ("canHoldNotes"), track.canHoldNotes (), dump);
+        writer.sendOSC (trackAddress.get ("canHoldAudioData"), track.canHoldAudioData (), dump);
+        writer.sendOSC (trackAddress.get ("position"), track.getPosition (), dump);
 
         if (track instanceof ICursorTrack)
         {
             final ICursorTrack cursorTrack = (ICursorTrack) track;
-            writer.sendOSC (trackAddress + "pinned", cursorTrack.isPinned (), dump);
+            writer.sendOSC (trackAddress.get ("pinned"), cursorTrack.isPinned (), dump);
         }
 
         final ISendBank sendBank = track.getSendBank ();
+        final OpenSoundControlAddress sendAddresses = trackAddress.getChild ("send");
         for (int i = 0; i < sendBank.getPageSize (); i++)
-            this.flushParameterData (writer, trackAddress + "send/" + (i + 1) + "/", sendBank.getItem (i), dump);
+            this.flushParameterData (writer, sendAddresses.getItem (i), sendBank.getItem (i), dump);
 
         final ISlotBank slotBank = track.getSlotBank ();
+        final OpenSoundControlAddress clipAddresses = trackAddress.getChild ("clip");
         for (int i = 0; i < slotBank.getPageSize (); i++)
         {
             final ISlot slot = slotBank.getItem (i);
-            final String clipAddress = trackAddress + "clip/" + (i + 1) + "/";
-            writer.sendOSC (clipAddress + TAG_NAME, slot.getName (), dump);
-            writer.sendOSC (clipAddress + "isSelected", slot.isSelected (), dump);
-            writer.sendOSC (clipAddress + "hasContent", slot.hasContent (), dump);
-            writer.sendOSC (clipAddress + "isPlaying", slot.isPlaying (), dump);
-            writer.sendOSC (clipAddress + "isRecording", slot.isRecording (), dump);
-            writer.sendOSC (clipAddress + "isPlayingQueued", slot.isPlayingQueued (), dump);
-            writer.sendOSC (clipAddress + "isRecordingQueued", slot.isRecordingQueued (), dump);
-            writer.sendOSC (clipAddress + "isStopQueued", slot.isStopQueued (), dump);
+            final OpenSoundControlAddress clipAddress = clipAddresses.getItem (i);
+            writer.sendOSC (clipAddress.get (TAG_NAME), slot.getName (), dump);
+            writer.sendOSC (clipAddress.get ("isSelected"), slot.isSelected (), dump);
+            writer.sendOSC (clipAddress.get ("hasContent"), slot.hasContent (), dump);
+            writer.sendOSC (clipAddress.get ("isPlaying"), slot.isPlaying (), dump);
+            writer.sendOSC (clipAddress.get ("isRecording"), slot.isRecording (), dump);
+            writer.sendOSC (clipAddress.get ("isPlayingQueued"), slot.isPlayingQueued (), dump);
+            writer.sendOSC (clipAddress.get ("isRecordingQueued"), slot.isRecordingQueued (), dump);
+            writer.sendOSC (clipAddress.get ("isStopQueued"), slot.isStopQueued (), dump);
 
             final ColorEx color = slot.getColor ();
-            writer.sendOSCColor (clipAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+            writer.sendOSCColor (clipAddress.get (TAG_COLOR), color.getRed (), color.getGreen (), color.getBlue (), dump);
         }
 
         final ColorEx color = track.getColor ();
-        writer.sendOSCColor (trackAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+        writer.sendOSCColor (trackAddress.get (TAG_COLOR), color.getRed (), color.getGreen (), color.getBlue (), dump);
 
         final String crossfadeMode = track.getCrossfadeParameter ().getDisplayedValue ();
-        writer.sendOSC (trackAddress + "crossfadeMode/A", "A".equals (crossfadeMode), dump);
-        writer.sendOSC (trackAddress + "crossfadeMode/B", "B".equals (crossfadeMode), dump);
-        writer.sendOSC (trackAddress + "crossfadeMode/AB", "AB".equals (crossfadeMode), dump);
+        writer.sendOSC (trackAddress.get ("crossfadeMode/A"), "A".equals (crossfadeMode), dump);
+        writer.sendOSC (trackAddress.get ("crossfadeMode/B"), "B".equals (crossfadeMode), dump);
+        writer.sendOSC (trackAddress.get ("crossfadeMode/AB"), "AB".equals (crossfadeMode), dump);
 
-        writer.sendOSC (trackAddress + "vu", this.configuration.isEnableVUMeters () ? track.getVu () : 0, dump);
+        writer.sendOSC (trackAddress.get ("vu"), this.configuration.isEnableVUMeters () ? track.getVu () : 0, dump);
     }
 
 
-    private void parseTrackCommands (final String command, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parseTrackCommands (final String command, final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final ITrackBank tb = this.model.getCurrentTrackBank ();
         switch (command)
@@ -200,7 +211,7 @@ public class TrackModule extends AbstractModule
                     case "send":
                         if (this.model.isEffectTrackBankActive ())
                             return;
-                        final int sendIndex = Integer.parseInt (path.get (0)) - 1;
+                        final int sendIndex = getSubCommandNumber (path) - 1;
                         for (int i = 0; i < tb.getPageSize (); i++)
                             tb.getItem (i).getSendBank ().getItem (sendIndex).setIndication (isTrue);
                         break;
@@ -318,7 +329,7 @@ public class TrackModule extends AbstractModule
     }
 
 
-    private void parseTrackValue (final ITrack track, final LinkedList<String> path, final Object value) throws IllegalParameterException, MissingCommandException, UnknownCommandException
+    private void parseTrackValue (final ITrack track, final OSCPath path, final Object value) throws IllegalParameterException, MissingCommandException, UnknownCommandException
     {
         final String command = getSubCommand (path);
         switch (command)
@@ -419,7 +430,7 @@ public class TrackModule extends AbstractModule
                 break;
 
             case "send":
-                final int sendNo = Integer.parseInt (path.removeFirst ()) - 1;
+                final int sendNo = getSubCommandNumber (path) - 1;
                 parseSendValue (track, sendNo, path, value);
                 break;
 
@@ -454,46 +465,11 @@ public class TrackModule extends AbstractModule
     }
 
 
-    private void parseClipValue (final ITrack track, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parseClipValue (final ITrack track, final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
+        final int clipNo = path.peekNumber ();
         final String command = getSubCommand (path);
-
-        try
-        {
-            final int clipNo = Integer.parseInt (command) - 1;
-            final String clipCommand = getSubCommand (path);
-            final ISlot slot = track.getSlotBank ().getItem (clipNo);
-            switch (clipCommand)
-            {
-                case TAG_SELECT:
-                case TAG_SELECTED:
-                    slot.select ();
-                    break;
-                case "launch":
-                    slot.launch ();
-                    break;
-                case "record":
-                    this.model.recordNoteClip (track, slot);
-                    break;
-                case "create":
-                    this.model.createNoteClip (track, slot, toInteger (value), true);
-                    break;
-                case TAG_DUPLICATE:
-                    slot.duplicate ();
-                    break;
-                case TAG_REMOVE:
-                    slot.remove ();
-                    break;
-                case TAG_COLOR:
-                    final Optional<ColorEx> color = matchColor (toString (value));
-                    if (color.isPresent ())
-                        slot.setColor (color.get ());
-                    break;
-                default:
-                    throw new UnknownCommandException (clipCommand);
-            }
-        }
-        catch (final NumberFormatException ex)
+        if (clipNo == OSCPath.NO_NUMBER)
         {
             switch (command)
             {
@@ -506,11 +482,44 @@ public class TrackModule extends AbstractModule
                 default:
                     throw new UnknownCommandException (command);
             }
+            return;
+        }
+
+        final String clipCommand = getSubCommand (path);
+        final ISlot slot = track.getSlotBank ().getItem (clipNo - 1);
+        switch (clipCommand)
+        {
+            case TAG_SELECT:
+            case TAG_SELECTED:
+                slot.select ();
+                break;
+            case "launch":
+                slot.launch ();
+                break;
+            case "record":
+                this.model.recordNoteClip (track, slot);
+                break;
+            case "create":
+                this.model.createNoteClip (track, slot, toInteger (value), true);
+                break;
+            case TAG_DUPLICATE:
+                slot.duplicate ();
+                break;
+            case TAG_REMOVE:
+                slot.remove ();
+                break;
+            case TAG_COLOR:
+                final Optional<ColorEx> color = matchColor (toString (value));
+                if (color.isPresent ())
+                    slot.setColor (color.get ());
+                break;
+            default:
+                throw new UnknownCommandException (clipCommand);
         }
     }
 
 
-    private static void parseSendValue (final ITrack track, final int sendIndex, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private static void parseSendValue (final ITrack track, final int sendIndex, final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final String command = getSubCommand (path);
         if (!TAG_VOLUME.equals (command))
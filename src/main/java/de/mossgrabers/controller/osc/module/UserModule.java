@@ -7,13 +7,16 @@ package de.mossgrabers.controller.osc.module;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.daw.data.bank.IParameterBank;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlAddress;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.List;
 
 
 /**
@@ -23,6 +26,11 @@ import java.util.LinkedList;
  */
 public class UserModule extends AbstractModule
 {
+    private final OpenSoundControlAddress userAddresses = new OpenSoundControlAddress ("/user/");
+    private final OpenSoundControlAddress pageAddresses = this.userAddresses.getChild (TAG_PAGE);
+    private final List<String>            pageNames     = new ArrayList<> ();
+
+
     /**
      * Constructor.
      *
@@ -49,7 +57,7 @@ public class UserModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if ("user".equals (command))
             this.parseUserValue (path, value);
@@ -62,73 +70,72 @@ public class UserModule extends AbstractModule
     @Override
     public void flush (final boolean dump)
     {
-        final String userAddress = "/user/";
-
         final IParameterBank parameterBank = this.model.getUserParameterBank ();
         for (int i = 0; i < parameterBank.getPageSize (); i++)
-        {
-            final int oneplus = i + 1;
-            this.flushParameterData (this.writer, userAddress + oneplus + "/", parameterBank.getItem (i), dump);
-        }
+            this.flushParameterData (this.writer, this.userAddresses.getItem (i), parameterBank.getItem (i), dump);
 
         final int numPages = parameterBank.getItemCount () / parameterBank.getPageSize ();
         final int selectedPage = parameterBank.getScrollPosition () / parameterBank.getPageSize ();
         for (int i = 0; i < numPages; i++)
         {
-            final int oneplus = i + 1;
-            this.writer.sendOSC (userAddress + "page/" + oneplus + "/", "Page " + (i + 1), dump);
-            this.writer.sendOSC (userAddress + "page/" + oneplus + "/selected", selectedPage == i, dump);
+            final OpenSoundControlAddress pageAddress = this.pageAddresses.getItem (i);
+            this.writer.sendOSC (pageAddress.getPrefix (), this.getPageName (i), dump);
+            this.writer.sendOSC (pageAddress.get (TAG_SELECTED), selectedPage == i, dump);
         }
-        this.writer.sendOSC (userAddress + "page/selected/name", "Page " + (selectedPage + 1), dump);
+        this.writer.sendOSC (this.pageAddresses.getChild (TAG_SELECTED).get (TAG_NAME), this.getPageName (selectedPage), dump);
+    }
+
+
+    /**
+     * Get the name of a page. The names are created on first use and then re-used.
+     *
+     * @param index The index of the page
+     * @return The name of the page
+     */
+    private String getPageName (final int index)
+    {
+        for (int i = this.pageNames.size (); i <= index; i++)
+            this.pageNames.add ("Page " + (i + 1));
+        return this.pageNames.get (index);
     }
 
 
-    private void parseUserValue (final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parseUserValue (final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final IParameterBank parameterBank = this.model.getUserParameterBank ();
+        final int paramNo = path.peekNumber ();
         final String subCommand = getSubCommand (path);
-        try
+        if (paramNo != OSCPath.NO_NUMBER)
         {
-            final int paramNo = Integer.parseInt (subCommand) - 1;
-            parseFXParamValue (parameterBank.getItem (paramNo), path, value);
+            parseFXParamValue (parameterBank.getItem (paramNo - 1), path, value);
+            return;
         }
-        catch (final NumberFormatException ex)
+
+        switch (subCommand)
         {
-            switch (subCommand)
-            {
-                case "+":
-                    if (isTrigger (value))
-                        parameterBank.selectNextPage ();
-                    break;
-
-                case "-":
-                    if (isTrigger (value))
-                        parameterBank.selectPreviousPage ();
-                    break;
-
-                case "page":
-                    final String pageCommand = getSubCommand (path);
-                    if ("select".equals (pageCommand) || "selected".equals (pageCommand))
-                    {
-                        this.selectPage (parameterBank, toInteger (value) - 1);
-                    }
-                    else
-                    {
-                        try
-                        {
-                            final int index = Integer.parseInt (pageCommand) - 1;
-                            this.selectPage (parameterBank, index);
-                        }
-                        catch (final NumberFormatException ex2)
-                        {
-                            throw new UnknownCommandException (pageCommand);
-                        }
-                    }
-                    break;
-
-                default:
-                    throw new UnknownCommandException (subCommand);
-            }
+            case "+":
+                if (isTrigger (value))
+                    parameterBank.selectNextPage ();
+                break;
+
+            case "-":
+                if (isTrigger (value))
+                    parameterBank.selectPreviousPage ();
+                break;
+
+            case "page":
+                final int pageNo = path.peekNumber ();
+                final String pageCommand = getSubCommand (path);
+                if ("select".equals (pageCommand) || "selected".equals (pageCommand))
+                    this.selectPage (parameterBank, toInteger (value) - 1);
+                else if (pageNo != OSCPath.NO_NUMBER)
+                    this.selectPage (parameterBank, pageNo - 1);
+                else
+                    throw new UnknownCommandException (pageCommand);
+                break;
+
+            default:
+                throw new UnknownCommandException (subCommand);
         }
     }
 
@@ -143,7 +150,7 @@ public class UserModule extends AbstractModule
     }
 
 
-    private static void parseFXParamValue (final IParameter parameter, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private static void parseFXParamValue (final IParameter parameter, final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final String command = getSubCommand (path);
         switch (command)
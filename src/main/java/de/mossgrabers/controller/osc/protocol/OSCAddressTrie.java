@@ -0,0 +1,211 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.protocol;
+
+import de.mossgrabers.controller.osc.module.IModule;
+
+import java.util.Arrays;
+
+
+/**
+ * A character trie over OSC addresses. The commands of the modules are compiled into the trie on
+ * registration. Addresses of incoming messages are added on their first occurrence, which stores
+ * the segment strings and their numeric values in the nodes. Therefore, repeated addresses (e.g.
+ * from faders) are split without creating any strings or collections.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+class OSCAddressTrie
+{
+    /** Limits the number of cached nodes if a client sends arbitrary addresses. */
+    private static final int MAX_NODES = 100000;
+
+    private final Node       root      = new Node ('/');
+    private int              nodeCount = 0;
+
+
+    /**
+     * Register a module for a command, which is the first segment of an address.
+     *
+     * @param command The command
+     * @param module The module which handles the command
+     */
+    public void addCommand (final String command, final IModule module)
+    {
+        Node node = this.root;
+        for (int i = 0; i < command.length (); i++)
+            node = node.getOrCreateChild (command.charAt (i));
+        node.setSegment (command);
+        node.module = module;
+    }
+
+
+    /**
+     * Split the address into its segments. Like String.split, empty segments between two slashes
+     * are kept but trailing empty segments are dropped. The leading slash does not start a segment.
+     *
+     * @param address The OSC address
+     * @param path Where to store the segments
+     * @return The module registered for the first segment or null if there is none
+     */
+    public IModule parse (final String address, final OSCPath path)
+    {
+        path.clear ();
+
+        IModule module = null;
+        Node node = this.root;
+        final int length = address.length ();
+        int start = 0;
+        int emptySegments = 0;
+        for (int i = 0; i <= length; i++)
+        {
+            final char c = i == length ? '/' : address.charAt (i);
+            if (c == '/')
+            {
+                if (i == start)
+                {
+                    // Only add empty segments if a non-empty segment follows
+                    if (i > 0)
+                        emptySegments++;
+                }
+                else
+                {
+                    for (; emptySegments > 0; emptySegments--)
+                        path.add ("", OSCPath.NO_NUMBER);
+
+                    if (node == null)
+                    {
+                        final String segment = address.substring (start, i);
+                        path.add (segment, parseNumber (segment));
+                    }
+                    else
+                    {
+                        if (node.segment == null)
+                            node.setSegment (address.substring (start, i));
+                        if (path.isEmpty ())
+                            module = node.module;
+                        path.add (node.segment, node.number);
+                    }
+                }
+                start = i + 1;
+            }
+
+            // The root stands for the leading slash
+            if (node != null && (i > 0 || c != '/') && i < length)
+                node = this.getChild (node, c);
+        }
+        return module;
+    }
+
+
+    /**
+     * Get the child node for the character. Creates it if it does not exist yet and the maximum
+     * number of nodes is not reached.
+     *
+     * @param node The parent node
+     * @param c The character
+     * @return The child node or null
+     */
+    private Node getChild (final Node node, final char c)
+    {
+        final Node child = node.getChild (c);
+        if (child != null || this.nodeCount >= MAX_NODES)
+            return child;
+        this.nodeCount++;
+        return node.getOrCreateChild (c);
+    }
+
+
+    /**
+     * Parse a segment as a positive decimal number.
+     *
+     * @param segment The segment
+     * @return The number or OSCPath.NO_NUMBER if it is not a number
+     */
+    static int parseNumber (final String segment)
+    {
+        // More than 9 digits might overflow
+        if (segment.isEmpty () || segment.length () > 9)
+            return OSCPath.NO_NUMBER;
+        int number = 0;
+        for (int i = 0; i < segment.length (); i++)
+        {
+            final char c = segment.charAt (i);
+            if (c < '0' || c > '9')
+                return OSCPath.NO_NUMBER;
+            number = number * 10 + c - '0';
+        }
+        return number;
+    }
+
+
+    /** A node of the trie. */
+    private static class Node
+    {
+        private final char key;
+        private Node []    children = new Node [0];
+        private String     segment;
+        private int        number   = OSCPath.NO_NUMBER;
+        private IModule    module;
+
+
+        /**
+         * Constructor.
+         *
+         * @param key The character of the node
+         */
+        Node (final char key)
+        {
+            this.key = key;
+        }
+
+
+        /**
+         * Set the segment which ends at this node.
+         *
+         * @param segment The segment
+         */
+        void setSegment (final String segment)
+        {
+            this.segment = segment;
+            this.number = parseNumber (segment);
+        }
+
+
+        /**
+         * Get the child node for the character.
+         *
+         * @param c The character
+         * @return The child or null if there is none
+         */
+        Node getChild (final char c)
+        {
+            for (final Node child: this.children)
+            {
+                if (child.key == c)
+                    return child;
+            }
+            return null;
+        }
+
+
+        /**
+         * Get the child node for the character, creates it if it does not exist.
+         *
+         * @param c The character
+         * @return The child
+         */
+        Node getOrCreateChild (final char c)
+        {
+            final Node child = this.getChild (c);
+            if (child != null)
+                return child;
+            final Node newChild = new Node (c);
+            this.children = Arrays.copyOf (this.children, this.children.length + 1);
+            this.children[this.children.length - 1] = newChild;
+            return newChild;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.protocol;
+
+import java.util.Arrays;
+
+
+/**
+ * The segments of an OSC address which are not yet consumed by the parser. The segments and their
+ * numeric values are filled from the address trie, the path is reused for all messages.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OSCPath
+{
+    /** Marks a segment which is not a number. */
+    public static final int NO_NUMBER = -1;
+
+    private String []       segments  = new String [8];
+    private int []          numbers   = new int [8];
+    private int             size;
+    private int             position;
+
+
+    /**
+     * Remove all segments.
+     */
+    void clear ()
+    {
+        this.size = 0;
+        this.position = 0;
+    }
+
+
+    /**
+     * Append a segment.
+     *
+     * @param segment The segment
+     * @param number The numeric value of the segment or NO_NUMBER
+     */
+    void add (final String segment, final int number)
+    {
+        if (this.size == this.segments.length)
+        {
+            this.segments = Arrays.copyOf (this.segments, this.size * 2);
+            this.numbers = Arrays.copyOf (this.numbers, this.size * 2);
+        }
+        this.segments[this.size] = segment;
+        this.numbers[this.size] = number;
+        this.size++;
+    }
+
+
+    /**
+     * Check if there are no more segments.
+     *
+     * @return True if empty
+     */
+    public boolean isEmpty ()
+    {
+        return this.position >= this.size;
+    }
+
+
+    /**
+     * Get a segment without removing it.
+     *
+     * @param index The index of the segment relative to the first remaining segment
+     * @return The segment
+     * @throws IndexOutOfBoundsException There is no such segment
+     */
+    public String get (final int index)
+    {
+        final int pos = this.position + index;
+        if (index < 0 || pos >= this.size)
+            throw new IndexOutOfBoundsException (Integer.toString (index));
+        return this.segments[pos];
+    }
+
+
+    /**
+     * Get the numeric value of the first remaining segment without removing it.
+     *
+     * @return The positive number or NO_NUMBER if the path is empty or the segment is not a number
+     */
+    public int peekNumber ()
+    {
+        return this.isEmpty () ? NO_NUMBER : this.numbers[this.position];
+    }
+
+
+    /**
+     * Remove the first remaining segment.
+     *
+     * @return The segment
+     * @throws IndexOutOfBoundsException There are no more segments
+     */
+    public String removeFirst ()
+    {
+        final String segment = this.get (0);
+        this.position++;
+        return segment;
+    }
+
+
+    /**
+     * Put the last removed segment back to the front of the path.
+     */
+    public void revertFirst ()
+    {
+        if (this.position > 0)
+            this.position--;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        final StringBuilder sb = new StringBuilder ();
+        for (int i = this.position; i < this.size; i++)
+            sb.append ('/').append (this.segments[i]);
+        return sb.toString ();
+    }
+}
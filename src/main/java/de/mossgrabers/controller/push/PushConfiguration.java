@@ -10,6 +10,7 @@ import de.mossgrabers.framework.configuration.IColorSetting;
 import de.mossgrabers.framework.configuration.IEnumSetting;
 import de.mossgrabers.framework.configuration.IIntegerSetting;
 import de.mossgrabers.framework.configuration.ISettingsUI;
+import de.mossgrabers.framework.configuration.IStringSetting;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
@@ -126,6 +127,8 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
     private static final String     CATEGORY_RIBBON                 = "Ribbon";
     private static final String     CATEGORY_COLORS                 = "Display Colors";
 
+    private static final int        MAX_FINGERPRINTS_LENGTH         = 256;
+
     private static final String []  RIBBON_MODE_VALUES              =
     {
         "Pitch",
@@ -236,6 +239,9 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
     private int             padSensitivity              = 5;
     private int             padGain                     = 5;
     private int             padDynamics                 = 5;
+    private int             paletteRequestWindow        = 8;
+    private boolean         displayDithering            = false;
+    private int             spriteCacheSize             = 256;
     private ColorEx         colorBackground             = DEFAULT_COLOR_BACKGROUND;
     private ColorEx         colorBorder                 = DEFAULT_COLOR_BORDER;
     private ColorEx         colorText                   = DEFAULT_COLOR_TEXT;
@@ -274,6 +280,7 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
     private IColorSetting   colorMuteSetting;
     private IEnumSetting    sessionViewSetting;
     private IEnumSetting    displayScenesClipsSetting;
+    private IStringSetting  paletteFingerprintsSetting;
 
 
     /**
@@ -350,6 +357,7 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
         this.activateStopAutomationOnKnobReleaseSetting (globalSettings);
         this.activateNewClipLengthSetting (globalSettings);
         this.activateKnobSpeedSetting (globalSettings);
+        this.activateFrameRateSetting (globalSettings);
 
         this.activateUserPageNamesSetting (documentSettings);
 
@@ -628,6 +636,73 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
     }
 
 
+    /**
+     * Should the colors of the display be dithered? Reduces the banding of gradients.
+     *
+     * @return True if enabled
+     */
+    public boolean isDisplayDithering ()
+    {
+        return this.displayDithering;
+    }
+
+
+    /**
+     * Get the maximum number of color palette requests which are sent to the Push 2 without
+     * waiting for the answers.
+     *
+     * @return The number of requests
+     */
+    public int getPaletteRequestWindow ()
+    {
+        return this.paletteRequestWindow;
+    }
+
+
+    /**
+     * Get the fingerprint of the color palette which was last written successfully to the device
+     * with the given serial number.
+     *
+     * @param serialNumber The serial number of the device
+     * @return The fingerprint or null if none is stored
+     */
+    public String getPaletteFingerprint (final int serialNumber)
+    {
+        if (this.paletteFingerprintsSetting == null)
+            return null;
+        final String prefix = serialNumber + ":";
+        for (final String entry: this.paletteFingerprintsSetting.get ().split (","))
+        {
+            if (entry.startsWith (prefix))
+                return entry.substring (prefix.length ());
+        }
+        return null;
+    }
+
+
+    /**
+     * Store the fingerprint of the color palette which was written successfully to the device with
+     * the given serial number.
+     *
+     * @param serialNumber The serial number of the device
+     * @param fingerprint The fingerprint
+     */
+    public void setPaletteFingerprint (final int serialNumber, final String fingerprint)
+    {
+        if (this.paletteFingerprintsSetting == null)
+            return;
+        final String prefix = serialNumber + ":";
+        final StringBuilder sb = new StringBuilder (prefix).append (fingerprint);
+        for (final String entry: this.paletteFingerprintsSetting.get ().split (","))
+        {
+            // The latest entry comes first, older ones are dropped if the text gets too long
+            if (!entry.isEmpty () && !entry.startsWith (prefix) && sb.length () + entry.length () < MAX_FINGERPRINTS_LENGTH)
+                sb.append (',').append (entry);
+        }
+        this.paletteFingerprintsSetting.set (sb.toString ());
+    }
+
+
     /**
      * Set the LED brightness.
      *
@@ -1027,6 +1102,14 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getSpriteCacheSize ()
+    {
+        return this.spriteCacheSize;
+    }
+
+
     /**
      * Get the selected display mode for debugging.
      *
@@ -1141,6 +1224,19 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
             this.ledBrightness = value.intValue ();
             this.notifyObservers (LED_BRIGHTNESS);
         });
+
+        final IEnumSetting displayDitheringSetting = settingsUI.getEnumSetting ("Display dithering", CATEGORY_HARDWARE_SETUP, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        displayDitheringSetting.addValueObserver (value -> this.displayDithering = "On".equals (value));
+
+        final IIntegerSetting spriteCacheSizeSetting = settingsUI.getRangeSetting ("Display sprite cache size", CATEGORY_HARDWARE_SETUP, 0, 1024, 16, "", 256);
+        spriteCacheSizeSetting.addValueObserver (value -> this.spriteCacheSize = value.intValue ());
+
+        final IIntegerSetting paletteRequestWindowSetting = settingsUI.getRangeSetting ("Color palette requests in flight (requires restart)", CATEGORY_HARDWARE_SETUP, 1, 32, 1, "", 8);
+        this.paletteRequestWindow = paletteRequestWindowSetting.get ().intValue ();
+
+        // Stores the fingerprint of the last color palette written to a device as
+        // 'serial:fingerprint' pairs separated by commas
+        this.paletteFingerprintsSetting = settingsUI.getStringSetting ("Color palette fingerprints", CATEGORY_DEBUG, MAX_FINGERPRINTS_LENGTH, "");
     }
 
 
@@ -4,6 +4,9 @@
 
 package de.mossgrabers.controller.push.controller;
 
+import java.util.zip.CRC32;
+
+
 /**
  * A color palette entry of the Push 2.
  *
@@ -63,6 +66,25 @@ public class PaletteEntry
     }
 
 
+    /**
+     * Create a fingerprint of the colors of the given palette.
+     *
+     * @param palette The palette entries
+     * @return The fingerprint as a hex string
+     */
+    public static String createFingerprint (final PaletteEntry [] palette)
+    {
+        final CRC32 crc = new CRC32 ();
+        for (final PaletteEntry entry: palette)
+        {
+            crc.update (entry.red);
+            crc.update (entry.green);
+            crc.update (entry.blue);
+        }
+        return Long.toHexString (crc.getValue ());
+    }
+
+
     /**
      * Test if the received data is the same as the already stored one.
      *
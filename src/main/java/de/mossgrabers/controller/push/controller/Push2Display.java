@@ -33,7 +33,7 @@ public class Push2Display extends AbstractGraphicDisplay
     {
         super (host, configuration, new DefaultGraphicsDimensions (960, 160, maxParameterValue), "Push 2 Display");
 
-        this.usbDisplay = new PushUsbDisplay (host);
+        this.usbDisplay = new PushUsbDisplay (host, configuration);
     }
 
 
@@ -66,6 +66,6 @@ public class Push2Display extends AbstractGraphicDisplay
     protected void send (final IBitmap image)
     {
         if (this.usbDisplay != null)
-            this.usbDisplay.send (image);
+            this.usbDisplay.send (image, this.getChangedAreas ());
     }
 }
\ No newline at end of file
@@ -445,8 +445,27 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
         0x01
     };
 
+    private static final int []    PALETTE_ALL_ENTRIES           = new int [128];
+    private static final int []    PALETTE_CHECK_ENTRIES         = new int [8];
+
+    static
+    {
+        for (int i = 0; i < PALETTE_ALL_ENTRIES.length; i++)
+            PALETTE_ALL_ENTRIES[i] = i;
+        for (int i = 0; i < PALETTE_CHECK_ENTRIES.length; i++)
+            PALETTE_CHECK_ENTRIES[i] = i * 127 / (PALETTE_CHECK_ENTRIES.length - 1);
+    }
+
     private final PaletteEntry []  colorPalette                  = new PaletteEntry [128];
     private boolean                colorPaletteHasUpdate         = false;
+    private boolean                colorPaletteSyncRequested     = false;
+    private int []                 colorPaletteReadEntries       = null;
+    private int                    colorPaletteNextRead          = 0;
+    private int                    colorPaletteOpenReads         = 0;
+    private final int []           colorPaletteWrites            = new int [128];
+    private int                    colorPaletteNumWrites         = 0;
+    private int                    colorPaletteTotalWrites       = 0;
+    private long                   colorPaletteSyncStart         = 0;
 
     private int                    ribbonMode                    = -1;
     private int                    ribbonValue                   = -1;
@@ -860,6 +879,9 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
             this.buildNumber = revisionLevel[2] + (revisionLevel[3] << 7);
             this.serialNumber = revisionLevel[4] + (revisionLevel[5] << 7) + (revisionLevel[6] << 14) + (revisionLevel[7] << 21) + (revisionLevel[8] << 28);
             this.boardRevision = revisionLevel[9];
+
+            // The serial number is known now, which is required to check the palette fingerprint
+            this.startColorPaletteSync ();
         }
         else
         {
@@ -953,12 +975,72 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
 
 
     /**
-     * Request the full color palette.
+     * Synchronize the color palette of the Push 2 with the palette of the color manager. The
+     * synchronization starts as soon as the serial number of the device is known (or latest after
+     * 1 second).
      */
     public void updateColorPalette ()
     {
-        // Retrieve the first, all others are requested after the previous one was received
-        this.sendColorPaletteRequest (0);
+        synchronized (this.colorPalette)
+        {
+            this.colorPaletteSyncRequested = true;
+        }
+        this.scheduleTask (this::startColorPaletteSync, 1000);
+    }
+
+
+    /**
+     * Start the synchronization of the color palette, if requested. If the fingerprint of the
+     * palette matches the one which was last written to the device with the same serial number,
+     * only a few entries are read back to check that the palette is still present. Otherwise, all
+     * entries are read and updated.
+     */
+    private void startColorPaletteSync ()
+    {
+        synchronized (this.colorPalette)
+        {
+            if (!this.colorPaletteSyncRequested)
+                return;
+            this.colorPaletteSyncRequested = false;
+
+            this.colorPaletteSyncStart = System.currentTimeMillis ();
+            this.colorPaletteTotalWrites = 0;
+
+            final boolean isKnown = this.serialNumber >= 0 && PaletteEntry.createFingerprint (this.colorPalette).equals (this.configuration.getPaletteFingerprint (this.serialNumber));
+            this.startColorPaletteReadPass (isKnown ? PALETTE_CHECK_ENTRIES : PALETTE_ALL_ENTRIES);
+        }
+    }
+
+
+    /**
+     * Start reading the given palette entries. The requests are pipelined, up to the configured
+     * number of requests are sent without waiting for the answers.
+     *
+     * @param entries The indices of the palette entries to read
+     */
+    private void startColorPaletteReadPass (final int [] entries)
+    {
+        this.colorPaletteReadEntries = entries;
+        this.colorPaletteNextRead = 0;
+        this.colorPaletteOpenReads = 0;
+        this.colorPaletteNumWrites = 0;
+        this.colorPaletteHasUpdate = false;
+        this.sendNextColorPaletteRequests ();
+    }
+
+
+    /**
+     * Fill up the window of open palette read requests.
+     */
+    private void sendNextColorPaletteRequests ()
+    {
+        final int window = this.configuration.getPaletteRequestWindow ();
+        while (this.colorPaletteOpenReads < window && this.colorPaletteNextRead < this.colorPaletteReadEntries.length)
+        {
+            this.sendColorPaletteRequest (this.colorPaletteReadEntries[this.colorPaletteNextRead]);
+            this.colorPaletteNextRead++;
+            this.colorPaletteOpenReads++;
+        }
     }
 
 
@@ -972,46 +1054,85 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
         synchronized (this.colorPalette)
         {
             final int index = data[7];
+            final PaletteEntry entry = this.colorPalette[index];
+
+            // Ignore answers which were not requested (e.g. a late answer of a resent request)
+            if (this.colorPaletteReadEntries == null || !entry.requiresRead ())
+                return;
+            this.colorPaletteOpenReads--;
 
             // Is an update necessary?
-            if (this.colorPalette[index].requiresUpdate (data))
+            if (entry.requiresUpdate (data))
             {
                 this.colorPaletteHasUpdate = true;
 
-                if (this.colorPalette[index].hasMaxNumberOfWriteRetriesReached ())
+                if (entry.hasMaxNumberOfWriteRetriesReached ())
                 {
                     // Cancel the whole process
+                    this.colorPaletteReadEntries = null;
                     this.host.error ("Failed writing color palette entry #" + index + ". Gave up after " + PaletteEntry.MAX_NUMBER_OF_RETRIES + " retries. Check selected MIDI in-/outputs.");
                     return;
                 }
 
-                this.colorPalette[index].incWriteRetries ();
-                this.sendPush2SysEx (this.colorPalette[index].createUpdateMessage (index));
+                // Only a check of some entries, the full palette is read afterwards
+                if (this.colorPaletteReadEntries == PALETTE_CHECK_ENTRIES)
+                    entry.setOK ();
+                else
+                {
+                    entry.incWriteRetries ();
+                    this.colorPaletteWrites[this.colorPaletteNumWrites++] = index;
+                }
             }
             else
             {
-                this.colorPalette[index].setOK ();
+                entry.setOK ();
 
-                final int retries = this.colorPalette[index].getWriteRetries ();
+                final int retries = entry.getWriteRetries ();
                 if (retries > 1)
                     this.host.println ("Success writing color palette entry #" + index + " after " + retries + " attempts.");
             }
 
-            if (index < 127)
-            {
-                this.sendColorPaletteRequest (index + 1);
-                return;
-            }
+            this.sendNextColorPaletteRequests ();
+            if (this.colorPaletteOpenReads == 0 && this.colorPaletteNextRead == this.colorPaletteReadEntries.length)
+                this.finishColorPaletteReadPass ();
+        }
+    }
+
+
+    /**
+     * All entries of a read pass were received. Write all entries which differ at once and read the
+     * palette again to confirm that it was written.
+     */
+    private void finishColorPaletteReadPass ()
+    {
+        if (!this.colorPaletteHasUpdate)
+        {
+            this.colorPaletteReadEntries = null;
+            if (this.serialNumber >= 0)
+                this.configuration.setPaletteFingerprint (this.serialNumber, PaletteEntry.createFingerprint (this.colorPalette));
+            this.host.println ("Color palette synchronized in " + (System.currentTimeMillis () - this.colorPaletteSyncStart) + "ms, " + this.colorPaletteTotalWrites + " entries written.");
+            return;
         }
 
-        // Re-apply the color palette, if necessary
-        if (this.colorPaletteHasUpdate)
+        if (this.colorPaletteReadEntries == PALETTE_CHECK_ENTRIES)
         {
-            this.host.scheduleTask ( () -> this.output.sendSysex ("F0 00 21 1D 01 01 05 F7"), 1000);
+            this.host.println ("Color palette of the device has changed. Starting full synchronization.");
+            this.startColorPaletteReadPass (PALETTE_ALL_ENTRIES);
+            return;
+        }
 
-            // Request all values again to confirm it was written
-            this.sendColorPaletteRequest (0);
+        for (int i = 0; i < this.colorPaletteNumWrites; i++)
+        {
+            final int index = this.colorPaletteWrites[i];
+            this.sendPush2SysEx (this.colorPalette[index].createUpdateMessage (index));
         }
+        this.colorPaletteTotalWrites += this.colorPaletteNumWrites;
+
+        // Re-apply the color palette
+        this.host.scheduleTask ( () -> this.output.sendSysex ("F0 00 21 1D 01 01 05 F7"), 1000);
+
+        // Request all values again to confirm it was written
+        this.startColorPaletteReadPass (PALETTE_ALL_ENTRIES);
     }
 
 
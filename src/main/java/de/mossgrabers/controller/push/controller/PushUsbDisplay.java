@@ -4,14 +4,21 @@
 
 package de.mossgrabers.controller.push.controller;
 
+import de.mossgrabers.controller.push.PushConfiguration;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IMemoryBlock;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IBounds;
+import de.mossgrabers.framework.graphics.RGB565Converter;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.IUsbEndpoint;
 import de.mossgrabers.framework.usb.UsbException;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -29,6 +36,12 @@ public class PushUsbDisplay
 
     private static final int               TIMEOUT          = 1000;
 
+    /**
+     * The display turns black if it does not receive a frame for 2 seconds. Therefore, an
+     * unchanged frame is sent again after this time in milliseconds.
+     */
+    private static final long              KEEP_ALIVE       = 1000;
+
     private static final byte []           DISPLAY_HEADER   =
     {
         (byte) 0xef,
@@ -52,9 +65,15 @@ public class PushUsbDisplay
     private IUsbDevice                     usbDevice;
     private IUsbEndpoint                   usbEndpoint;
     private final IHost                    host;
+    private final PushConfiguration        configuration;
     private final IMemoryBlock             headerBlock;
     private final IMemoryBlock             imageBlock;
-    private final byte []                  byteStore        = new byte [DATA_SZ];
+    private final short []                 pixelStore       = new short [DATA_SZ / 2];
+    private int []                         sourceStore      = new int [0];
+    private int []                         sourceLine       = new int [0];
+    private boolean                        isDirty          = true;
+    private boolean                        isDithering      = false;
+    private long                           lastSendTime     = 0;
 
     private Object                         sendLock         = new Object ();
     private Object                         bufferUpdateLock = new Object ();
@@ -65,10 +84,12 @@ public class PushUsbDisplay
      * Connect to the USB port and claim the display interface.
      *
      * @param host The controller host
+     * @param configuration The configuration
      */
-    public PushUsbDisplay (final IHost host)
+    public PushUsbDisplay (final IHost host, final PushConfiguration configuration)
     {
         this.host = host;
+        this.configuration = configuration;
 
         try
         {
@@ -89,65 +110,130 @@ public class PushUsbDisplay
 
 
     /**
-     * Send the buffered image to the screen.
+     * Send the buffered image to the screen. Only the changed areas of the image are compared line
+     * by line with the previously sent one. Only changed lines are converted and the image is only
+     * transferred if at least one line has changed (or the keep alive time has elapsed). The whole
+     * image is converted again if the dithering setting has changed.
      *
      * @param image An image of size 960 x 160 pixel
+     * @param changedAreas The areas of the image which have changed since the last call
      */
-    public void send (final IBitmap image)
+    public void send (final IBitmap image, final List<IBounds> changedAreas)
     {
-        // Copy to the buffer
+        // Copy the changed lines to the buffer
         synchronized (this.bufferUpdateLock)
         {
-            image.encode ( (imageBuffer, width, height) -> {
+            if (!changedAreas.isEmpty () || this.sourceStore.length == 0 || this.configuration.isDisplayDithering () != this.isDithering)
+                image.encode ( (imageBuffer, width, height) -> this.encode (imageBuffer, width, height, changedAreas));
 
-                int counter = 0;
-                final int padding = (DATA_SZ - height * width * 2) / height;
-
-                for (int y = 0; y < height; y++)
-                {
-                    for (int x = 0; x < width; x++)
-                    {
-                        final int blue = imageBuffer.get ();
-                        final int green = imageBuffer.get ();
-                        final int red = imageBuffer.get ();
-                        imageBuffer.get (); // Drop unused Alpha
-
-                        final int pixel = sPixelFromRGB (red, green, blue);
+            if (!this.needsTransfer ())
+                return;
+        }
 
-                        this.byteStore[counter] = (byte) (pixel & 0x00FF);
-                        this.byteStore[counter + 1] = (byte) ((pixel & 0xFF00) >> 8);
+        synchronized (this.sendLock)
+        {
+            if (!this.sendExecutor.isShutdown ())
+                this.sendExecutor.submit (this::sendData);
+        }
+    }
 
-                        counter += 2;
-                    }
 
-                    for (int x = 0; x < padding; x++)
-                    {
-                        this.byteStore[counter] = (byte) 0x00;
-                        counter++;
-                    }
-                }
+    /**
+     * Compares the horizontal range of the changed areas of each line of the image with the source
+     * store and converts the changed lines.
+     *
+     * @param imageBuffer The buffer with the image data
+     * @param width The width of the image
+     * @param height The height of the image
+     * @param changedAreas The areas of the image which have changed since the last call
+     */
+    private void encode (final ByteBuffer imageBuffer, final int width, final int height, final List<IBounds> changedAreas)
+    {
+        final int sourceSize = width * height;
+        final boolean dither = this.configuration.isDisplayDithering ();
 
-                imageBuffer.rewind ();
-            });
+        int startX = width;
+        int endX = 0;
+        boolean convertAll = false;
+        if (this.sourceStore.length != sourceSize || dither != this.isDithering)
+        {
+            this.sourceStore = new int [sourceSize];
+            this.sourceLine = new int [width];
+            Arrays.fill (this.pixelStore, (short) 0);
+            this.isDirty = true;
+            this.isDithering = dither;
+            convertAll = true;
+            startX = 0;
+            endX = width;
+        }
+        else
+        {
+            for (final IBounds area: changedAreas)
+            {
+                startX = Math.min (startX, Math.max (0, (int) Math.floor (area.getLeft ())));
+                endX = Math.max (endX, Math.min (width, (int) Math.ceil (area.getLeft () + area.getWidth ())));
+            }
         }
 
-        synchronized (this.sendLock)
+        // The pixels are stored as blue, green, red, alpha bytes, read as little endian integers
+        // they are 0xAARRGGBB
+        final IntBuffer pixels = imageBuffer.duplicate ().order (ByteOrder.LITTLE_ENDIAN).asIntBuffer ();
+        for (int y = 0; y < height && startX < endX; y++)
         {
-            if (!this.sendExecutor.isShutdown ())
-                this.sendExecutor.submit (this::sendData);
+            pixels.get (this.sourceLine);
+            final int sourceOffset = y * width;
+            if (!convertAll && Arrays.equals (this.sourceLine, startX, endX, this.sourceStore, sourceOffset + startX, sourceOffset + endX))
+                continue;
+            System.arraycopy (this.sourceLine, startX, this.sourceStore, sourceOffset + startX, endX - startX);
+            this.convertLine (y, startX, endX, width, height);
         }
     }
 
 
+    /**
+     * Converts a range of one line of the source store into the RGB565 format of the display.
+     *
+     * @param y The index of the line
+     * @param startX The first pixel of the range
+     * @param endX The end of the range (exclusive)
+     * @param width The width of the image
+     * @param height The height of the image
+     */
+    private void convertLine (final int y, final int startX, final int endX, final int width, final int height)
+    {
+        final int lineSize = DATA_SZ / 2 / height;
+        RGB565Converter.convertLine (this.sourceStore, y * width + startX, this.pixelStore, y * lineSize + startX, startX, y, endX - startX, this.isDithering);
+
+        // The padding pixels at the end of the line stay 0
+        this.isDirty = true;
+    }
+
+
+    /**
+     * Test if the buffer needs to be transferred. Must be called with the buffer update lock.
+     *
+     * @return True if it has changed or the keep alive time has elapsed
+     */
+    private boolean needsTransfer ()
+    {
+        return this.isDirty || System.currentTimeMillis () - this.lastSendTime >= KEEP_ALIVE;
+    }
+
+
     private void sendData ()
     {
         // Copy the data from the buffer to the USB block
         synchronized (this.bufferUpdateLock)
         {
+            if (!this.needsTransfer ())
+                return;
+
             final ByteBuffer buffer = this.imageBlock.createByteBuffer ();
             buffer.clear ();
-            for (int i = 0; i < DATA_SZ; i++)
-                buffer.put (this.byteStore[i]);
+            buffer.order (ByteOrder.LITTLE_ENDIAN).asShortBuffer ().put (this.pixelStore);
+
+            this.isDirty = false;
+            this.lastSendTime = System.currentTimeMillis ();
         }
 
         // Send the data
@@ -184,15 +270,4 @@ public class PushUsbDisplay
             }
         }
     }
-
-
-    private static int sPixelFromRGB (final int red, final int green, final int blue)
-    {
-        int pixel = (blue & 0xF8) >> 3;
-        pixel <<= 6;
-        pixel += (green & 0xFC) >> 2;
-        pixel <<= 5;
-        pixel += (red & 0xF8) >> 3;
-        return pixel;
-    }
 }
@@ -8,6 +8,7 @@ import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 import de.mossgrabers.framework.utils.StringUtils;
 
 
@@ -18,12 +19,11 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class SLMkIIIDisplay extends AbstractTextDisplay
 {
-    private static final String  MKIII_SYSEX_HEADER               = "F0 00 20 29 02 0A 01 ";
-    private static final String  MKIII_SYSEX_LAYOUT_COMMAND       = MKIII_SYSEX_HEADER + "01 %02d F7";
-    private static final String  MKIII_SYSEX_PROPERTY_COMMAND     = MKIII_SYSEX_HEADER + "02 %02d %02d %02d %s F7";
-    private static final String  MKIII_SYSEX_LED_COMMAND          = MKIII_SYSEX_HEADER + "03 %02X 01 %02X %02X %02X F7";
-
-    private static final String  MKIII_SYSEX_NOTIFICATION_COMMAND = MKIII_SYSEX_HEADER + "04 %s F7";
+    private static final String  MKIII_SYSEX_HEADER               = "F0 00 20 29 02 0A 01";
+    private static final int     MKIII_SYSEX_LAYOUT_COMMAND       = 0x01;
+    private static final int     MKIII_SYSEX_PROPERTY_COMMAND     = 0x02;
+    private static final int     MKIII_SYSEX_LED_COMMAND          = 0x03;
+    private static final int     MKIII_SYSEX_NOTIFICATION_COMMAND = 0x04;
 
     /** The empty layout. */
     public static final Integer  SCREEN_LAYOUT_EMPTY              = Integer.valueOf (0);
@@ -32,13 +32,14 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
     /** The layout with larger selection boxes. */
     public static final Integer  SCREEN_LAYOUT_BOX                = Integer.valueOf (2);
 
-    private static final Integer PROPERTY_TEXT                    = Integer.valueOf (1);
-    private static final Integer PROPERTY_COLOR                   = Integer.valueOf (2);
-    private static final Integer PROPERTY_VALUE                   = Integer.valueOf (3);
+    private static final int     PROPERTY_TEXT                    = 1;
+    private static final int     PROPERTY_COLOR                   = 2;
+    private static final int     PROPERTY_VALUE                   = 3;
 
     private final String []      ledCache                         = new String [8];
     private final int [] []      displayColorCache                = new int [9] [4];
     private final int [] []      displayValueCache                = new int [9] [4];
+    private final SysExBuilder   builder                          = new SysExBuilder (MKIII_SYSEX_HEADER);
 
 
     /**
@@ -77,7 +78,11 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
      */
     public void setDisplayLayout (final Integer layout)
     {
-        this.output.sendSysex (String.format (MKIII_SYSEX_LAYOUT_COMMAND, layout));
+        synchronized (this.builder)
+        {
+            this.builder.reset ().add (MKIII_SYSEX_LAYOUT_COMMAND, layout.intValue ());
+            this.output.sendSysex (this.builder);
+        }
         this.clearDisplayCache ();
         this.forceFlush ();
     }
@@ -105,7 +110,11 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
     public void setFaderLEDColor (final int led, final ColorEx color)
     {
         final int [] rgb = color.toIntRGB127 ();
-        this.output.sendSysex (String.format (MKIII_SYSEX_LED_COMMAND, Integer.valueOf (led), Integer.valueOf (rgb[0]), Integer.valueOf (rgb[1]), Integer.valueOf (rgb[2])));
+        synchronized (this.builder)
+        {
+            this.builder.reset ().add (MKIII_SYSEX_LED_COMMAND, led, 0x01, rgb[0], rgb[1], rgb[2]);
+            this.output.sendSysex (this.builder);
+        }
     }
 
 
@@ -122,7 +131,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             return;
         this.displayColorCache[hPosition][vPosition] = color;
 
-        this.setProperty (PROPERTY_COLOR, hPosition, vPosition, StringUtils.toHexStr (color));
+        this.setProperty (PROPERTY_COLOR, hPosition, vPosition, color);
     }
 
 
@@ -139,8 +148,11 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
         String ascii = StringUtils.fixASCII (text);
         if (ascii.length () > 9)
             ascii = ascii.substring (0, 9);
-        final String value = StringUtils.toHexStr (ascii.getBytes ()) + "00";
-        this.setProperty (PROPERTY_TEXT, hPosition, vPosition, value);
+        synchronized (this.builder)
+        {
+            this.builder.reset ().add (MKIII_SYSEX_PROPERTY_COMMAND, hPosition, PROPERTY_TEXT, vPosition).addText (ascii).add (0x00);
+            this.output.sendSysex (this.builder);
+        }
     }
 
 
@@ -157,7 +169,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             return;
         this.displayValueCache[hPosition][vPosition] = value;
 
-        this.setProperty (PROPERTY_VALUE, hPosition, vPosition, StringUtils.toHexStr (value));
+        this.setProperty (PROPERTY_VALUE, hPosition, vPosition, value);
     }
 
 
@@ -167,12 +179,15 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
      * @param property The property: PROPERTY_TEXT, PROPERTY_COLOR or PROPERTY_VALUE
      * @param hPosition The horizontal position (0-8)
      * @param vPosition The vertical position (0-5)
-     * @param values The formatted values to insert
+     * @param value The value to set
      */
-    private void setProperty (final Integer property, final int hPosition, final int vPosition, final String values)
+    private void setProperty (final int property, final int hPosition, final int vPosition, final int value)
     {
-        final String msg = String.format (MKIII_SYSEX_PROPERTY_COMMAND, Integer.valueOf (hPosition), property, Integer.valueOf (vPosition), values);
-        this.output.sendSysex (msg);
+        synchronized (this.builder)
+        {
+            this.builder.reset ().add (MKIII_SYSEX_PROPERTY_COMMAND, hPosition, property, vPosition, value);
+            this.output.sendSysex (this.builder);
+        }
     }
 
 
@@ -195,9 +210,11 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             text2 = "";
         }
 
-        final String content = StringUtils.asciiToHex (text1) + "00 " + StringUtils.asciiToHex (text2) + "00";
-        final String msg = String.format (MKIII_SYSEX_NOTIFICATION_COMMAND, content);
-        this.output.sendSysex (msg);
+        synchronized (this.builder)
+        {
+            this.builder.reset ().add (MKIII_SYSEX_NOTIFICATION_COMMAND).addText (text1).add (0x00).addText (text2).add (0x00);
+            this.output.sendSysex (this.builder);
+        }
     }
 
 
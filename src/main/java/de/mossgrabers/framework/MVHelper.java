@@ -15,6 +15,7 @@ import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.IParameterBank;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.featuregroup.IMode;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -30,14 +31,16 @@ import java.util.function.Supplier;
  */
 public class MVHelper<S extends IControlSurface<C>, C extends Configuration>
 {
-    private static final String SELECTED_TRACK_NONE = "Selected track: None";
-    private static final String NONE                = "None";
-    private static final int    DISPLAY_DELAY       = 100;
+    private static final String    SELECTED_TRACK_NONE = "Selected track: None";
+    private static final String    NONE                = "None";
+    private static final int       DISPLAY_DELAY       = 100;
 
-    private final IModel        model;
-    private final ITransport    transport;
-    private final S             surface;
-    private final IDisplay      display;
+    private final IModel           model;
+    private final ITransport       transport;
+    private final S                surface;
+    private final IDisplay         display;
+    private final TimerWheel.Timer delayTimer;
+    private Supplier<String>       delayedSupplier;
 
 
     /**
@@ -52,6 +55,7 @@ public class MVHelper<S extends IControlSurface<C>, C extends Configuration>
         this.surface = surface;
         this.display = this.surface == null ? null : this.surface.getDisplay ();
         this.transport = this.model == null ? null : this.model.getTransport ();
+        this.delayTimer = this.surface == null ? null : this.surface.getTimerWheel ().createTimer (this::notifyDelayed);
     }
 
 
@@ -164,12 +168,31 @@ public class MVHelper<S extends IControlSurface<C>, C extends Configuration>
 
 
     /**
-     * Notify a text after 200ms.
+     * Notify a text after 100ms.
      *
      * @param supplier The supplier to provide the text
      */
     public void delayDisplay (final Supplier<String> supplier)
     {
-        this.surface.scheduleTask ( () -> this.display.notify (supplier.get ()), DISPLAY_DELAY);
+        synchronized (this.delayTimer)
+        {
+            // Only the latest text is displayed but do not postpone it on continuous changes
+            this.delayedSupplier = supplier;
+            if (!this.delayTimer.isActive ())
+                this.delayTimer.start (DISPLAY_DELAY);
+        }
+    }
+
+
+    private void notifyDelayed ()
+    {
+        final Supplier<String> supplier;
+        synchronized (this.delayTimer)
+        {
+            supplier = this.delayedSupplier;
+            this.delayedSupplier = null;
+        }
+        if (supplier != null)
+            this.display.notify (supplier.get ());
     }
 }
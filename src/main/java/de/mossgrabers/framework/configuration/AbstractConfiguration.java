@@ -118,6 +118,12 @@ public abstract class AbstractConfiguration implements Configuration
     public static final Integer      SHIFTED_RECORD_BUTTON_FUNCTION    = Integer.valueOf (37);
     /** Show tracks hierarchical (instead of flat) if enabled. */
     public static final Integer      HIERARCHICAL_TRACKS               = Integer.valueOf (38);
+    /** The window in which the changes of a knob are summed up. */
+    public static final Integer      KNOB_CHANGE_WINDOW                = Integer.valueOf (39);
+    /** The acceleration of a knob. */
+    public static final Integer      KNOB_ACCELERATION                 = Integer.valueOf (40);
+    /** The maximum number of frames per second to update the surface. */
+    public static final Integer      FRAME_RATE                        = Integer.valueOf (41);
 
     // Implementation IDs start at 50
 
@@ -170,6 +176,41 @@ public abstract class AbstractConfiguration implements Configuration
 
     protected static final String [] OPTIONS_MIDI_CHANNEL              = new String [16];
     protected static final String [] KNOB_SENSITIVITY                  = new String [201];
+    protected static final String [] KNOB_CHANGE_WINDOW_OPTIONS        =
+    {
+        "Off",
+        "10 ms",
+        "20 ms",
+        "40 ms"
+    };
+    private static final int []      KNOB_CHANGE_WINDOW_VALUES         =
+    {
+        0,
+        10,
+        20,
+        40
+    };
+    protected static final String [] KNOB_ACCELERATION_OPTIONS         =
+    {
+        "Off",
+        "Low",
+        "Medium",
+        "High"
+    };
+    protected static final String [] FRAME_RATE_OPTIONS                =
+    {
+        "Unlimited",
+        "60",
+        "30",
+        "20"
+    };
+    private static final int []      FRAME_RATE_VALUES                 =
+    {
+        0,
+        60,
+        30,
+        20
+    };
     static
     {
         for (int i = 0; i < OPTIONS_MIDI_CHANNEL.length; i++)
@@ -389,6 +430,9 @@ public abstract class AbstractConfiguration implements Configuration
     };
     private int                                       knobSpeedDefault            = 0;
     private int                                       knobSpeedSlow               = -40;
+    private int                                       knobChangeWindow            = 0;
+    private int                                       knobAcceleration            = 0;
+    private int                                       frameRate                   = 0;
 
     private boolean                                   noteRepeatActive            = false;
     private Resolution                                noteRepeatPeriod            = Resolution.RES_1_8;
@@ -777,6 +821,30 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getKnobChangeWindow ()
+    {
+        return this.knobChangeWindow;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getKnobAcceleration ()
+    {
+        return this.knobAcceleration;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getFrameRate ()
+    {
+        return this.frameRate;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean isNoteRepeatActive ()
@@ -1338,8 +1406,38 @@ public abstract class AbstractConfiguration implements Configuration
             this.notifyObservers (KNOB_SENSITIVITY_SLOW);
         });
 
+        final IEnumSetting knobChangeWindowSetting = settingsUI.getEnumSetting ("Knob Change Window", CATEGORY_WORKFLOW, KNOB_CHANGE_WINDOW_OPTIONS, KNOB_CHANGE_WINDOW_OPTIONS[0]);
+        knobChangeWindowSetting.addValueObserver (value -> {
+            this.knobChangeWindow = KNOB_CHANGE_WINDOW_VALUES[lookupIndex (KNOB_CHANGE_WINDOW_OPTIONS, value)];
+            this.notifyObservers (KNOB_CHANGE_WINDOW);
+        });
+        final IEnumSetting knobAccelerationSetting = settingsUI.getEnumSetting ("Knob Acceleration", CATEGORY_WORKFLOW, KNOB_ACCELERATION_OPTIONS, KNOB_ACCELERATION_OPTIONS[0]);
+        knobAccelerationSetting.addValueObserver (value -> {
+            this.knobAcceleration = lookupIndex (KNOB_ACCELERATION_OPTIONS, value);
+            this.notifyObservers (KNOB_ACCELERATION);
+        });
+
         this.isSettingActive.add (KNOB_SENSITIVITY_DEFAULT);
         this.isSettingActive.add (KNOB_SENSITIVITY_SLOW);
+        this.isSettingActive.add (KNOB_CHANGE_WINDOW);
+        this.isSettingActive.add (KNOB_ACCELERATION);
+    }
+
+
+    /**
+     * Activate the frame rate setting.
+     *
+     * @param settingsUI The settings
+     */
+    protected void activateFrameRateSetting (final ISettingsUI settingsUI)
+    {
+        final IEnumSetting frameRateSetting = settingsUI.getEnumSetting ("Max. updates per second", CATEGORY_HARDWARE_SETUP, FRAME_RATE_OPTIONS, FRAME_RATE_OPTIONS[1]);
+        frameRateSetting.addValueObserver (value -> {
+            this.frameRate = FRAME_RATE_VALUES[lookupIndex (FRAME_RATE_OPTIONS, value)];
+            this.notifyObservers (FRAME_RATE);
+        });
+
+        this.isSettingActive.add (FRAME_RATE);
     }
 
 
@@ -309,6 +309,31 @@ public interface Configuration
     int getKnobSensitivitySlow ();
 
 
+    /**
+     * Get the duration of the window in which the changes of a relative knob are summed up.
+     *
+     * @return The duration in milliseconds, 0 if the changes are applied immediately
+     */
+    int getKnobChangeWindow ();
+
+
+    /**
+     * Get the strength of the acceleration of relative knobs which is applied to the summed
+     * changes.
+     *
+     * @return The strength, 0 is off
+     */
+    int getKnobAcceleration ();
+
+
+    /**
+     * Get the maximum number of frames per second in which the surface is updated.
+     *
+     * @return The frames per second, 0 for unlimited
+     */
+    int getFrameRate ();
+
+
     /**
      * Get all supported Arpeggiator modes.
      *
@@ -33,6 +33,7 @@ import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.featuregroup.ViewManager;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -56,6 +57,8 @@ import java.util.function.Supplier;
 public abstract class AbstractControlSurface<C extends Configuration> implements IControlSurface<C>
 {
     private static final String                     SHOULD_BE_HANDLED_IN_FRAMEWORK = " should be handled in framework...";
+    /** Maximum time in ms after which the grid is redrawn on a flush request of the host. */
+    private static final int                        GRID_REFRESH_INTERVAL          = 500;
 
     protected static final int                      BUTTON_STATE_INTERVAL          = 400;
     protected static final int                      NUM_NOTES                      = 128;
@@ -89,8 +92,15 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     private final DummyDisplay                      dummyDisplay;
     private IHwPianoKeyboard                        pianoKeyboard;
 
-    private final Object                            updateCounterLock              = new Object ();
-    private int                                     updateCounter                  = 0;
+    private final Object                            frameLock                      = new Object ();
+    private int                                     dirtyStages                    = FlushStage.ALL;
+    private boolean                                 isFlushScheduled               = false;
+    private long                                    frameInterval                  = 1;
+    private long                                    lastFrameTime                  = 0;
+    private long                                    lastGridTime                   = 0;
+    private long                                    executedFrames                 = 0;
+    private long                                    coalescedRequests              = 0;
+    private long                                    skippedStages                  = 0;
 
     private boolean                                 knobSensitivityIsSlow          = false;
     private final List<ISensitivityCallback>        knobSensitivityObservers       = new ArrayList<> ();
@@ -168,6 +178,10 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
         this.createPads ();
         this.createLightGuide ();
+
+        // A different view or mode requires a complete redraw
+        this.viewManager.addChangeListener ( (previousViewId, activeViewId) -> this.markDirty (FlushStage.ALL));
+        this.modeManager.addChangeListener ( (previousModeId, activeModeId) -> this.markDirty (FlushStage.VIEW));
     }
 
 
@@ -320,6 +334,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     public void addTextDisplay (final ITextDisplay display)
     {
         display.setHardwareDisplay (this.surfaceFactory.createTextDisplay (this.surfaceID, OutputID.get (OutputID.DISPLAY1, this.textDisplays.size ()), display.getNoOfLines ()));
+        display.setTimerWheel (this.surfaceFactory.getTimerWheel ());
         this.textDisplays.add (display);
     }
 
@@ -549,6 +564,9 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     public IHwButton createButton (final ButtonID buttonID, final String label)
     {
         final IHwButton button = this.surfaceFactory.createButton (this.surfaceID, buttonID, label);
+        // Button states (e.g. Shift) are used to draw the views
+        button.addEventHandler (ButtonEvent.DOWN, event -> this.markDirty (FlushStage.ALL));
+        button.addEventHandler (ButtonEvent.UP, event -> this.markDirty (FlushStage.ALL));
         this.buttons.put (buttonID, button);
         return button;
     }
@@ -668,10 +686,93 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void flush ()
     {
-        synchronized (this.updateCounterLock)
+        // Called by the host if any value of the model has changed, which might affect the display
+        // content. The grid is only redrawn if raised by an observer or user input, or to catch up
+        // on inputs which cannot be observed
+        int stages = FlushStage.VIEW.getMask ();
+        synchronized (this.frameLock)
+        {
+            if (System.currentTimeMillis () - this.lastGridTime >= GRID_REFRESH_INTERVAL)
+                stages |= FlushStage.GRID.getMask ();
+        }
+        this.markDirty (stages);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void markDirty (final FlushStage stage)
+    {
+        this.markDirty (stage.getMask ());
+    }
+
+
+    /**
+     * Mark the stages of the given mask as dirty and schedule a frame, if none is already
+     * scheduled. The frame is delayed until the frame interval since the last frame has passed.
+     * All requests which arrive in the meantime are coalesced into the scheduled frame.
+     *
+     * @param stages The bit mask of the stages, see {@link FlushStage#getMask()}
+     */
+    protected void markDirty (final int stages)
+    {
+        synchronized (this.frameLock)
+        {
+            this.dirtyStages |= stages;
+
+            if (this.isFlushScheduled)
+            {
+                this.coalescedRequests++;
+                return;
+            }
+            this.isFlushScheduled = true;
+
+            final long elapsed = System.currentTimeMillis () - this.lastFrameTime;
+            this.scheduleTask (this::flushHandler, Math.max (1, this.frameInterval - elapsed));
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setFrameRate (final int framesPerSecond)
+    {
+        synchronized (this.frameLock)
         {
-            this.updateCounter++;
-            this.scheduleTask (this::flushHandler, 1);
+            this.frameInterval = framesPerSecond <= 0 ? 1 : Math.max (1, 1000 / framesPerSecond);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getExecutedFrames ()
+    {
+        synchronized (this.frameLock)
+        {
+            return this.executedFrames;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getCoalescedRequests ()
+    {
+        synchronized (this.frameLock)
+        {
+            return this.coalescedRequests;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getSkippedStages ()
+    {
+        synchronized (this.frameLock)
+        {
+            return this.skippedStages;
         }
     }
 
@@ -699,35 +800,40 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /**
+     * Executes a frame. Only the dirty stages are updated. The hardware is flushed in each frame
+     * since the stages write into the hardware buffers.
+     */
     protected void flushHandler ()
     {
-        synchronized (this.updateCounterLock)
+        final int stages;
+        synchronized (this.frameLock)
         {
-            if (this.updateCounter == 0)
+            stages = this.dirtyStages;
+            this.dirtyStages = 0;
+            this.isFlushScheduled = false;
+            this.lastFrameTime = System.currentTimeMillis ();
+
+            if (stages == 0)
                 return;
+            if (FlushStage.GRID.isSet (stages))
+                this.lastGridTime = this.lastFrameTime;
+            this.executedFrames++;
+            this.skippedStages += FlushStage.values ().length - Integer.bitCount (stages);
         }
 
         try
         {
-            this.updateViewControls ();
-            this.updateGrid ();
+            if (FlushStage.VIEW.isSet (stages))
+                this.updateViewControls ();
+            if (FlushStage.GRID.isSet (stages))
+                this.updateGrid ();
             this.flushHardware ();
         }
         catch (final RuntimeException ex)
         {
             this.host.error ("Crash during flush.", ex);
         }
-
-        synchronized (this.updateCounterLock)
-        {
-            if (this.updateCounter > 1)
-            {
-                this.updateCounter = 1;
-                this.scheduleTask (this::flushHandler, 1);
-            }
-            else
-                this.updateCounter = 0;
-        }
     }
 
 
@@ -927,6 +1033,14 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public TimerWheel getTimerWheel ()
+    {
+        return this.surfaceFactory.getTimerWheel ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void println (final String message)
@@ -997,6 +1111,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         final IView view = this.viewManager.getActive ();
         if (view == null)
             return;
+        this.markDirty (FlushStage.ALL);
         if (event == ButtonEvent.LONG)
             view.onGridNoteLongPress (note);
         else
@@ -22,6 +22,9 @@ import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.constants.Capability;
+import de.mossgrabers.framework.daw.data.ICursorDevice;
+import de.mossgrabers.framework.daw.data.bank.IBank;
+import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.INoteInput;
 import de.mossgrabers.framework.daw.midi.INoteRepeat;
@@ -30,6 +33,8 @@ import de.mossgrabers.framework.featuregroup.IView;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.featuregroup.ViewManager;
 import de.mossgrabers.framework.mode.Modes;
+import de.mossgrabers.framework.observer.IBankPageObserver;
+import de.mossgrabers.framework.observer.IItemSelectionObserver;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.ConsoleLogger;
@@ -154,7 +159,10 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     {
         this.configuration.clearSettingObservers ();
         for (final S surface: this.surfaces)
+        {
             surface.shutdown ();
+            this.host.println (String.format ("Frames: %d executed, %d requests coalesced, %d stages skipped", Long.valueOf (surface.getExecutedFrames ()), Long.valueOf (surface.getCoalescedRequests ()), Long.valueOf (surface.getSkippedStages ())));
+        }
         this.host.println ("Exited.");
     }
 
@@ -163,6 +171,10 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     @Override
     public void flush ()
     {
+        // The play position and the clip states change continuously during playback
+        if (this.model.getTransport ().isPlaying ())
+            this.markSurfacesDirty (FlushStage.GRID);
+
         for (final S surface: this.surfaces)
             surface.flush ();
     }
@@ -353,6 +365,72 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
 
             this.surfaces.forEach (surface -> surface.addKnobSensitivityObserver (this::updateRelativeKnobSensitivity));
         }
+
+        if (this.configuration.canSettingBeObserved (AbstractConfiguration.KNOB_CHANGE_WINDOW))
+        {
+            this.configuration.addSettingObserver (AbstractConfiguration.KNOB_CHANGE_WINDOW, this::updateRelativeKnobChangeWindow);
+            this.configuration.addSettingObserver (AbstractConfiguration.KNOB_ACCELERATION, this::updateRelativeKnobChangeWindow);
+        }
+
+        if (this.configuration.canSettingBeObserved (AbstractConfiguration.FRAME_RATE))
+        {
+            this.configuration.addSettingObserver (AbstractConfiguration.FRAME_RATE, () -> {
+                final int frameRate = this.configuration.getFrameRate ();
+                this.surfaces.forEach (surface -> surface.setFrameRate (frameRate));
+            });
+        }
+
+        this.createFlushStageObservers ();
+    }
+
+
+    /**
+     * Raise the view and grid stages of the surfaces if the banks, the tracks or the cursors
+     * change.
+     */
+    private void createFlushStageObservers ()
+    {
+        final IBankPageObserver pageObserver = () -> this.markSurfacesDirty (FlushStage.VIEW, FlushStage.GRID);
+        final IItemSelectionObserver selectionObserver = (index, isSelected) -> this.markSurfacesDirty (FlushStage.VIEW, FlushStage.GRID);
+
+        final List<IBank<?>> banks = new ArrayList<> ();
+        final ITrackBank trackBank = this.model.getTrackBank ();
+        banks.add (trackBank);
+        banks.add (this.model.getEffectTrackBank ());
+        banks.add (this.model.getSceneBank ());
+        final ICursorDevice cursorDevice = this.model.getCursorDevice ();
+        if (cursorDevice != null)
+        {
+            banks.add (cursorDevice.getDeviceBank ());
+            cursorDevice.addHasDrumPadsObserver (hasDrumPads -> this.markSurfacesDirty (FlushStage.VIEW, FlushStage.GRID));
+        }
+        for (final IBank<?> bank: banks)
+        {
+            if (bank == null)
+                continue;
+            bank.addPageObserver (pageObserver);
+            bank.addSelectionObserver (selectionObserver);
+        }
+
+        this.model.addTrackBankObserver (currentTrackBank -> this.markSurfacesDirty (FlushStage.VIEW, FlushStage.GRID));
+
+        // Played notes are highlighted on the grid
+        trackBank.addNoteObserver ( (trackIndex, note, velocity) -> this.markSurfacesDirty (FlushStage.GRID));
+    }
+
+
+    /**
+     * Mark the given stages as dirty on all surfaces.
+     *
+     * @param stages The stages
+     */
+    protected void markSurfacesDirty (final FlushStage... stages)
+    {
+        for (final S surface: this.surfaces)
+        {
+            for (final FlushStage stage: stages)
+                surface.markDirty (stage);
+        }
     }
 
 
@@ -1281,6 +1359,7 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
             final IView view = surface.getViewManager ().getActive ();
             if (view != null)
                 view.updateNoteMapping ();
+            surface.markDirty (FlushStage.GRID);
         }
     }
 
@@ -1342,4 +1421,18 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
 
         });
     }
+
+
+    /**
+     * Updates the change window and acceleration of the knobs from the configuration settings.
+     */
+    protected void updateRelativeKnobChangeWindow ()
+    {
+        final int window = this.configuration.getKnobChangeWindow ();
+        final int acceleration = this.configuration.getKnobAcceleration ();
+        this.surfaces.forEach (surface -> surface.getRelativeKnobs ().forEach (knob -> {
+            if (knob.shouldAdaptSensitivity ())
+                knob.setChangeWindow (window, acceleration);
+        }));
+    }
 }
@@ -0,0 +1,47 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+/**
+ * The stages of a control surface flush (a frame). Each stage can be marked dirty independently,
+ * stages which are not dirty are skipped in the next frame. The changes of lights, displays and
+ * continuous controls are sent to the hardware at the end of each frame.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public enum FlushStage
+{
+    /** Update the controls of the active view and mode (display content). */
+    VIEW,
+    /** Redraw the pad grid of the active view. */
+    GRID;
+
+
+    /** The bit mask with all stages set. */
+    public static final int ALL = (1 << FlushStage.values ().length) - 1;
+
+
+    /**
+     * Get the bit of the stage in a stage mask.
+     *
+     * @return The bit
+     */
+    public int getMask ()
+    {
+        return 1 << this.ordinal ();
+    }
+
+
+    /**
+     * Test if the stage is set in the given mask.
+     *
+     * @param mask The stage mask
+     * @return True if set
+     */
+    public boolean isSet (final int mask)
+    {
+        return (mask & this.getMask ()) != 0;
+    }
+}
@@ -25,6 +25,7 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.featuregroup.ViewManager;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 import java.util.Collection;
 import java.util.List;
@@ -468,6 +469,15 @@ public interface IControlSurface<C extends Configuration>
     void scheduleTask (Runnable callback, long delay);
 
 
+    /**
+     * Get the timer wheel of the surface. Use it for timers which are restarted frequently instead
+     * of scheduling a task for each of them.
+     *
+     * @return The timer wheel
+     */
+    TimerWheel getTimerWheel ();
+
+
     /**
      * Send a MIDI message to the DAW (not to the MIDI output).
      *
@@ -479,11 +489,55 @@ public interface IControlSurface<C extends Configuration>
 
 
     /**
-     * Flush all displays and grids.
+     * Called if the model has changed. Marks the view stage as dirty (and the grid stage if it was
+     * not redrawn for a while) and schedules a frame.
      */
     void flush ();
 
 
+    /**
+     * Mark a flush stage as dirty and schedule a frame. Stages which are not dirty are skipped in
+     * the next frame.
+     *
+     * @param stage The stage
+     */
+    void markDirty (FlushStage stage);
+
+
+    /**
+     * Set the maximum number of frames per second. Flush requests which arrive in between are
+     * coalesced into the next frame.
+     *
+     * @param framesPerSecond The frames per second, 0 or less to flush as fast as possible
+     */
+    void setFrameRate (int framesPerSecond);
+
+
+    /**
+     * Get the number of frames which have been executed.
+     *
+     * @return The number of frames
+     */
+    long getExecutedFrames ();
+
+
+    /**
+     * Get the number of flush requests which have been coalesced into an already scheduled frame.
+     *
+     * @return The number of coalesced requests
+     */
+    long getCoalescedRequests ();
+
+
+    /**
+     * Get the number of stages which were skipped in the executed frames since they were not
+     * dirty.
+     *
+     * @return The number of skipped stages
+     */
+    long getSkippedStages ();
+
+
     /**
      * Forces to send all output states to the device again.
      */
@@ -7,12 +7,15 @@ package de.mossgrabers.framework.controller.color;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.daw.DAWColor;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
 
 /**
- * Manages color indices by IDs.
+ * Manages color indices by IDs. Each ID is mapped to an integer handle which is stable for the
+ * lifetime of the manager. Views can resolve the handles of their color IDs once and look up the
+ * current color index of a handle with a simple array access while drawing.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
@@ -25,8 +28,14 @@ public class ColorManager
     /** ID for color when button is highlighted. */
     public static final String            BUTTON_STATE_HI  = "BUTTON_STATE_HI";
 
-    protected final Map<String, Integer>  colorIndexByKey  = new HashMap<> ();
-    protected final Map<Integer, ColorEx> colorByIndex     = new HashMap<> ();
+    private static final int              UNREGISTERED     = Integer.MIN_VALUE;
+
+    private final Map<String, Integer>    handleByKey      = new HashMap<> ();
+    private String []                     keyByHandle      = new String [64];
+    private int []                        indexByHandle    = new int [64];
+    private int                           handleCount      = 0;
+
+    protected final ColorEx []            colorByIndex     = new ColorEx [128];
 
 
     /**
@@ -37,7 +46,8 @@ public class ColorManager
      */
     public void registerColorIndex (final String key, final int colorIndex)
     {
-        if (this.colorIndexByKey.containsKey (key))
+        final Integer handle = this.handleByKey.get (key);
+        if (handle != null && this.indexByHandle[handle.intValue ()] != UNREGISTERED)
             throw new ColorIndexException ("Color for key " + key + " is already registered!");
         this.updateColorIndex (key, colorIndex);
     }
@@ -49,9 +59,9 @@ public class ColorManager
      * @param key The key under which to register the color index
      * @param colorIndex The color index
      */
-    public void updateColorIndex (final String key, final int colorIndex)
+    public synchronized void updateColorIndex (final String key, final int colorIndex)
     {
-        this.colorIndexByKey.put (key, Integer.valueOf (colorIndex));
+        this.indexByHandle[this.getColorHandle (key)] = colorIndex;
     }
 
 
@@ -75,10 +85,52 @@ public class ColorManager
      */
     public int getColorIndex (final String key)
     {
-        final Integer colorIndex = this.colorIndexByKey.get (key);
-        if (colorIndex == null)
+        final Integer handle = this.handleByKey.get (key);
+        if (handle == null)
             throw new ColorIndexException ("Color for key " + key + " is not registered!");
-        return colorIndex.intValue ();
+        return this.getColorIndexByHandle (handle.intValue ());
+    }
+
+
+    /**
+     * Get the handle for the given key. Resolve the handle once (e.g. when constructing a view) and
+     * use it with {@link #getColorIndexByHandle(int)} to avoid a look-up by key on each redraw. A
+     * handle can be retrieved for a key which is not (yet) registered.
+     *
+     * @param key The key
+     * @return The handle
+     */
+    public synchronized int getColorHandle (final String key)
+    {
+        final Integer handle = this.handleByKey.get (key);
+        if (handle != null)
+            return handle.intValue ();
+
+        if (this.handleCount == this.indexByHandle.length)
+        {
+            this.keyByHandle = Arrays.copyOf (this.keyByHandle, this.handleCount * 2);
+            this.indexByHandle = Arrays.copyOf (this.indexByHandle, this.handleCount * 2);
+        }
+        final int newHandle = this.handleCount++;
+        this.keyByHandle[newHandle] = key;
+        this.indexByHandle[newHandle] = UNREGISTERED;
+        this.handleByKey.put (key, Integer.valueOf (newHandle));
+        return newHandle;
+    }
+
+
+    /**
+     * Get the color index which is registered with the key of the given handle.
+     *
+     * @param handle The handle retrieved from {@link #getColorHandle(String)}
+     * @return The color index
+     */
+    public int getColorIndexByHandle (final int handle)
+    {
+        final int colorIndex = this.indexByHandle[handle];
+        if (colorIndex == UNREGISTERED)
+            throw new ColorIndexException ("Color for key " + this.keyByHandle[handle] + " is not registered!");
+        return colorIndex;
     }
 
 
@@ -92,7 +144,7 @@ public class ColorManager
     {
         if (colorIndex < 0 || colorIndex > 127)
             throw new ColorIndexException ("Color index must be in the range of 0..127!");
-        this.colorByIndex.put (Integer.valueOf (colorIndex), color);
+        this.colorByIndex[colorIndex] = color;
     }
 
 
@@ -107,7 +159,7 @@ public class ColorManager
     {
         if (colorIndex < 0)
             return ColorEx.BLACK;
-        final ColorEx color = this.colorByIndex.get (Integer.valueOf (colorIndex));
+        final ColorEx color = colorIndex > 127 ? null : this.colorByIndex[colorIndex];
         if (color == null)
             throw new ColorIndexException ("Color for index " + colorIndex + " is not registered!");
         return color;
@@ -14,11 +14,14 @@ import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.daw.resource.ResourceHandler;
 import de.mossgrabers.framework.graphics.Align;
+import de.mossgrabers.framework.graphics.DefaultBounds;
 import de.mossgrabers.framework.graphics.DefaultGraphicsInfo;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IBounds;
 import de.mossgrabers.framework.graphics.IGraphicsConfiguration;
 import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IGraphicsInfo;
+import de.mossgrabers.framework.graphics.SpriteCache;
 import de.mossgrabers.framework.graphics.canvas.component.ChannelComponent;
 import de.mossgrabers.framework.graphics.canvas.component.ChannelSelectComponent;
 import de.mossgrabers.framework.graphics.canvas.component.ClipListComponent;
@@ -31,12 +34,11 @@ import de.mossgrabers.framework.graphics.canvas.component.ParameterComponent;
 import de.mossgrabers.framework.graphics.canvas.component.SceneListGridElement;
 import de.mossgrabers.framework.graphics.canvas.component.SendsComponent;
 import de.mossgrabers.framework.graphics.canvas.utils.SendData;
-import de.mossgrabers.framework.graphics.display.ModelInfo;
 import de.mossgrabers.framework.utils.Pair;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -72,18 +74,35 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
 
     /** Timeout for displaying the notification message. */
     private static final int               TIMEOUT                         = 2;
+    /** Minimum time between two updates of the window title with changed cache statistics. */
+    private static final int               TITLE_UPDATE_INTERVAL           = 1000;
 
     private final AtomicInteger            counter                         = new AtomicInteger ();
     private final ScheduledExecutorService executor                        = Executors.newSingleThreadScheduledExecutor ();
 
     private final List<IComponent>         columns                         = new ArrayList<> (8);
     private final AtomicReference<String>  notificationMessage             = new AtomicReference<> ();
-    private ModelInfo                      info                            = new ModelInfo (null, Collections.emptyList ());
+
+    private final List<IComponent>         renderedColumns                 = new ArrayList<> (8);
+    private String                         renderedNotification            = null;
+    private boolean                        isRendered                      = false;
+    private boolean []                     changedColumns                  = new boolean [0];
+    private IBounds []                     columnAreas                     = new IBounds [0];
+    private final List<IBounds>            changedAreas                    = new ArrayList<> (8);
 
     protected final IHost                  host;
     protected final IGraphicsConfiguration configuration;
     protected final IGraphicsDimensions    dimensions;
     private final IBitmap                  image;
+    private final String                   windowTitle;
+    private final SpriteCache              spriteCache;
+    private int                            reportedSpriteCacheSize         = -1;
+    private int                            reportedSpriteCacheHits         = -1;
+    private int                            reportedSpriteCacheMisses       = -1;
+    private int                            reportedTextCacheHits           = -1;
+    private int                            reportedTextExtentCalls         = -1;
+    private long                           lastTitleUpdate                 = 0;
+    private boolean                        isTitleUpdatePending            = false;
 
     private IHwGraphicsDisplay             hardwareDisplay;
 
@@ -105,7 +124,9 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
         ResourceHandler.init (host);
 
         this.image = host.createBitmap (dimensions.getWidth (), dimensions.getHeight ());
+        this.windowTitle = windowTitle;
         this.image.setDisplayWindowTitle (windowTitle);
+        this.spriteCache = new SpriteCache (host);
 
         // Manage notification message display time
         this.executor.scheduleAtFixedRate ( () -> {
@@ -160,24 +181,93 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
 
         try
         {
-            final ModelInfo newInfo = new ModelInfo (this.notificationMessage.get (), this.columns);
+            this.changedAreas.clear ();
+            this.spriteCache.configure (this.configuration.getSpriteCacheSize (), this.configuration.isAntialiasEnabled ());
 
-            // Only render image if there is a change in the data
-            if (!this.info.equals (newInfo))
+            // Only render the columns which have changed
+            final String notification = this.notificationMessage.get ();
+            if (this.needsFullRendering (notification))
             {
-                this.info = newInfo;
+                this.renderedNotification = notification;
+                this.renderedColumns.clear ();
+                this.renderedColumns.addAll (this.columns);
+                this.isRendered = true;
+                this.updateColumnAreas ();
                 this.renderImage ();
+                this.changedAreas.add (new DefaultBounds (0, 0, this.dimensions.getWidth (), this.dimensions.getHeight ()));
             }
+            else if (this.updateChangedColumns ())
+                this.renderChangedColumns ();
         }
         finally
         {
             this.columns.clear ();
         }
 
+        this.updateWindowTitle ();
         this.send (this.image);
     }
 
 
+    /**
+     * Shows the state of the sprite cache and the text measurements of the last frame in the title
+     * of the debug window, if it has changed. A changed size is shown immediately, changed hits
+     * and misses at most once per second. Skipped changes are shown at the end of the interval.
+     */
+    private void updateWindowTitle ()
+    {
+        final int size = this.spriteCache.getSize ();
+        final int hits = this.spriteCache.getHits ();
+        final int misses = this.spriteCache.getMisses ();
+        final int textHits = this.image.getLastFrameTextCacheHits ();
+        final int textCalls = this.image.getLastFrameTextExtentCalls ();
+        if (size == this.reportedSpriteCacheSize && hits == this.reportedSpriteCacheHits && misses == this.reportedSpriteCacheMisses && textHits == this.reportedTextCacheHits && textCalls == this.reportedTextExtentCalls)
+            return;
+
+        final long now = System.currentTimeMillis ();
+        final long remaining = this.lastTitleUpdate + TITLE_UPDATE_INTERVAL - now;
+        if (size == this.reportedSpriteCacheSize && remaining > 0)
+        {
+            if (!this.isTitleUpdatePending)
+            {
+                this.isTitleUpdatePending = true;
+                this.host.scheduleTask ( () -> {
+                    this.isTitleUpdatePending = false;
+                    this.updateWindowTitle ();
+                }, remaining);
+            }
+            return;
+        }
+
+        this.reportedSpriteCacheSize = size;
+        this.reportedSpriteCacheHits = hits;
+        this.reportedSpriteCacheMisses = misses;
+        this.reportedTextCacheHits = textHits;
+        this.reportedTextExtentCalls = textCalls;
+        this.lastTitleUpdate = now;
+
+        final String textStatistics = String.format ("Text per frame: %d hits, %d extents", Integer.valueOf (textHits), Integer.valueOf (textCalls));
+        final int maximumSize = this.spriteCache.getMaximumSize ();
+        if (maximumSize == 0)
+            this.image.setDisplayWindowTitle (String.format ("%s - %s", this.windowTitle, textStatistics));
+        else
+            this.image.setDisplayWindowTitle (String.format ("%s - Sprites: %d/%d, Hits: %d, Misses: %d, %s", this.windowTitle, Integer.valueOf (size), Integer.valueOf (maximumSize), Integer.valueOf (hits), Integer.valueOf (misses), textStatistics));
+    }
+
+
+    /**
+     * Get the areas of the image which have changed with the last call to {@link #send()}. Can be
+     * used by the implementations of {@link #send(IBitmap)} to limit their encoding work. The list
+     * is empty if nothing has changed.
+     *
+     * @return The changed areas
+     */
+    protected List<IBounds> getChangedAreas ()
+    {
+        return this.changedAreas;
+    }
+
+
     /**
      * Send the buffered image to the graphics display.
      *
@@ -408,34 +498,136 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     }
 
 
+    /**
+     * Test if the whole image needs to be rendered. This is the case if the number of columns has
+     * changed, a notification is displayed (which is painted on top of all columns) or a component
+     * paints outside of its column.
+     *
+     * @param notification The notification to display, might be null
+     * @return True if the whole image needs to be rendered
+     */
+    private boolean needsFullRendering (final String notification)
+    {
+        if (!this.isRendered)
+            return true;
+
+        final int size = this.columns.size ();
+        if (size != this.renderedColumns.size ())
+            return true;
+
+        if (notification != null || this.renderedNotification != null)
+            return !Objects.equals (notification, this.renderedNotification) || !this.columns.equals (this.renderedColumns);
+
+        // There is nothing to gain from rendering 1 column separately
+        if (size <= 1)
+            return !this.columns.equals (this.renderedColumns);
+
+        for (int i = 0; i < size; i++)
+        {
+            final IComponent component = this.columns.get (i);
+            final IComponent renderedComponent = this.renderedColumns.get (i);
+            if (!Objects.equals (component, renderedComponent) && (!isConfinedToSeparators (component) || !isConfinedToSeparators (renderedComponent)))
+                return true;
+        }
+        return false;
+    }
+
+
+    /**
+     * Compares the new columns with the rendered ones and stores the columns which need to be
+     * redrawn. Components which paint into the separators next to them also require to redraw
+     * their neighbours: the previous column if the component has changed and the component itself
+     * if the previous column is redrawn, since that clears the separator.
+     *
+     * @return True if at least one column has changed
+     */
+    private boolean updateChangedColumns ()
+    {
+        final int size = this.changedColumns.length;
+        for (int i = 0; i < size; i++)
+        {
+            final IComponent component = this.columns.get (i);
+            final IComponent renderedComponent = this.renderedColumns.get (i);
+            this.changedColumns[i] = !Objects.equals (component, renderedComponent);
+            if (this.changedColumns[i] && i > 0 && (!isConfinedToBounds (component) || !isConfinedToBounds (renderedComponent)))
+                this.changedColumns[i - 1] = true;
+        }
+
+        boolean hasChanged = false;
+        for (int i = 0; i < size; i++)
+        {
+            final IComponent component = this.columns.get (i);
+            if (i > 0 && this.changedColumns[i - 1] && !isConfinedToBounds (component))
+                this.changedColumns[i] = true;
+            if (this.changedColumns[i])
+            {
+                this.renderedColumns.set (i, component);
+                this.changedAreas.add (this.columnAreas[i]);
+                hasChanged = true;
+            }
+        }
+        return hasChanged;
+    }
+
+
+    /**
+     * Calculate the areas of the columns and resize the changed column flags, if necessary.
+     */
+    private void updateColumnAreas ()
+    {
+        final int size = this.renderedColumns.size ();
+        if (this.columnAreas.length == size)
+            return;
+
+        this.changedColumns = new boolean [size];
+        this.columnAreas = new IBounds [size];
+        if (size == 0)
+            return;
+
+        // The area of a column contains the separator to the right of it
+        final int width = this.dimensions.getWidth ();
+        final int height = this.dimensions.getHeight ();
+        final int gridWidth = width / size;
+        final double offsetX = this.dimensions.getSeparatorSize () / 2.0;
+        for (int i = 0; i < size; i++)
+        {
+            final double left = i * gridWidth + offsetX;
+            this.columnAreas[i] = new DefaultBounds (left, 0, Math.min (gridWidth, width - left), height);
+        }
+    }
+
+
+    private static boolean isConfinedToBounds (final IComponent component)
+    {
+        return component == null || component.isConfinedToBounds ();
+    }
+
+
+    private static boolean isConfinedToSeparators (final IComponent component)
+    {
+        return component == null || component.isConfinedToSeparators ();
+    }
+
+
     private void renderImage ()
     {
         this.image.render (this.configuration.isAntialiasEnabled (), gc -> {
             final int width = this.dimensions.getWidth ();
             final int height = this.dimensions.getHeight ();
-            final double separatorSize = this.dimensions.getSeparatorSize ();
 
             // Clear display
             final ColorEx colorBorder = this.configuration.getColorBorder ();
             gc.fillRectangle (0, 0, width, height, colorBorder);
 
-            final List<IComponent> elements = this.info.getComponents ();
-            final int size = elements.size ();
+            final int size = this.renderedColumns.size ();
             if (size == 0)
                 return;
-            final int gridWidth = width / size;
-            final double paintWidth = gridWidth - separatorSize;
-            final double offsetX = separatorSize / 2.0;
 
-            final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
+            final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions, this.spriteCache);
             for (int i = 0; i < size; i++)
-            {
-                final IComponent component = elements.get (i);
-                if (component != null)
-                    component.draw (graphicsInfo.withBounds (i * gridWidth + offsetX, 0, paintWidth, height));
-            }
+                this.drawColumn (graphicsInfo, i, size);
 
-            final String notification = this.info.getNotification ();
+            final String notification = this.renderedNotification;
             if (notification == null)
                 return;
 
@@ -443,4 +635,40 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
             gc.drawTextInBounds (notification, 0, 0, width, height, Align.CENTER, colorText, colorBorder, height / 4.0);
         });
     }
+
+
+    private void renderChangedColumns ()
+    {
+        this.image.render (this.configuration.isAntialiasEnabled (), gc -> {
+
+            final ColorEx colorBorder = this.configuration.getColorBorder ();
+            final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions, this.spriteCache);
+            final int size = this.renderedColumns.size ();
+            for (int i = 0; i < size; i++)
+            {
+                if (!this.changedColumns[i])
+                    continue;
+
+                // Clear the column
+                final IBounds area = this.columnAreas[i];
+                gc.fillRectangle (area.getLeft (), area.getTop (), area.getWidth (), area.getHeight (), colorBorder);
+
+                this.drawColumn (graphicsInfo, i, size);
+            }
+        });
+    }
+
+
+    private void drawColumn (final IGraphicsInfo graphicsInfo, final int index, final int size)
+    {
+        final IComponent component = this.renderedColumns.get (index);
+        if (component == null)
+            return;
+
+        final int gridWidth = this.dimensions.getWidth () / size;
+        final double separatorSize = this.dimensions.getSeparatorSize ();
+        final double paintWidth = gridWidth - separatorSize;
+        final double offsetX = separatorSize / 2.0;
+        component.draw (graphicsInfo.withBounds (index * gridWidth + offsetX, 0, paintWidth, this.dimensions.getHeight ()));
+    }
 }
@@ -8,6 +8,9 @@ import de.mossgrabers.framework.controller.hardware.IHwTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.utils.TimerWheel;
+
+import java.util.Arrays;
 
 
 /**
@@ -35,13 +38,18 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     protected final Object   notificationLock     = new Object ();
 
     private final String     emptyCell;
-    protected String []      currentMessage;
-    protected String []      message;
+    private final char []    emptyLineChars;
+    private final char [][]  currentMessage;
+    private final int []     currentLength;
+    private final char [][]  message;
+    private final int []     messageLength;
     protected String []      fullRows;
     protected String []      cells;
 
     protected IHwTextDisplay hwDisplay;
 
+    private TimerWheel.Timer notificationTimer;
+
 
     /**
      * Constructor.
@@ -68,11 +76,16 @@ public abstract class AbstractTextDisplay implements ITextDisplay
         for (int i = 0; i < this.noOfCharacters; i++)
             sb.append (' ');
         this.emptyLine = sb.toString ();
+        this.emptyLineChars = this.emptyLine.toCharArray ();
         this.notificationMessage = this.emptyLine;
 
-        this.currentMessage = new String [this.noOfLines];
+        this.currentMessage = new char [this.noOfLines][this.noOfCharacters];
+        this.currentLength = new int [this.noOfLines];
+        Arrays.fill (this.currentLength, -1);
 
-        this.message = new String [this.noOfLines];
+        this.message = new char [this.noOfLines][this.noOfCharacters];
+        this.messageLength = new int [this.noOfLines];
+        Arrays.fill (this.messageLength, -1);
         this.fullRows = new String [this.noOfLines];
         this.cells = new String [this.noOfLines * this.noOfCells];
     }
@@ -102,6 +115,14 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setTimerWheel (final TimerWheel timerWheel)
+    {
+        this.notificationTimer = timerWheel.createTimer (this::clearNotification);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public ITextDisplay setRow (final int row, final String str)
@@ -156,23 +177,45 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     @Override
     public ITextDisplay done (final int row)
     {
+        int length = 0;
         if (this.fullRows[row] != null)
         {
-            this.message[row] = this.fullRows[row];
+            length = this.appendToMessage (row, length, this.fullRows[row]);
             this.fullRows[row] = null;
         }
         else
         {
             final int index = row * this.noOfCells;
-            this.message[row] = "";
             for (int i = 0; i < this.noOfCells; i++)
-                this.message[row] += this.cells[index + i];
+                length = this.appendToMessage (row, length, this.cells[index + i]);
         }
+        this.messageLength[row] = length;
 
         return this;
     }
 
 
+    /**
+     * Copy a text into the message buffer of a row. The buffer grows if necessary.
+     *
+     * @param row The text row
+     * @param position The position in the buffer where to insert the text
+     * @param text The text, null is ignored
+     * @return The position after the inserted text
+     */
+    private int appendToMessage (final int row, final int position, final String text)
+    {
+        if (text == null)
+            return position;
+
+        final int end = position + text.length ();
+        if (end > this.message[row].length)
+            this.message[row] = Arrays.copyOf (this.message[row], Math.max (end, 2 * this.message[row].length));
+        text.getChars (0, text.length (), this.message[row], position);
+        return end;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public ITextDisplay allDone ()
@@ -252,6 +295,8 @@ public abstract class AbstractTextDisplay implements ITextDisplay
         synchronized (this.notificationLock)
         {
             this.isNotificationActive = 0;
+            if (this.notificationTimer != null)
+                this.notificationTimer.cancel ();
         }
     }
 
@@ -272,25 +317,33 @@ public abstract class AbstractTextDisplay implements ITextDisplay
 
         synchronized (this.notificationLock)
         {
-            final boolean isRunning = this.isNotificationActive > 0;
-            this.isNotificationActive = AbstractTextDisplay.NOTIFICATION_TIME;
+            this.startNotification ();
             this.flush ();
-            if (!isRunning)
-                this.host.scheduleTask (this::watch, 100);
         }
     }
 
 
-    protected void watch ()
+    /**
+     * Activate the notification and (re-)start the timer which removes it after the notification
+     * time. Must be called while holding the notification lock.
+     */
+    protected void startNotification ()
+    {
+        // Displays which are not added to a surface use their own wheel
+        if (this.notificationTimer == null)
+            this.setTimerWheel (new TimerWheel (this.host));
+
+        this.isNotificationActive = AbstractTextDisplay.NOTIFICATION_TIME;
+        this.notificationTimer.start (AbstractTextDisplay.NOTIFICATION_TIME);
+    }
+
+
+    private void clearNotification ()
     {
         synchronized (this.notificationLock)
         {
-            this.isNotificationActive -= 100;
-
-            if (this.isNotificationActive <= 0)
-                this.forceFlush ();
-            else
-                this.host.scheduleTask (this::watch, 100);
+            this.isNotificationActive = 0;
+            this.forceFlush ();
         }
     }
 
@@ -303,22 +356,60 @@ public abstract class AbstractTextDisplay implements ITextDisplay
         {
             if (this.isNotificationActive > 0)
             {
-                this.updateLine (0, this.notificationMessage);
+                final String notification = this.notificationMessage;
+                this.flushRow (0, notification.toCharArray (), notification.length ());
                 for (int row = 1; row < this.noOfLines; row++)
-                    this.updateLine (row, this.emptyLine);
+                    this.flushRow (row, this.emptyLineChars, this.emptyLineChars.length);
                 return;
             }
         }
 
         for (int row = 0; row < this.noOfLines; row++)
         {
+            if (this.messageLength[row] >= 0)
+                this.flushRow (row, this.message[row], this.messageLength[row]);
+        }
+    }
+
+
+    /**
+     * Compare the text of a row with the text which was sent last. If only some characters have
+     * changed, the range which contains all changes is updated otherwise the whole line.
+     *
+     * @param row The text row
+     * @param text The buffer with the text to display
+     * @param length The number of characters to use from the buffer
+     */
+    private void flushRow (final int row, final char [] text, final int length)
+    {
+        char [] current = this.currentMessage[row];
+        if (this.currentLength[row] == length)
+        {
+            int start = 0;
+            while (start < length && current[start] == text[start])
+                start++;
+
             // Has anything changed?
-            if (this.currentMessage[row] != null && this.currentMessage[row].equals (this.message[row]))
-                continue;
-            this.currentMessage[row] = this.message[row];
-            if (this.currentMessage[row] != null)
-                this.updateLine (row, this.currentMessage[row]);
+            if (start == length)
+                return;
+
+            int end = length;
+            while (current[end - 1] == text[end - 1])
+                end--;
+
+            System.arraycopy (text, start, current, start, end - start);
+            this.updateRange (row, new String (current, 0, length), start, end - start);
+            return;
         }
+
+        if (current.length < length)
+        {
+            current = new char [length];
+            this.currentMessage[row] = current;
+        }
+        System.arraycopy (text, 0, current, 0, length);
+        this.currentLength[row] = length;
+        this.updateLine (row, new String (current, 0, length));
     }
 
 
@@ -335,6 +426,22 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     }
 
 
+    /**
+     * Update some characters of a line on the hardware and simulation display. Overwrite for
+     * devices which can address single characters, the default implementation updates the whole
+     * line.
+     *
+     * @param row The text row
+     * @param text The text of the whole line
+     * @param offset The index of the first changed character
+     * @param length The number of changed characters
+     */
+    protected void updateRange (final int row, final String text, final int offset, final int length)
+    {
+        this.updateLine (row, text);
+    }
+
+
     /**
      * Overwrite if the device display uses a non-standard character set.
      *
@@ -351,8 +458,7 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     @Override
     public void forceFlush ()
     {
-        for (int row = 0; row < this.noOfLines; row++)
-            this.currentMessage[row] = "";
+        Arrays.fill (this.currentLength, -1);
     }
 
 
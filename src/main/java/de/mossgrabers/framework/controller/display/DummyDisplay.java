@@ -6,6 +6,7 @@ package de.mossgrabers.framework.controller.display;
 
 import de.mossgrabers.framework.controller.hardware.IHwTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 
 /**
@@ -185,6 +186,14 @@ public class DummyDisplay implements ITextDisplay
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setTimerWheel (final TimerWheel timerWheel)
+    {
+        // Intentionally empty
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public IHwTextDisplay getHardwareDisplay ()
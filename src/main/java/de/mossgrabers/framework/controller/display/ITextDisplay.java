@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.controller.display;
 
 import de.mossgrabers.framework.controller.hardware.IHwTextDisplay;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 
 /**
@@ -158,6 +159,14 @@ public interface ITextDisplay extends IDisplay
     void setHardwareDisplay (IHwTextDisplay display);
 
 
+    /**
+     * Set the timer wheel of the surface, which is used to remove notifications.
+     *
+     * @param timerWheel The timer wheel
+     */
+    void setTimerWheel (TimerWheel timerWheel);
+
+
     /**
      * Get the hardware display.
      *
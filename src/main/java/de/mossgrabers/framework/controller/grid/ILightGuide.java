@@ -51,6 +51,15 @@ public interface ILightGuide
     void light (int note, String colorID, String blinkColorID, boolean fast);
 
 
+    /**
+     * Set the lighting state of a LED.
+     *
+     * @param note The MIDI note of the LED
+     * @param colorHandle A color handle retrieved from the color manager
+     */
+    void lightByHandle (int note, int colorHandle);
+
+
     /**
      * Resets the caching which forces a complete flush.
      */
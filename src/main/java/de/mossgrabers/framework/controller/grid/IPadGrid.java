@@ -59,6 +59,16 @@ public interface IPadGrid extends ILightGuide
     void lightEx (int x, int y, String colorID, String blinkColorID, boolean fast);
 
 
+    /**
+     * Set the lighting state of a pad.
+     *
+     * @param x The x position of the pad in the grid
+     * @param y The y position of the pad in the grid
+     * @param colorHandle A color handle retrieved from the color manager
+     */
+    void lightExByHandle (int x, int y, int colorHandle);
+
+
     /**
      * Plug for grids not sending notes in the range of 36-100.
      *
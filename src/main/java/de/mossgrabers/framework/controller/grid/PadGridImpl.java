@@ -19,6 +19,7 @@ public class PadGridImpl implements IPadGrid
 
     protected final IMidiOutput  output;
     protected final ColorManager colorManager;
+    protected final int          gridOffHandle;
 
     protected LightInfo []       padStates;
 
@@ -52,6 +53,7 @@ public class PadGridImpl implements IPadGrid
     public PadGridImpl (final ColorManager colorManager, final IMidiOutput output, final int rows, final int cols, final int startNote)
     {
         this.colorManager = colorManager;
+        this.gridOffHandle = colorManager.getColorHandle (GRID_OFF);
         this.output = output;
         this.rows = rows;
         this.cols = cols;
@@ -131,6 +133,22 @@ public class PadGridImpl implements IPadGrid
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void lightByHandle (final int note, final int colorHandle)
+    {
+        this.light (note, this.colorManager.getColorIndexByHandle (colorHandle));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void lightExByHandle (final int x, final int y, final int colorHandle)
+    {
+        this.lightEx (x, y, this.colorManager.getColorIndexByHandle (colorHandle));
+    }
+
+
     /**
      * Set the lighting state of a pad.
      *
@@ -141,7 +159,7 @@ public class PadGridImpl implements IPadGrid
      */
     protected void setLight (final int note, final int color, final int blinkColor, final boolean fast)
     {
-        this.padStates[note].setColors (color, blinkColor >= 0 ? blinkColor : this.colorManager.getColorIndex (GRID_OFF), fast);
+        this.padStates[note].setColors (color, blinkColor >= 0 ? blinkColor : this.colorManager.getColorIndexByHandle (this.gridOffHandle), fast);
     }
 
 
@@ -215,7 +233,7 @@ public class PadGridImpl implements IPadGrid
     @Override
     public void turnOff ()
     {
-        final int color = this.colorManager.getColorIndex (GRID_OFF);
+        final int color = this.colorManager.getColorIndexByHandle (this.gridOffHandle);
         for (int i = this.startNote; i <= this.endNote; i++)
         {
             this.light (i, color, -1, false);
@@ -7,6 +7,7 @@ package de.mossgrabers.framework.controller.hardware;
 import de.mossgrabers.framework.command.core.TriggerCommand;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -27,6 +28,7 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
     private ButtonEvent                    state;
     private boolean                        isConsumed;
     private int                            pressedVelocity       = 0;
+    private final TimerWheel.Timer         longPressTimer;
 
     private final List<ButtonEventHandler> downEventHandlers     = new ArrayList<> ();
     private final List<ButtonEventHandler> upEventHandlers       = new ArrayList<> ();
@@ -36,11 +38,14 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
      * Constructor.
      *
      * @param host The host
+     * @param timerWheel The timer wheel of the surface for detecting long presses
      * @param label The label of the button
      */
-    protected AbstractHwButton (final IHost host, final String label)
+    protected AbstractHwButton (final IHost host, final TimerWheel timerWheel, final String label)
     {
         super (host, label);
+
+        this.longPressTimer = timerWheel.createTimer (this::checkButtonState);
     }
 
 
@@ -73,7 +78,7 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
         this.state = ButtonEvent.DOWN;
         this.isConsumed = false;
 
-        this.host.scheduleTask (this::checkButtonState, BUTTON_STATE_INTERVAL);
+        this.longPressTimer.start (BUTTON_STATE_INTERVAL);
         this.pressedVelocity = (int) (value * 127.0);
         if (this.command != null)
             this.command.execute (ButtonEvent.DOWN, this.pressedVelocity);
@@ -87,6 +92,8 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
      */
     protected void handleButtonRelease ()
     {
+        this.longPressTimer.cancel ();
+
         if (!this.isBound ())
             return;
 
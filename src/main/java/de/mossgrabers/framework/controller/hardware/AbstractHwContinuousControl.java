@@ -9,6 +9,7 @@ import de.mossgrabers.framework.command.core.PitchbendCommand;
 import de.mossgrabers.framework.command.core.TriggerCommand;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 import java.util.function.IntConsumer;
 import java.util.function.IntSupplier;
@@ -32,16 +33,21 @@ public abstract class AbstractHwContinuousControl extends AbstractHwInputControl
     protected IntConsumer       consumer;
     protected int               outputValue           = -1;
 
+    private final TimerWheel.Timer longTouchTimer;
+
 
     /**
      * Constructor.
      *
      * @param host The host
+     * @param timerWheel The timer wheel of the surface for detecting long touches
      * @param label The label of the control
      */
-    protected AbstractHwContinuousControl (final IHost host, final String label)
+    protected AbstractHwContinuousControl (final IHost host, final TimerWheel timerWheel, final String label)
     {
         super (host, label);
+
+        this.longTouchTimer = timerWheel.createTimer (this::checkButtonState);
     }
 
 
@@ -100,7 +106,10 @@ public abstract class AbstractHwContinuousControl extends AbstractHwInputControl
         if (this.touchCommand == null)
             return;
 
-        this.host.scheduleTask (this::checkButtonState, BUTTON_STATE_INTERVAL);
+        if (isDown)
+            this.longTouchTimer.start (BUTTON_STATE_INTERVAL);
+        else
+            this.longTouchTimer.cancel ();
 
         this.state = isDown ? ButtonEvent.DOWN : ButtonEvent.UP;
         this.touchCommand.execute (this.state, isDown ? 127 : 0);
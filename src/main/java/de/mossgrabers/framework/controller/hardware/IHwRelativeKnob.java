@@ -34,4 +34,16 @@ public interface IHwRelativeKnob extends IHwContinuousControl
      * @param shouldAdaptSensitivity True if the knob should be adjusted to the sensitivity settings
      */
     void setShouldAdaptSensitivity (boolean shouldAdaptSensitivity);
+
+
+    /**
+     * Set the window in which the changes of the knob are summed up before they are applied. Only
+     * changes of parameters are summed up. Commands receive each change, since some of them only
+     * take one step per call.
+     *
+     * @param window The duration in milliseconds, 0 applies each change immediately
+     * @param acceleration The strength of the acceleration which is applied to the (summed)
+     *            changes, 0 is off
+     */
+    void setChangeWindow (int window, int acceleration);
 }
@@ -10,6 +10,7 @@ import de.mossgrabers.framework.controller.OutputID;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 import java.util.function.Consumer;
 import java.util.function.IntConsumer;
@@ -141,6 +142,14 @@ public interface IHwSurfaceFactory
     IHwPianoKeyboard createPianoKeyboard (int surfaceID, int numKeys);
 
 
+    /**
+     * Get the timer wheel which executes the timers of the controls and displays of the surface.
+     *
+     * @return The timer wheel
+     */
+    TimerWheel getTimerWheel ();
+
+
     /**
      * Flush the state to the hardware device.
      */
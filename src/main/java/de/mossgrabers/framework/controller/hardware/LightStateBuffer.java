@@ -0,0 +1,103 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.hardware;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+
+/**
+ * Buffers the encoded states of all lights of a surface in a flat array. State updates are
+ * collected in a list of changed lights during a frame and only the lights which state differs
+ * from the last transmitted one are sent when the buffer is flushed.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LightStateBuffer
+{
+    private static final int NOT_SENT   = Integer.MIN_VALUE;
+
+    private int []           states     = new int [64];
+    private int []           sentStates = new int [64];
+    private boolean []       isChanged  = new boolean [64];
+    private int []           changes    = new int [64];
+    private IntConsumer []   senders    = new IntConsumer [64];
+    private int              numLights  = 0;
+    private int              numChanges = 0;
+
+
+    /**
+     * Register a light.
+     *
+     * @param sender The consumer which sends an encoded state of the light to the device
+     * @return The index of the light in the buffer
+     */
+    public synchronized int register (final IntConsumer sender)
+    {
+        if (this.numLights == this.states.length)
+        {
+            final int size = this.numLights * 2;
+            this.states = Arrays.copyOf (this.states, size);
+            this.sentStates = Arrays.copyOf (this.sentStates, size);
+            this.isChanged = Arrays.copyOf (this.isChanged, size);
+            this.changes = Arrays.copyOf (this.changes, size);
+            this.senders = Arrays.copyOf (this.senders, size);
+        }
+
+        final int index = this.numLights++;
+        this.senders[index] = sender;
+        this.sentStates[index] = NOT_SENT;
+        return index;
+    }
+
+
+    /**
+     * Set the encoded state of a light. The state is sent with the next flush, if it differs from
+     * the last sent state.
+     *
+     * @param index The index of the light
+     * @param state The encoded state
+     */
+    public synchronized void set (final int index, final int state)
+    {
+        this.states[index] = state;
+        if (!this.isChanged[index])
+        {
+            this.isChanged[index] = true;
+            this.changes[this.numChanges++] = index;
+        }
+    }
+
+
+    /**
+     * Send the states of all lights which have changed since the last flush.
+     */
+    public synchronized void flush ()
+    {
+        for (int i = 0; i < this.numChanges; i++)
+        {
+            final int index = this.changes[i];
+            this.isChanged[index] = false;
+
+            final int state = this.states[index];
+            if (state != this.sentStates[index])
+            {
+                this.sentStates[index] = state;
+                this.senders[index].accept (state);
+            }
+        }
+        this.numChanges = 0;
+    }
+
+
+    /**
+     * Forget the states which were sent, which forces all lights to be sent again when they are
+     * set the next time.
+     */
+    public synchronized void invalidate ()
+    {
+        Arrays.fill (this.sentStates, 0, this.numLights, NOT_SENT);
+    }
+}
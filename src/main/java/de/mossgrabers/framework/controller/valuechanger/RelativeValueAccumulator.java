@@ -0,0 +1,136 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.valuechanger;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.function.IntConsumer;
+
+
+/**
+ * Sums the changes of a relative knob which arrive within a time window and applies them as one
+ * change. This reduces the calls into the DAW (and the resulting value updates) if a knob is turned
+ * fast. Optionally, the summed change is accelerated depending on the number of steps received in
+ * the window. If the window is 0, each change is accelerated by its own size and applied
+ * immediately.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class RelativeValueAccumulator
+{
+    /** The largest change which can be encoded in a single relative value. */
+    public static final int   MAX_SPEED              = 61;
+
+    /** The number of steps in a window above which the acceleration starts. */
+    private static final int  ACCELERATION_THRESHOLD = 4;
+
+    private final IHost       host;
+    private final IntConsumer consumer;
+    private final Object      lock                   = new Object ();
+
+    private int               window;
+    private int               acceleration;
+    private int               speed;
+    private boolean           isScheduled;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for scheduling the delayed application of the changes
+     * @param consumer Receives the (summed) changes, the values are decoded in the range of
+     *            [-61..61]
+     */
+    public RelativeValueAccumulator (final IHost host, final IntConsumer consumer)
+    {
+        this.host = host;
+        this.consumer = consumer;
+    }
+
+
+    /**
+     * Configure the accumulation.
+     *
+     * @param window The duration in milliseconds in which changes are summed, 0 turns summing off
+     * @param acceleration The strength of the acceleration, 0 turns it off
+     */
+    public void configure (final int window, final int acceleration)
+    {
+        synchronized (this.lock)
+        {
+            this.window = Math.max (0, window);
+            this.acceleration = Math.max (0, acceleration);
+        }
+    }
+
+
+    /**
+     * Add a change.
+     *
+     * @param change The decoded change of the knob, negative values decrease
+     */
+    public void add (final int change)
+    {
+        final int accelerated;
+        synchronized (this.lock)
+        {
+            if (this.window > 0)
+            {
+                this.speed += change;
+                if (!this.isScheduled)
+                {
+                    this.isScheduled = true;
+                    this.host.scheduleTask (this::apply, this.window);
+                }
+                return;
+            }
+            accelerated = accelerate (change, this.acceleration);
+        }
+
+        // A single change is not split up to keep one call per received change
+        this.consumer.accept (Math.max (-MAX_SPEED, Math.min (MAX_SPEED, accelerated)));
+    }
+
+
+    /**
+     * Apply the summed changes of the window. Changes which are larger than the maximum encodable
+     * speed are split up.
+     */
+    private void apply ()
+    {
+        int change;
+        synchronized (this.lock)
+        {
+            change = accelerate (this.speed, this.acceleration);
+            this.speed = 0;
+            this.isScheduled = false;
+        }
+
+        while (change != 0)
+        {
+            final int part = Math.max (-MAX_SPEED, Math.min (MAX_SPEED, change));
+            this.consumer.accept (part);
+            change -= part;
+        }
+    }
+
+
+    /**
+     * Accelerate a summed change. Up to the threshold the change is not modified. Above the
+     * threshold each additional step adds to the gain, scaled by the acceleration strength.
+     *
+     * @param change The summed change
+     * @param acceleration The strength of the acceleration, 0 turns it off
+     * @return The accelerated change
+     */
+    public static int accelerate (final int change, final int acceleration)
+    {
+        final int steps = Math.abs (change);
+        if (acceleration <= 0 || steps <= ACCELERATION_THRESHOLD)
+            return change;
+        final double gain = 1.0 + acceleration * (steps - ACCELERATION_THRESHOLD) / (double) ACCELERATION_THRESHOLD;
+        return (int) Math.round (change * gain);
+    }
+}
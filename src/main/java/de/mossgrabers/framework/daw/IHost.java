@@ -100,9 +100,11 @@ public interface IHost
      *
      * @param serverAddress The address of the server
      * @param serverPort The port of the server
+     * @param maxBundleSize The maximum size of a bundle in bytes, larger bundles are split
+     * @param bundlesPerPass The maximum number of bundles to send in one pass (every 10ms)
      * @return Interface for interacting with the server
      */
-    IOpenSoundControlClient connectToOSCServer (String serverAddress, int serverPort);
+    IOpenSoundControlClient connectToOSCServer (String serverAddress, int serverPort, int maxBundleSize, int bundlesPerPass);
 
 
     /**
@@ -109,6 +109,14 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final SysExBuilder builder)
+    {
+        this.sendSysex (builder.toArray ());
+    }
+
+
     /**
      * Sends a MIDI message to the hardware device.
      *
@@ -141,4 +141,12 @@ public interface IMidiOutput
      * @param data The data to send, formatted as a hex string, e.g. F0 7E 7F 06 01 F7
      */
     void sendSysex (String data);
+
+
+    /**
+     * Send the system exclusive message which was assembled with the given builder.
+     *
+     * @param builder The builder which contains the message
+     */
+    void sendSysex (SysExBuilder builder);
 }
\ No newline at end of file
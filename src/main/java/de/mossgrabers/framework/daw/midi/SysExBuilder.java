@@ -0,0 +1,256 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import de.mossgrabers.framework.utils.StringUtils;
+
+import java.util.Arrays;
+
+
+/**
+ * Assembles a system exclusive message directly into a byte array. Create one instance per message
+ * type (header) and reuse it for all messages, the internal buffer only grows. Not thread-safe, use
+ * one instance per sending thread.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SysExBuilder
+{
+    private static final int SYSEX_END = 0xF7;
+
+    private final byte []    header;
+    private byte []          buffer;
+    private int              size;
+
+
+    /**
+     * Constructor.
+     *
+     * @param header The header of the message including the leading F0, formatted as a hex string,
+     *            e.g. "F0 00 20 29 02 0A 01"
+     */
+    public SysExBuilder (final String header)
+    {
+        final int [] data = StringUtils.fromHexStr (header.replace (" ", ""));
+        this.header = new byte [data.length];
+        for (int i = 0; i < data.length; i++)
+            this.header[i] = (byte) data[i];
+
+        this.buffer = new byte [Math.max (64, this.header.length * 2)];
+        this.reset ();
+    }
+
+
+    /**
+     * Start a new message. Removes all added data and writes the header.
+     *
+     * @return The builder for chaining
+     */
+    public SysExBuilder reset ()
+    {
+        System.arraycopy (this.header, 0, this.buffer, 0, this.header.length);
+        this.size = this.header.length;
+        return this;
+    }
+
+
+    /**
+     * Add a data byte. Only the lower 7 bits are used.
+     *
+     * @param value The value
+     * @return The builder for chaining
+     */
+    public SysExBuilder add (final int value)
+    {
+        this.ensureCapacity (1);
+        this.buffer[this.size++] = (byte) (value & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Add two data bytes. Only the lower 7 bits of each value are used.
+     *
+     * @param value1 The first value
+     * @param value2 The second value
+     * @return The builder for chaining
+     */
+    public SysExBuilder add (final int value1, final int value2)
+    {
+        this.ensureCapacity (2);
+        this.buffer[this.size++] = (byte) (value1 & 0x7F);
+        this.buffer[this.size++] = (byte) (value2 & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Add three data bytes. Only the lower 7 bits of each value are used.
+     *
+     * @param value1 The first value
+     * @param value2 The second value
+     * @param value3 The third value
+     * @return The builder for chaining
+     */
+    public SysExBuilder add (final int value1, final int value2, final int value3)
+    {
+        this.ensureCapacity (3);
+        this.buffer[this.size++] = (byte) (value1 & 0x7F);
+        this.buffer[this.size++] = (byte) (value2 & 0x7F);
+        this.buffer[this.size++] = (byte) (value3 & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Add four data bytes. Only the lower 7 bits of each value are used.
+     *
+     * @param value1 The first value
+     * @param value2 The second value
+     * @param value3 The third value
+     * @param value4 The fourth value
+     * @return The builder for chaining
+     */
+    public SysExBuilder add (final int value1, final int value2, final int value3, final int value4)
+    {
+        this.ensureCapacity (4);
+        this.buffer[this.size++] = (byte) (value1 & 0x7F);
+        this.buffer[this.size++] = (byte) (value2 & 0x7F);
+        this.buffer[this.size++] = (byte) (value3 & 0x7F);
+        this.buffer[this.size++] = (byte) (value4 & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Add several data bytes. Only the lower 7 bits of each value are used.
+     *
+     * @param values The values
+     * @return The builder for chaining
+     */
+    public SysExBuilder add (final int... values)
+    {
+        this.ensureCapacity (values.length);
+        for (final int value: values)
+            this.buffer[this.size++] = (byte) (value & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Add a range of data bytes. Only the lower 7 bits of each value are used.
+     *
+     * @param values The values
+     * @param offset The index of the first value to add
+     * @param length The number of values to add
+     * @return The builder for chaining
+     */
+    public SysExBuilder add (final int [] values, final int offset, final int length)
+    {
+        this.ensureCapacity (length);
+        for (int i = 0; i < length; i++)
+            this.buffer[this.size++] = (byte) (values[offset + i] & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Add the characters of a text. Characters which are not 7-bit ASCII are replaced by '?'.
+     *
+     * @param text The text
+     * @return The builder for chaining
+     */
+    public SysExBuilder addText (final String text)
+    {
+        return this.addText (text, 0, text.length ());
+    }
+
+
+    /**
+     * Add a range of characters of a text. Characters which are not 7-bit ASCII are replaced by
+     * '?'.
+     *
+     * @param text The text
+     * @param start The index of the first character
+     * @param end The index after the last character
+     * @return The builder for chaining
+     */
+    public SysExBuilder addText (final String text, final int start, final int end)
+    {
+        this.ensureCapacity (end - start);
+        for (int i = start; i < end; i++)
+        {
+            final char c = text.charAt (i);
+            this.buffer[this.size++] = (byte) (c > 127 ? '?' : c);
+        }
+        return this;
+    }
+
+
+    /**
+     * Overwrite an already added data byte, e.g. a length field which is only known after all
+     * data was added.
+     *
+     * @param index The index of the data byte, 0 is the first byte after the header
+     * @param value The value, only the lower 7 bits are used
+     * @return The builder for chaining
+     */
+    public SysExBuilder set (final int index, final int value)
+    {
+        final int position = this.header.length + index;
+        if (index < 0 || position >= this.size)
+            throw new IndexOutOfBoundsException (Integer.toString (index));
+        this.buffer[position] = (byte) (value & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Get the number of bytes of the message (including the header) without the end byte.
+     *
+     * @return The number of bytes
+     */
+    public int getSize ()
+    {
+        return this.size;
+    }
+
+
+    /**
+     * Get the number of data bytes added after the header.
+     *
+     * @return The number of bytes
+     */
+    public int getDataSize ()
+    {
+        return this.size - this.header.length;
+    }
+
+
+    /**
+     * Create the complete message terminated with F7.
+     *
+     * @return The message
+     */
+    public byte [] toArray ()
+    {
+        final byte [] message = Arrays.copyOf (this.buffer, this.size + 1);
+        message[this.size] = (byte) SYSEX_END;
+        return message;
+    }
+
+
+    /**
+     * Make sure that the given number of bytes fit into the buffer.
+     *
+     * @param additional The number of bytes to add
+     */
+    private void ensureCapacity (final int additional)
+    {
+        final int required = this.size + additional;
+        if (required > this.buffer.length)
+            this.buffer = Arrays.copyOf (this.buffer, Math.max (required, this.buffer.length * 2));
+    }
+}
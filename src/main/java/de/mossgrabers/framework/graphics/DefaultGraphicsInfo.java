@@ -14,6 +14,7 @@ public class DefaultGraphicsInfo implements IGraphicsInfo
     private final IGraphicsContext       gc;
     private final IGraphicsConfiguration configuration;
     private final IGraphicsDimensions    dimensions;
+    private final SpriteCache            spriteCache;
     private final IBounds                bounds;
 
 
@@ -23,13 +24,11 @@ public class DefaultGraphicsInfo implements IGraphicsInfo
      * @param gc The graphics context
      * @param configuration The configuration
      * @param dimensions The pre-calculated dimensions
+     * @param spriteCache The cache for pre-rendered decorations
      */
-    public DefaultGraphicsInfo (final IGraphicsContext gc, final IGraphicsConfiguration configuration, final IGraphicsDimensions dimensions)
+    public DefaultGraphicsInfo (final IGraphicsContext gc, final IGraphicsConfiguration configuration, final IGraphicsDimensions dimensions, final SpriteCache spriteCache)
     {
-        this.gc = gc;
-        this.configuration = configuration;
-        this.dimensions = dimensions;
-        this.bounds = null;
+        this (gc, configuration, dimensions, spriteCache, null);
     }
 
 
@@ -39,13 +38,15 @@ public class DefaultGraphicsInfo implements IGraphicsInfo
      * @param gc The graphics context
      * @param configuration The configuration
      * @param dimensions The pre-calculated dimensions
+     * @param spriteCache The cache for pre-rendered decorations
      * @param bounds The bounds
      */
-    public DefaultGraphicsInfo (final IGraphicsContext gc, final IGraphicsConfiguration configuration, final IGraphicsDimensions dimensions, final IBounds bounds)
+    public DefaultGraphicsInfo (final IGraphicsContext gc, final IGraphicsConfiguration configuration, final IGraphicsDimensions dimensions, final SpriteCache spriteCache, final IBounds bounds)
     {
         this.gc = gc;
         this.configuration = configuration;
         this.dimensions = dimensions;
+        this.spriteCache = spriteCache;
         this.bounds = bounds;
     }
 
@@ -74,6 +75,14 @@ public class DefaultGraphicsInfo implements IGraphicsInfo
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public SpriteCache getSpriteCache ()
+    {
+        return this.spriteCache;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public IBounds getBounds ()
@@ -94,6 +103,6 @@ public class DefaultGraphicsInfo implements IGraphicsInfo
     @Override
     public IGraphicsInfo withBounds (final double left, final double top, final double width, final double height)
     {
-        return new DefaultGraphicsInfo (this.gc, this.configuration, this.dimensions, new DefaultBounds (left, top, width, height));
+        return new DefaultGraphicsInfo (this.gc, this.configuration, this.dimensions, this.spriteCache, new DefaultBounds (left, top, width, height));
     }
 }
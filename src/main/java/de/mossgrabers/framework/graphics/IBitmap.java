@@ -5,11 +5,12 @@
 package de.mossgrabers.framework.graphics;
 
 /**
- * An interface to a bitmap, which can also be displayed in a window.
+ * An interface to a bitmap, which can also be displayed in a window. A bitmap can be drawn as an
+ * image into another one.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public interface IBitmap
+public interface IBitmap extends IImage
 {
     /**
      * Set a title for the window, which displays the Bitmap.
@@ -40,4 +41,22 @@ public interface IBitmap
      * @param encoder The encoder to use
      */
     void encode (IEncoder encoder);
+
+
+    /**
+     * Get the number of text measurements of the last rendered frame, which were answered from
+     * the cache.
+     *
+     * @return The number of cache hits
+     */
+    int getLastFrameTextCacheHits ();
+
+
+    /**
+     * Get the number of text measurements of the last rendered frame, which needed to calculate
+     * the extent of the text.
+     *
+     * @return The number of extent calculations
+     */
+    int getLastFrameTextExtentCalls ();
 }
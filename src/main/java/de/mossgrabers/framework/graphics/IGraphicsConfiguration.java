@@ -108,4 +108,12 @@ public interface IGraphicsConfiguration
      * @return True if enabled
      */
     boolean isAntialiasEnabled ();
+
+
+    /**
+     * Get the maximum number of pre-rendered decorations (sprites) to cache.
+     *
+     * @return The number, 0 turns the cache off
+     */
+    int getSpriteCacheSize ();
 }
@@ -35,6 +35,14 @@ public interface IGraphicsInfo
     IGraphicsDimensions getDimensions ();
 
 
+    /**
+     * Get the cache for pre-rendered decorations.
+     *
+     * @return The cache
+     */
+    SpriteCache getSpriteCache ();
+
+
     /**
      * Get the bounds into which to draw the component.
      *
@@ -0,0 +1,95 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics;
+
+/**
+ * Converts pixels from 32 bit (0xAARRGGBB) to 16 bit (5 bit blue, 6 bit green, 5 bit red from the
+ * highest to the lowest bit). The conversion uses pre-calculated tables for the color channels.
+ * Optionally, an ordered (4x4 Bayer) dithering can be applied, which reduces the visible banding of
+ * gradients. Since the dithering only depends on the position of a pixel, parts of an image can be
+ * converted independently.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class RGB565Converter
+{
+    // @formatter:off
+    private static final int []        BAYER_MATRIX =
+    {
+         0,  8,  2, 10,
+        12,  4, 14,  6,
+         3, 11,  1,  9,
+        15,  7, 13,  5
+    };
+    // @formatter:on
+
+    /** The tables for each threshold of the Bayer matrix, index 0 contains no offset. */
+    private static final short [] [] RED_TABLES   = new short [16] [256];
+    private static final short [] [] GREEN_TABLES = new short [16] [256];
+    private static final short [] [] BLUE_TABLES  = new short [16] [256];
+
+    static
+    {
+        for (int t = 0; t < 16; t++)
+        {
+            for (int value = 0; value < 256; value++)
+            {
+                // Add a fraction of the quantization step (8 for 5 bits, 4 for 6 bits) before the
+                // lower bits are dropped
+                final int value5 = Math.min (255, value + (t * 8 >> 4));
+                final int value6 = Math.min (255, value + (t * 4 >> 4));
+                RED_TABLES[t][value] = (short) (value5 >> 3);
+                GREEN_TABLES[t][value] = (short) (value6 >> 2 << 5);
+                BLUE_TABLES[t][value] = (short) (value5 >> 3 << 11);
+            }
+        }
+    }
+
+
+    /**
+     * Constructor, private due to help class.
+     */
+    private RGB565Converter ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Convert a range of pixels of one line.
+     *
+     * @param source The source pixels (0xAARRGGBB), the alpha channel is ignored
+     * @param sourceOffset The index of the first pixel to convert in the source
+     * @param target Where to store the converted pixels
+     * @param targetOffset The index where to store the first converted pixel in the target
+     * @param x The horizontal position of the first pixel in the image
+     * @param y The vertical position of the line in the image
+     * @param length The number of pixels to convert
+     * @param dither Apply ordered dithering if true
+     */
+    public static void convertLine (final int [] source, final int sourceOffset, final short [] target, final int targetOffset, final int x, final int y, final int length, final boolean dither)
+    {
+        if (!dither)
+        {
+            final short [] reds = RED_TABLES[0];
+            final short [] greens = GREEN_TABLES[0];
+            final short [] blues = BLUE_TABLES[0];
+            for (int i = 0; i < length; i++)
+            {
+                final int pixel = source[sourceOffset + i];
+                target[targetOffset + i] = (short) (reds[pixel >> 16 & 0xFF] | greens[pixel >> 8 & 0xFF] | blues[pixel & 0xFF]);
+            }
+            return;
+        }
+
+        final int row = (y & 3) << 2;
+        for (int i = 0; i < length; i++)
+        {
+            final int threshold = BAYER_MATRIX[row + (x + i & 3)];
+            final int pixel = source[sourceOffset + i];
+            target[targetOffset + i] = (short) (RED_TABLES[threshold][pixel >> 16 & 0xFF] | GREEN_TABLES[threshold][pixel >> 8 & 0xFF] | BLUE_TABLES[threshold][pixel & 0xFF]);
+        }
+    }
+}
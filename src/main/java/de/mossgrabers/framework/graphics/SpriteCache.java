@@ -0,0 +1,190 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.resource.ResourceHandler;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Caches pre-rendered raster images (sprites) of static decorations like masked icons and button
+ * backgrounds. Drawing a sprite is a simple copy of pixels, whereas the vector graphics and SVG
+ * icons need to be rasterized again on every rendering. The least recently used sprites are
+ * removed if the cache is full. If the maximum size is 0, all decorations are drawn directly. Must
+ * only be used from the rendering of one display.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SpriteCache
+{
+    /**
+     * Draws the content of a sprite.
+     */
+    @FunctionalInterface
+    public interface ISpritePainter
+    {
+        /**
+         * Draw the content.
+         *
+         * @param gc The graphics context
+         * @param left The left edge of the content
+         * @param top The top edge of the content
+         */
+        void paint (IGraphicsContext gc, double left, double top);
+    }
+
+
+    private final IHost                host;
+    private final Map<String, IBitmap> sprites = new LinkedHashMap<> (64, 0.75f, true);
+    private int                        maximumSize;
+    private boolean                    isAntialiasEnabled;
+    private int                        hits;
+    private int                        misses;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for creating the bitmaps of the sprites
+     */
+    public SpriteCache (final IHost host)
+    {
+        this.host = host;
+    }
+
+
+    /**
+     * Configure the cache.
+     *
+     * @param maximumSize The maximum number of sprites, 0 turns the cache off
+     * @param isAntialiasEnabled True to render the sprites with antialiasing
+     */
+    public void configure (final int maximumSize, final boolean isAntialiasEnabled)
+    {
+        if (isAntialiasEnabled != this.isAntialiasEnabled)
+            this.sprites.clear ();
+        this.isAntialiasEnabled = isAntialiasEnabled;
+        this.maximumSize = Math.max (0, maximumSize);
+        this.trim ();
+    }
+
+
+    /**
+     * Draw a sprite. If it is not cached, it is rendered first. The key must describe everything
+     * which has an influence on the content, e.g. colors and texts.
+     *
+     * @param gc The graphics context to draw to
+     * @param key The key which identifies the content of the sprite
+     * @param left The left edge of the drawing area
+     * @param top The top edge of the drawing area
+     * @param width The width of the drawing area
+     * @param height The height of the drawing area
+     * @param painter Draws the content, is called with the graphics context of the sprite or with
+     *            the given one if the cache is off
+     */
+    public void drawSprite (final IGraphicsContext gc, final String key, final double left, final double top, final double width, final double height, final ISpritePainter painter)
+    {
+        if (this.maximumSize == 0 || width <= 0 || height <= 0)
+        {
+            painter.paint (gc, left, top);
+            return;
+        }
+
+        // Keep the fractions of the position to get the same antialiasing as if drawn directly
+        final double x = Math.floor (left);
+        final double y = Math.floor (top);
+        final double offsetX = left - x;
+        final double offsetY = top - y;
+
+        final String spriteKey = key + "|" + width + "|" + height + "|" + offsetX + "|" + offsetY;
+        IBitmap sprite = this.sprites.get (spriteKey);
+        if (sprite == null)
+        {
+            this.misses++;
+            sprite = this.host.createBitmap ((int) Math.ceil (offsetX + width), (int) Math.ceil (offsetY + height));
+            sprite.render (this.isAntialiasEnabled, spriteContext -> painter.paint (spriteContext, offsetX, offsetY));
+            this.sprites.put (spriteKey, sprite);
+            this.trim ();
+        }
+        else
+            this.hits++;
+
+        gc.drawImage (sprite, x, y);
+    }
+
+
+    /**
+     * Draw an SVG icon masked with a color.
+     *
+     * @param gc The graphics context to draw to
+     * @param iconName The name of the icon, see {@link ResourceHandler}
+     * @param left The left edge of the icon
+     * @param top The top edge of the icon
+     * @param maskColor The color to use for masking
+     */
+    public void drawMaskedIcon (final IGraphicsContext gc, final String iconName, final double left, final double top, final ColorEx maskColor)
+    {
+        final IImage icon = ResourceHandler.getSVGImage (iconName);
+        this.drawSprite (gc, "icon|" + iconName + "|" + maskColor.encode (), left, top, icon.getWidth (), icon.getHeight (), (spriteContext, x, y) -> spriteContext.maskImage (icon, x, y, maskColor));
+    }
+
+
+    /**
+     * Get the number of cached sprites.
+     *
+     * @return The number
+     */
+    public int getSize ()
+    {
+        return this.sprites.size ();
+    }
+
+
+    /**
+     * Get the maximum number of cached sprites.
+     *
+     * @return The number, 0 if the cache is off
+     */
+    public int getMaximumSize ()
+    {
+        return this.maximumSize;
+    }
+
+
+    /**
+     * Get the number of sprites which were drawn from the cache.
+     *
+     * @return The number of hits
+     */
+    public int getHits ()
+    {
+        return this.hits;
+    }
+
+
+    /**
+     * Get the number of sprites which needed to be rendered.
+     *
+     * @return The number of misses
+     */
+    public int getMisses ()
+    {
+        return this.misses;
+    }
+
+
+    private void trim ()
+    {
+        while (this.sprites.size () > this.maximumSize)
+        {
+            final String eldest = this.sprites.keySet ().iterator ().next ();
+            this.sprites.remove (eldest);
+        }
+    }
+}
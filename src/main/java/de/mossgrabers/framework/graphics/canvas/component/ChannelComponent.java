@@ -172,9 +172,9 @@ public class ChannelComponent extends ChannelSelectComponent
         {
             final ColorEx selColor = this.editType == EDIT_TYPE_CROSSFADER || this.editType == EDIT_TYPE_ALL ? editColor : ColorEx.ORANGE;
             final double crossOptWidth = controlWidth / 3.0;
-            this.drawButton (gc, leftColumn, controlsTop, crossOptWidth, panHeight + 2, backgroundColor, this.modifyIfOff (selColor), textColor, this.crossfadeMode == 0, "track/crossfade_a.svg", configuration, 0);
-            this.drawButton (gc, leftColumn + crossOptWidth, controlsTop, crossOptWidth, panHeight + 2, backgroundColor, this.modifyIfOff (selColor), textColor, this.crossfadeMode == 1, "track/crossfade_ab.svg", configuration, 0);
-            this.drawButton (gc, leftColumn + 2 * crossOptWidth, controlsTop, crossOptWidth, panHeight + 2, backgroundColor, this.modifyIfOff (selColor), textColor, this.crossfadeMode == 2, "track/crossfade_b.svg", configuration, 0);
+            this.drawButton (info, leftColumn, controlsTop, crossOptWidth, panHeight + 2, backgroundColor, this.modifyIfOff (selColor), textColor, this.crossfadeMode == 0, "track/crossfade_a.svg", configuration, 0);
+            this.drawButton (info, leftColumn + crossOptWidth, controlsTop, crossOptWidth, panHeight + 2, backgroundColor, this.modifyIfOff (selColor), textColor, this.crossfadeMode == 1, "track/crossfade_ab.svg", configuration, 0);
+            this.drawButton (info, leftColumn + 2 * crossOptWidth, controlsTop, crossOptWidth, panHeight + 2, backgroundColor, this.modifyIfOff (selColor), textColor, this.crossfadeMode == 2, "track/crossfade_b.svg", configuration, 0);
         }
 
         // Panorama
@@ -261,16 +261,16 @@ public class ChannelComponent extends ChannelSelectComponent
         if (this.type != ChannelType.LAYER)
         {
             // Record Arm
-            this.drawButton (gc, leftColumn, buttonTop, controlWidth, buttonHeight - 1, backgroundColor, this.modifyIfOff (configuration.getColorRecord ()), textColor, this.isArm, "channel/record_arm.svg", configuration);
+            this.drawButton (info, leftColumn, buttonTop, controlWidth, buttonHeight - 1, backgroundColor, this.modifyIfOff (configuration.getColorRecord ()), textColor, this.isArm, "channel/record_arm.svg", configuration);
         }
 
         // Solo
         buttonTop += buttonHeight + 2 * separatorSize;
-        this.drawButton (gc, leftColumn, buttonTop, controlWidth, buttonHeight - 1, backgroundColor, this.modifyIfOff (configuration.getColorSolo ()), textColor, this.isSolo, "channel/solo.svg", configuration);
+        this.drawButton (info, leftColumn, buttonTop, controlWidth, buttonHeight - 1, backgroundColor, this.modifyIfOff (configuration.getColorSolo ()), textColor, this.isSolo, "channel/solo.svg", configuration);
 
         // Mute
         buttonTop += buttonHeight + 2 * separatorSize;
-        this.drawButton (gc, leftColumn, buttonTop, controlWidth, buttonHeight - 1, backgroundColor, this.modifyIfOff (configuration.getColorMute ()), textColor, this.isMute, "channel/mute.svg", configuration);
+        this.drawButton (info, leftColumn, buttonTop, controlWidth, buttonHeight - 1, backgroundColor, this.modifyIfOff (configuration.getColorMute ()), textColor, this.isMute, "channel/mute.svg", configuration);
 
         // Draw panorama text on top if set
         if (isPanTouched)
@@ -294,7 +294,7 @@ public class ChannelComponent extends ChannelSelectComponent
     /**
      * Draws a button a gradient background.
      *
-     * @param gc The graphics context
+     * @param info The graphics info
      * @param left The left bound of the drawing area
      * @param top The top bound of the drawing area
      * @param width The width of the drawing area
@@ -306,16 +306,16 @@ public class ChannelComponent extends ChannelSelectComponent
      * @param iconName The name of the buttons icon
      * @param configuration The layout settings
      */
-    private void drawButton (final IGraphicsContext gc, final double left, final double top, final double width, final double height, final ColorEx backgroundColor, final ColorEx isOnColor, final ColorEx textColor, final boolean isOn, final String iconName, final IGraphicsConfiguration configuration)
+    private void drawButton (final IGraphicsInfo info, final double left, final double top, final double width, final double height, final ColorEx backgroundColor, final ColorEx isOnColor, final ColorEx textColor, final boolean isOn, final String iconName, final IGraphicsConfiguration configuration)
     {
-        this.drawButton (gc, left, top, width, height, backgroundColor, isOnColor, textColor, isOn, iconName, configuration, 2.0);
+        this.drawButton (info, left, top, width, height, backgroundColor, isOnColor, textColor, isOn, iconName, configuration, 2.0);
     }
 
 
     /**
      * Draws a button a gradient background.
      *
-     * @param gc The graphics context
+     * @param info The graphics info
      * @param left The left bound of the drawing area
      * @param top The top bound of the drawing area
      * @param width The width of the drawing area
@@ -328,19 +328,27 @@ public class ChannelComponent extends ChannelSelectComponent
      * @param configuration The layout settings
      * @param radius The radius of the surrounding border rectangle
      */
-    private void drawButton (final IGraphicsContext gc, final double left, final double top, final double width, final double height, final ColorEx backgroundColor, final ColorEx isOnColor, final ColorEx textColor, final boolean isOn, final String iconName, final IGraphicsConfiguration configuration, final double radius)
+    private void drawButton (final IGraphicsInfo info, final double left, final double top, final double width, final double height, final ColorEx backgroundColor, final ColorEx isOnColor, final ColorEx textColor, final boolean isOn, final String iconName, final IGraphicsConfiguration configuration, final double radius)
     {
         final ColorEx borderColor = this.modifyIfOff (configuration.getColorBorder ());
+        final ColorEx fillColor = isOn ? isOnColor : backgroundColor;
+        final ColorEx maskColor = isOn ? borderColor : textColor;
 
-        gc.fillRoundedRectangle (left, top, width, height, radius, borderColor);
+        // The button only depends on its colors, size and icon, therefore draw it as a sprite
+        final String key = "button|" + iconName + "|" + isOn + "|" + radius + "|" + borderColor.encode () + "|" + fillColor.encode () + "|" + maskColor.encode ();
+        info.getSpriteCache ().drawSprite (info.getContext (), key, left, top, width, height, (gc, x, y) -> {
 
-        if (isOn)
-            gc.fillRoundedRectangle (left + 1, top + 1, width - 2, height - 2, radius, isOnColor);
-        else
-            gc.fillGradientRoundedRectangle (left + 1, top + 1, width - 2, height - 2, radius, backgroundColor, ColorEx.brighter (backgroundColor));
+            gc.fillRoundedRectangle (x, y, width, height, radius, borderColor);
+
+            if (isOn)
+                gc.fillRoundedRectangle (x + 1, y + 1, width - 2, height - 2, radius, fillColor);
+            else
+                gc.fillGradientRoundedRectangle (x + 1, y + 1, width - 2, height - 2, radius, fillColor, ColorEx.brighter (fillColor));
+
+            final IImage icon = ResourceHandler.getSVGImage (iconName);
+            gc.maskImage (icon, x + (width - icon.getWidth ()) / 2, y + (height - icon.getHeight ()) / 2, maskColor);
 
-        final IImage icon = ResourceHandler.getSVGImage (iconName);
-        gc.maskImage (icon, left + (width - icon.getWidth ()) / 2, top + (height - icon.getHeight ()) / 2, isOn ? borderColor : textColor);
+        });
     }
 
 
@@ -20,4 +20,29 @@ public interface IComponent
      * @param info All necessary information to draw the component
      */
     void draw (final IGraphicsInfo info);
+
+
+    /**
+     * Does the component only paint inside of its bounds? If true, the component can be redrawn
+     * without redrawing its neighbours.
+     *
+     * @return True if the component does not paint outside of its bounds
+     */
+    default boolean isConfinedToBounds ()
+    {
+        return true;
+    }
+
+
+    /**
+     * Does the component only paint inside of its bounds and the separators left and right of it?
+     * If true, the component can be redrawn together with its direct neighbours without redrawing
+     * all other components.
+     *
+     * @return True if the component does not paint beyond the separators next to its bounds
+     */
+    default boolean isConfinedToSeparators ()
+    {
+        return this.isConfinedToBounds ();
+    }
 }
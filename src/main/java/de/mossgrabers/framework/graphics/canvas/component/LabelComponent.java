@@ -152,7 +152,7 @@ public class LabelComponent implements IComponent
             if (maskColor == null)
                 gc.drawImage (image, left + (doubleUnit - image.getWidth ()) / 2, textTop + (trackRowHeight - image.getHeight ()) / 2.0);
             else
-                gc.maskImage (image, left + (doubleUnit - image.getWidth ()) / 2, textTop + (trackRowHeight - image.getHeight ()) / 2.0, maskColor);
+                info.getSpriteCache ().drawMaskedIcon (gc, iconName, left + (doubleUnit - image.getWidth ()) / 2, textTop + (trackRowHeight - image.getHeight ()) / 2.0, maskColor);
         }
 
         gc.drawTextInBounds (this.text, left + doubleUnit, textTop, width - doubleUnit, trackRowHeight, Align.LEFT, this.modifyIfOff (configuration.getColorText ()), 1.2 * unit);
@@ -238,6 +238,23 @@ public class LabelComponent implements IComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isConfinedToBounds ()
+    {
+        // The line of the small header is drawn into the separators next to it
+        return this.layout != LabelLayout.SMALL_HEADER;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isConfinedToSeparators ()
+    {
+        return true;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int hashCode ()
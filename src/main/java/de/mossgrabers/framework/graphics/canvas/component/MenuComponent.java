@@ -72,6 +72,22 @@ public class MenuComponent implements IComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isConfinedToBounds ()
+    {
+        return this.header.isConfinedToBounds () && this.footer.isConfinedToBounds ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isConfinedToSeparators ()
+    {
+        return this.header.isConfinedToSeparators () && this.footer.isConfinedToSeparators ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int hashCode ()
@@ -178,4 +178,13 @@ public class MidiClipComponent implements IComponent
         if (playStep >= 0)
             gc.fillRectangle (left + playStep * stepWidth - 1, 0, 3, height, measureTextColor);
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isConfinedToBounds ()
+    {
+        // Notes and the play cursor are painted slightly beyond the bounds
+        return false;
+    }
 }
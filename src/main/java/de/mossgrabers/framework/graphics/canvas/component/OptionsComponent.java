@@ -94,6 +94,33 @@ public class OptionsComponent implements IComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isConfinedToBounds ()
+    {
+        return this.hasNoHeaders () && this.header.isConfinedToBounds () && this.footer.isConfinedToBounds ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isConfinedToSeparators ()
+    {
+        return this.hasNoHeaders () && this.header.isConfinedToSeparators () && this.footer.isConfinedToSeparators ();
+    }
+
+
+    /**
+     * The header texts are not limited to the width of the column.
+     *
+     * @return True if there are no header texts
+     */
+    private boolean hasNoHeaders ()
+    {
+        return (this.headerTop == null || this.headerTop.isEmpty ()) && (this.headerBottom == null || this.headerBottom.isEmpty ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int hashCode ()
@@ -153,6 +153,25 @@ public class SendsComponent extends ChannelSelectComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isConfinedToBounds ()
+    {
+        // In ex mode the background is drawn into the separator left of it to connect it with the
+        // track column
+        return !this.isExMode && super.isConfinedToBounds ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isConfinedToSeparators ()
+    {
+        // The background of the ex mode does not exceed the separator
+        return super.isConfinedToSeparators ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int hashCode ()
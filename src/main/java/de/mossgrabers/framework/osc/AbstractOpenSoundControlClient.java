@@ -0,0 +1,210 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+
+/**
+ * Base class for OSC server connections (the client). Splits bundles into chunks which fit into a
+ * configurable UDP payload size (calculated from the OSC 1.0 encoding of the messages) and sends
+ * the chunks paced from a queue, which does not block the calling thread.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public abstract class AbstractOpenSoundControlClient implements IOpenSoundControlClient
+{
+    /** The default maximum size of a bundle, fits into an ethernet frame without fragmentation. */
+    public static final int                             DEFAULT_MAX_BUNDLE_SIZE  = 1472;
+    /** The default number of bundles to send in one pass. */
+    public static final int                             DEFAULT_BUNDLES_PER_PASS = 3;
+
+    /** The pause between two send passes in milliseconds. */
+    private static final int                            PASS_INTERVAL            = 10;
+    /** The size of the bundle header: '#bundle' string and the time tag. */
+    private static final int                            BUNDLE_HEADER_SIZE       = 16;
+    /** The size of the size field in front of each bundle element. */
+    private static final int                            ELEMENT_SIZE_FIELD       = 4;
+
+    protected final IHost                               host;
+
+    private final int                                   maxBundleSize;
+    private final int                                   bundlesPerPass;
+    private final Deque<List<IOpenSoundControlMessage>> queue                    = new ArrayDeque<> ();
+    private boolean                                     isSending                = false;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The DAW host
+     * @param maxBundleSize The maximum size of a bundle in bytes
+     * @param bundlesPerPass The maximum number of bundles to send in one pass, a pass is sent every
+     *            10ms
+     */
+    protected AbstractOpenSoundControlClient (final IHost host, final int maxBundleSize, final int bundlesPerPass)
+    {
+        this.host = host;
+        this.maxBundleSize = maxBundleSize;
+        this.bundlesPerPass = Math.max (1, bundlesPerPass);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendBundle (final List<IOpenSoundControlMessage> messages) throws IOException
+    {
+        if (messages.isEmpty ())
+            return;
+
+        synchronized (this.queue)
+        {
+            List<IOpenSoundControlMessage> chunk = new ArrayList<> ();
+            int size = BUNDLE_HEADER_SIZE;
+            for (final IOpenSoundControlMessage message: messages)
+            {
+                final int elementSize = ELEMENT_SIZE_FIELD + getMessageSize (message);
+                // A message which is larger than the maximum size is sent alone in its own bundle
+                if (!chunk.isEmpty () && size + elementSize > this.maxBundleSize)
+                {
+                    this.queue.add (chunk);
+                    chunk = new ArrayList<> ();
+                    size = BUNDLE_HEADER_SIZE;
+                }
+                chunk.add (message);
+                size += elementSize;
+            }
+            this.queue.add (chunk);
+
+            if (this.isSending)
+                return;
+            this.isSending = true;
+        }
+
+        this.sendQueuedBundles ();
+    }
+
+
+    /**
+     * Send the next bundles from the queue. Schedules itself again if there are more bundles left.
+     */
+    private void sendQueuedBundles ()
+    {
+        for (int i = 0; i < this.bundlesPerPass; i++)
+        {
+            final List<IOpenSoundControlMessage> chunk;
+            synchronized (this.queue)
+            {
+                chunk = this.queue.poll ();
+                if (chunk == null)
+                {
+                    this.isSending = false;
+                    return;
+                }
+            }
+
+            try
+            {
+                this.sendBundleChunk (chunk);
+            }
+            catch (final IOException ex)
+            {
+                this.host.error ("Could not send UDP message.", ex);
+            }
+        }
+
+        synchronized (this.queue)
+        {
+            if (this.queue.isEmpty ())
+            {
+                this.isSending = false;
+                return;
+            }
+        }
+
+        // Slow down a bit otherwise clients like Open Stage Control cannot keep up
+        this.host.scheduleTask (this::sendQueuedBundles, PASS_INTERVAL);
+    }
+
+
+    /**
+     * Send the messages as one OSC bundle. The encoded size of the bundle does not exceed the
+     * configured maximum bundle size unless it contains only one message which is larger.
+     *
+     * @param messages The messages to send
+     * @throws IOException Could not send the messages
+     */
+    protected abstract void sendBundleChunk (List<IOpenSoundControlMessage> messages) throws IOException;
+
+
+    /**
+     * Calculate the size of the encoded OSC message (OSC 1.0).
+     *
+     * @param message The message
+     * @return The size in bytes
+     */
+    public static int getMessageSize (final IOpenSoundControlMessage message)
+    {
+        final Object [] values = message.getValues ();
+
+        // Address and type tag string (',' + one tag per value)
+        int size = getStringSize (message.getAddress ()) + align (values.length + 2);
+        for (final Object value: values)
+            size += getValueSize (value);
+        return size;
+    }
+
+
+    /**
+     * Calculate the size of the encoded value of an OSC argument.
+     *
+     * @param value The value
+     * @return The size in bytes
+     */
+    private static int getValueSize (final Object value)
+    {
+        // Nil, True and False are encoded only as a type tag
+        if (value == null || value instanceof Boolean)
+            return 0;
+        if (value instanceof Integer || value instanceof Float || value instanceof Character)
+            return 4;
+        if (value instanceof Long || value instanceof Double)
+            return 8;
+        if (value instanceof byte [])
+            return 4 + align (((byte []) value).length);
+        return getStringSize (value.toString ());
+    }
+
+
+    /**
+     * Calculate the size of an encoded OSC string, which is zero terminated and aligned to 4 bytes.
+     *
+     * @param text The text
+     * @return The size in bytes
+     */
+    private static int getStringSize (final String text)
+    {
+        return align (text.getBytes (StandardCharsets.UTF_8).length + 1);
+    }
+
+
+    /**
+     * Align the given size to a multiple of 4.
+     *
+     * @param size The size
+     * @return The aligned size
+     */
+    private static int align (final int size)
+    {
+        return (size + 3) & ~3;
+    }
+}
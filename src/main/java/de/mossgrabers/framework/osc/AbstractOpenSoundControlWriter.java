@@ -28,7 +28,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     protected final IOpenSoundControlConfiguration configuration;
 
     protected final IOpenSoundControlClient        oscClient;
-    protected final Map<String, Object>            oldValues = new HashMap<> ();
+    protected final Map<String, CachedValue>       oldValues = new HashMap<> ();
 
     private final List<IOpenSoundControlMessage>   messages  = new ArrayList<> ();
 
@@ -126,7 +126,14 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
         final int r = (int) Math.round (red * 255.0);
         final int g = (int) Math.round (green * 255.0);
         final int b = (int) Math.round (blue * 255.0);
-        this.sendOSC (address, "rgb(" + r + "," + g + "," + b + ")", dump);
+
+        final CachedValue cachedValue = this.getCachedValue (address);
+        final int rgb = r << 16 | g << 8 | b;
+        if (!dump && cachedValue.type == CachedValue.TYPE_COLOR && cachedValue.intValue == rgb)
+            return;
+        cachedValue.setInt (CachedValue.TYPE_COLOR, rgb);
+
+        this.addMessage (address, "rgb(" + r + "," + g + "," + b + ")");
     }
 
 
@@ -134,7 +141,13 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final boolean value, final boolean dump)
     {
-        this.sendOSC (address, Boolean.valueOf (value), dump);
+        final CachedValue cachedValue = this.getCachedValue (address);
+        final int intValue = value ? 1 : 0;
+        if (!dump && cachedValue.type == CachedValue.TYPE_BOOLEAN && cachedValue.intValue == intValue)
+            return;
+        cachedValue.setInt (CachedValue.TYPE_BOOLEAN, intValue);
+
+        this.addMessage (address, Integer.valueOf (intValue));
     }
 
 
@@ -143,7 +156,14 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     public void sendOSC (final String address, final double value, final boolean dump)
     {
         // Using float here since Double seems to be always received as 0 in Max.
-        this.sendOSC (address, Float.valueOf ((float) value), dump);
+        final float floatValue = (float) value;
+
+        final CachedValue cachedValue = this.getCachedValue (address);
+        if (!dump && cachedValue.type == CachedValue.TYPE_FLOAT && Float.floatToIntBits (cachedValue.floatValue) == Float.floatToIntBits (floatValue))
+            return;
+        cachedValue.setFloat (floatValue);
+
+        this.addMessage (address, Float.valueOf (floatValue));
     }
 
 
@@ -151,7 +171,12 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final int value, final boolean dump)
     {
-        this.sendOSC (address, Integer.valueOf (value), dump);
+        final CachedValue cachedValue = this.getCachedValue (address);
+        if (!dump && cachedValue.type == CachedValue.TYPE_INT && cachedValue.intValue == value)
+            return;
+        cachedValue.setInt (CachedValue.TYPE_INT, value);
+
+        this.addMessage (address, Integer.valueOf (value));
     }
 
 
@@ -159,7 +184,14 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final String value, final boolean dump)
     {
-        this.sendOSC (address, (Object) StringUtils.fixASCII (value), dump);
+        // Compare the original text to not need to fix it if it did not change
+        final String text = value == null ? "" : value;
+        final CachedValue cachedValue = this.getCachedValue (address);
+        if (!dump && cachedValue.type == CachedValue.TYPE_STRING && text.equals (cachedValue.objectValue))
+            return;
+        cachedValue.setObject (CachedValue.TYPE_STRING, text);
+
+        this.addMessage (address, StringUtils.fixASCII (text));
     }
 
 
@@ -192,17 +224,49 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @SuppressWarnings("unchecked")
     protected void sendOSC (final String cacheAddress, final String address, final Object testValue, final Object value, final boolean dump)
     {
-        if (!dump && compareValues (this.oldValues.get (cacheAddress), testValue))
+        final CachedValue cachedValue = this.getCachedValue (cacheAddress);
+        if (!dump && cachedValue.type == CachedValue.TYPE_OBJECT && compareValues (cachedValue.objectValue, testValue))
             return;
-        this.oldValues.put (cacheAddress, testValue);
+        cachedValue.setObject (CachedValue.TYPE_OBJECT, testValue);
+
+        final Object converted = convertBooleanToInt (value);
         synchronized (this.messages)
         {
-            final Object converted = convertBooleanToInt (value);
             this.messages.add (this.host.createOSCMessage (address, converted instanceof List ? (List<Object>) converted : Collections.singletonList (converted)));
         }
     }
 
 
+    /**
+     * Add a message with a single value to the messages list. The message will be sent when flush
+     * gets called.
+     *
+     * @param address The address of the OSC message
+     * @param value The value of the OSC message
+     */
+    private void addMessage (final String address, final Object value)
+    {
+        synchronized (this.messages)
+        {
+            this.messages.add (this.host.createOSCMessage (address, Collections.singletonList (value)));
+        }
+    }
+
+
+    /**
+     * Get the cached value of an address. Creates a new empty one if it does not exist yet. To
+     * prevent the creation of new strings on each flush, use pre-built addresses, see
+     * {@link OpenSoundControlAddress}.
+     *
+     * @param address The address
+     * @return The cached value
+     */
+    private CachedValue getCachedValue (final String address)
+    {
+        return this.oldValues.computeIfAbsent (address, key -> new CachedValue ());
+    }
+
+
     protected boolean isConnected ()
     {
         return this.oscClient != null;
@@ -306,4 +370,48 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     {
         return false;
     }
+
+
+    /**
+     * The last value sent to an address. Numbers and booleans are stored as primitives to prevent
+     * boxing if the value has not changed.
+     */
+    protected static class CachedValue
+    {
+        private static final int TYPE_NONE    = 0;
+        private static final int TYPE_BOOLEAN = 1;
+        private static final int TYPE_INT     = 2;
+        private static final int TYPE_FLOAT   = 3;
+        private static final int TYPE_STRING  = 4;
+        private static final int TYPE_COLOR   = 5;
+        private static final int TYPE_OBJECT  = 6;
+
+        private int              type         = TYPE_NONE;
+        private int              intValue;
+        private float            floatValue;
+        private Object           objectValue;
+
+
+        private void setInt (final int type, final int value)
+        {
+            this.type = type;
+            this.intValue = value;
+            this.objectValue = null;
+        }
+
+
+        private void setFloat (final float value)
+        {
+            this.type = TYPE_FLOAT;
+            this.floatValue = value;
+            this.objectValue = null;
+        }
+
+
+        private void setObject (final int type, final Object value)
+        {
+            this.type = type;
+            this.objectValue = value;
+        }
+    }
 }
@@ -0,0 +1,86 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * A table of pre-built OSC addresses which start with the same prefix, e.g. all attributes of
+ * '/track/1/'. The addresses are created on first use and then re-used on each flush. This prevents
+ * the creation of new strings and allows the writer to find the cached values quickly.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlAddress
+{
+    private final String                               prefix;
+    private final Map<String, String>                  attributes = new HashMap<> ();
+    private final Map<String, OpenSoundControlAddress> children   = new HashMap<> ();
+    private final List<OpenSoundControlAddress>        items      = new ArrayList<> ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param prefix The prefix of all addresses, must end with a slash, e.g. '/track/'
+     */
+    public OpenSoundControlAddress (final String prefix)
+    {
+        this.prefix = prefix;
+    }
+
+
+    /**
+     * Get the prefix of the addresses.
+     *
+     * @return The prefix, e.g. '/track/1/'
+     */
+    public String getPrefix ()
+    {
+        return this.prefix;
+    }
+
+
+    /**
+     * Get the address of an attribute.
+     *
+     * @param attribute The attribute, e.g. 'volume'
+     * @return The full address, e.g. '/track/1/volume'
+     */
+    public String get (final String attribute)
+    {
+        return this.attributes.computeIfAbsent (attribute, key -> this.prefix + key);
+    }
+
+
+    /**
+     * Get the addresses of a sub-section.
+     *
+     * @param name The name of the sub-section, e.g. 'send'
+     * @return The addresses starting with the sub-section, e.g. '/track/1/send/'
+     */
+    public OpenSoundControlAddress getChild (final String name)
+    {
+        return this.children.computeIfAbsent (name, key -> new OpenSoundControlAddress (this.prefix + key + "/"));
+    }
+
+
+    /**
+     * Get the addresses of an item of a bank.
+     *
+     * @param index The index of the item in the bank (0-based)
+     * @return The addresses of the item with a 1-based index, e.g. '/track/1/'
+     */
+    public OpenSoundControlAddress getItem (final int index)
+    {
+        for (int i = this.items.size (); i <= index; i++)
+            this.items.add (new OpenSoundControlAddress (this.prefix + (i + 1) + "/"));
+        return this.items.get (index);
+    }
+}
@@ -4,10 +4,7 @@
 
 package de.mossgrabers.framework.scale;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import java.util.Arrays;
 
 
 /**
@@ -135,8 +132,8 @@ public enum Scale
 
     private String                 name;
     private int []                 intervals;
-    private Set<Integer>           scaleKeys    = new HashSet<> (7);
-    private Map<Integer, Integer>  indexInScale = new HashMap<> (7);
+    private int                    scaleMask;
+    private int []                 indexInScale = new int [12];
 
     private static final String [] SCALE_NAMES;
     static
@@ -159,11 +156,13 @@ public enum Scale
         this.name = name;
         this.intervals = intervals;
 
+        // A bit for each note of the octave which is in the scale
+        Arrays.fill (this.indexInScale, -1);
         for (int i = 0; i < this.intervals.length; i++)
         {
-            final Integer key = Integer.valueOf (this.intervals[i]);
-            this.scaleKeys.add (key);
-            this.indexInScale.put (key, Integer.valueOf (i));
+            final int key = this.intervals[i];
+            this.scaleMask |= 1 << key;
+            this.indexInScale[key] = i;
         }
     }
 
@@ -198,7 +197,7 @@ public enum Scale
      */
     public boolean isInScale (final int key)
     {
-        return this.scaleKeys.contains (Integer.valueOf (key));
+        return key >= 0 && key < 12 && (this.scaleMask & 1 << key) != 0;
     }
 
 
@@ -210,8 +209,8 @@ public enum Scale
      */
     public int getIndexInScale (final int note)
     {
-        final Integer index = this.indexInScale.get (Integer.valueOf (note % 12));
-        return index == null ? -1 : index.intValue ();
+        final int key = note % 12;
+        return key < 0 ? -1 : this.indexInScale[key];
     }
 
 
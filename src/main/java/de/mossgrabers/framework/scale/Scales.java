@@ -115,8 +115,15 @@ public class Scales
 
     private final Map<Scale, ScaleGrid> scaleGrids               = new EnumMap<> (Scale.class);
     private final Map<Scale, ChordGrid> chordGrids               = new EnumMap<> (Scale.class);
+    private ScaleLayout                 gridLayout;
+    private Orientation                 gridOrientation;
+    private int                         gridShift;
     private IValueChanger               valueChanger;
 
+    private int []                      noteMatrixSource;
+    private int []                      noteMatrix;
+    private int                         noteMatrixKey;
+
 
     /**
      * Constructor.
@@ -667,12 +674,7 @@ public class Scales
      */
     public boolean isInScale (final int noteInOctave)
     {
-        for (final int interval: this.selectedScale.getIntervals ())
-        {
-            if (interval == noteInOctave)
-                return true;
-        }
-        return false;
+        return this.selectedScale.isInScale (noteInOctave);
     }
 
 
@@ -684,15 +686,7 @@ public class Scales
      */
     public int getScaleIndex (final int midiNote)
     {
-        final int noteInOctave = this.toNoteInOctave (midiNote);
-
-        final int [] intervals = this.selectedScale.getIntervals ();
-        for (int i = 0; i < intervals.length; i++)
-        {
-            if (intervals[i] == noteInOctave)
-                return i;
-        }
-        return -1;
+        return this.selectedScale.getIndexInScale (this.toNoteInOctave (midiNote));
     }
 
 
@@ -756,13 +750,22 @@ public class Scales
      */
     public int [] getNoteMatrix (final int [] matrix)
     {
-        final int [] noteMap = Scales.getEmptyMatrix ();
-        for (int note = this.startNote; note < this.endNote; note++)
+        // The result of the last call is kept since it is requested again on each view update. A
+        // copy is returned since callers are allowed to modify the matrix
+        final int key = ((this.scaleOffset * 16 + this.octave + 8) * 256 + this.startNote) * 256 + this.endNote;
+        if (matrix != this.noteMatrixSource || key != this.noteMatrixKey)
         {
-            final int n = matrix[note - this.startNote] + Scales.OFFSETS[this.scaleOffset] + this.startNote + this.octave * 12;
-            noteMap[note] = n < 0 || n > 127 ? -1 : n;
+            final int [] noteMap = Scales.getEmptyMatrix ();
+            for (int note = this.startNote; note < this.endNote; note++)
+            {
+                final int n = matrix[note - this.startNote] + Scales.OFFSETS[this.scaleOffset] + this.startNote + this.octave * 12;
+                noteMap[note] = n < 0 || n > 127 ? -1 : n;
+            }
+            this.noteMatrix = noteMap;
+            this.noteMatrixSource = matrix;
+            this.noteMatrixKey = key;
         }
-        return noteMap;
+        return this.noteMatrix.clone ();
     }
 
 
@@ -1011,7 +1014,7 @@ public class Scales
      */
     public int [] getActiveMatrix ()
     {
-        final ScaleGrid scaleGrid = this.scaleGrids.get (this.selectedScale);
+        final ScaleGrid scaleGrid = this.scaleGrids.computeIfAbsent (this.selectedScale, scale -> new ScaleGrid (scale, this.gridLayout, this.gridOrientation, this.numRows, this.numColumns, this.gridShift));
         return this.isChromatic () ? scaleGrid.getChromatic () : scaleGrid.getMatrix ();
     }
 
@@ -1023,7 +1026,7 @@ public class Scales
      */
     public int [] getActiveChordMatrix ()
     {
-        return this.chordGrids.get (this.selectedScale).getMatrix ();
+        return this.chordGrids.computeIfAbsent (this.selectedScale, scale -> new ChordGrid (scale, this.numRows, this.numColumns)).getMatrix ();
     }
 
 
@@ -1040,17 +1043,15 @@ public class Scales
 
 
     /**
-     * Generate all matrices for all scales.
+     * Discard the matrices of all scales. They are created on demand with the current layout
+     * settings. The chord matrices do not depend on the layout and are kept.
      */
     private void generateMatrices ()
     {
         this.scaleGrids.clear ();
-        this.chordGrids.clear ();
-        for (final Scale scale: Scale.values ())
-        {
-            this.scaleGrids.put (scale, new ScaleGrid (scale, this.scaleLayout, this.orientation, this.numRows, this.numColumns, this.shift));
-            this.chordGrids.put (scale, new ChordGrid (scale, this.numRows, this.numColumns));
-        }
+        this.gridLayout = this.scaleLayout;
+        this.gridOrientation = this.orientation;
+        this.gridShift = this.shift;
     }
 
 
@@ -6,14 +6,13 @@ package de.mossgrabers.framework.utils;
 
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.daw.IModel;
-import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.observer.INoteObserver;
 import de.mossgrabers.framework.scale.Scales;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 
 
 /**
@@ -23,11 +22,14 @@ import java.util.Optional;
  */
 public class KeyManager implements INoteObserver
 {
-    private final int []   pressedKeys = new int [128];
-    private final IModel   model;
-    private final Scales   scales;
-    private final IPadGrid padGrid;
-    private int []         noteMap     = Scales.getEmptyMatrix ();
+    private static final int []   NO_PADS     = new int [0];
+
+    private final int []          pressedKeys = new int [128];
+    private final IModel          model;
+    private final Scales          scales;
+    private final IPadGrid        padGrid;
+    private int []                noteMap     = Scales.getEmptyMatrix ();
+    private int [] []             padsByNote  = createPadsByNote (this.noteMap);
 
 
     /**
@@ -80,18 +82,18 @@ public class KeyManager implements INoteObserver
 
 
     /**
-     * Loop over all pads since the note can be present multiple time.
+     * Set all pads which are mapped to the given note since the note can be present multiple
+     * times.
      *
      * @param key The key to set
      * @param velocity The velocity
      */
     public void setAllKeysPressed (final int key, final int velocity)
     {
-        for (int i = 0; i < 128; i++)
-        {
-            if (this.noteMap[i] == key)
-                this.setKeyPressed (i, velocity);
-        }
+        if (key < 0 || key >= this.padsByNote.length)
+            return;
+        for (final int pad: this.padsByNote[key])
+            this.setKeyPressed (pad, velocity);
     }
 
 
@@ -99,8 +101,8 @@ public class KeyManager implements INoteObserver
     @Override
     public void call (final int trackIndex, final int note, final int velocity)
     {
-        final Optional<ITrack> sel = this.model.getCurrentTrackBank ().getSelectedItem ();
-        if (sel.isPresent () && sel.get ().getIndex () == trackIndex)
+        final ITrackBank trackBank = this.model.getCurrentTrackBank ();
+        if (trackIndex >= 0 && trackIndex < trackBank.getPageSize () && trackBank.getItem (trackIndex).isSelected ())
             this.setAllKeysPressed (note, velocity);
     }
 
@@ -185,5 +187,36 @@ public class KeyManager implements INoteObserver
     public void setNoteMatrix (final int [] matrix)
     {
         this.noteMap = matrix;
+        this.padsByNote = createPadsByNote (matrix);
+    }
+
+
+    /**
+     * Create the inverse of a note matrix: for each note the pads which are mapped to it.
+     *
+     * @param matrix The note matrix
+     * @return The pads for each note
+     */
+    private static int [] [] createPadsByNote (final int [] matrix)
+    {
+        final int [] counts = new int [128];
+        for (final int note: matrix)
+        {
+            if (note >= 0 && note < 128)
+                counts[note]++;
+        }
+
+        final int [] [] padsByNote = new int [128] [];
+        for (int note = 0; note < 128; note++)
+            padsByNote[note] = counts[note] == 0 ? NO_PADS : new int [counts[note]];
+
+        Arrays.fill (counts, 0);
+        for (int pad = 0; pad < matrix.length; pad++)
+        {
+            final int note = matrix[pad];
+            if (note >= 0 && note < 128)
+                padsByNote[note][counts[note]++] = pad;
+        }
+        return padsByNote;
     }
 }
@@ -156,16 +156,7 @@ public class StringUtils
     {
         if (text == null)
             return "";
-        final StringBuilder str = new StringBuilder ();
-        for (int i = 0; i < text.length (); i++)
-        {
-            final char c = text.charAt (i);
-            if (c == '♯')
-                str.append ("#");
-            else
-                str.append (c);
-        }
-        return str.toString ();
+        return text.indexOf ('♯') < 0 ? text : text.replace ('♯', '#');
     }
 
 
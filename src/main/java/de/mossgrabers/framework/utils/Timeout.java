@@ -4,9 +4,6 @@
 
 package de.mossgrabers.framework.utils;
 
-import de.mossgrabers.framework.daw.IHost;
-
-
 /**
  * Support a timeout of a number of millisecond. The timeout can be delayed if an interrupt occurred
  * meanwhile.
@@ -15,20 +12,20 @@ import de.mossgrabers.framework.daw.IHost;
  */
 public class Timeout
 {
-    private final IHost host;
-    private final int   timeoutMillis;
-    private long        updateTime;
+    private final TimerWheel.Timer timer;
+    private final int              timeoutMillis;
+    private Runnable               runnable;
 
 
     /**
      * Constructor.
      *
-     * @param host The host for scheduling
+     * @param timerWheel The timer wheel for scheduling
      * @param timeoutMillis The delay in milliseconds
      */
-    public Timeout (final IHost host, final int timeoutMillis)
+    public Timeout (final TimerWheel timerWheel, final int timeoutMillis)
     {
-        this.host = host;
+        this.timer = timerWheel.createTimer (this::execute);
         this.timeoutMillis = timeoutMillis;
     }
 
@@ -39,21 +36,24 @@ public class Timeout
      *
      * @param runnable The runnable to execute after the timeout delay
      */
-    public void delay (final Runnable runnable)
+    public synchronized void delay (final Runnable runnable)
     {
-        final long nowTime = System.currentTimeMillis ();
-        this.updateTime = nowTime;
-        this.delayExecution (runnable, nowTime);
+        this.runnable = runnable;
+        this.timer.start (this.timeoutMillis);
     }
 
 
-    private void delayExecution (final Runnable runnable, final long issuedTime)
+    private void execute ()
     {
-        this.host.scheduleTask ( () -> {
-
-            if (issuedTime == this.updateTime)
-                runnable.run ();
-
-        }, this.timeoutMillis);
+        final Runnable r;
+        synchronized (this)
+        {
+            // The timeout was delayed again after the timer fired
+            if (this.timer.isActive () || this.runnable == null)
+                return;
+            r = this.runnable;
+            this.runnable = null;
+        }
+        r.run ();
     }
 }
@@ -0,0 +1,290 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * A timer wheel which executes all timers of a surface with one periodic host task instead of
+ * scheduling a host task for each timer. The wheel ticks only while there are active timers.
+ * Timers are created once (e.g. one for each button) and can then be started and cancelled any
+ * number of times in O(1). The ticks follow the system clock, if a host task is executed late all
+ * missed ticks are processed. The callbacks are executed without holding the lock of the wheel.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TimerWheel
+{
+    /** The default resolution of the wheel in milliseconds. */
+    public static final int     DEFAULT_TICK_MILLIS = 20;
+
+    private static final int    NUM_SLOTS           = 64;
+
+    private final IHost         host;
+    private final int           tickMillis;
+    private final Timer []      slots               = new Timer [NUM_SLOTS];
+    private final List<Timer>   dueTimers           = new ArrayList<> ();
+    private long                startTime           = 0;
+    private long                currentTick         = 0;
+    private int                 numActiveTimers     = 0;
+    private boolean             isTicking           = false;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for scheduling the ticks
+     */
+    public TimerWheel (final IHost host)
+    {
+        this (host, DEFAULT_TICK_MILLIS);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for scheduling the ticks
+     * @param tickMillis The resolution of the wheel in milliseconds
+     */
+    public TimerWheel (final IHost host, final int tickMillis)
+    {
+        this.host = host;
+        this.tickMillis = tickMillis;
+    }
+
+
+    /**
+     * Create a new timer, which is not started.
+     *
+     * @param callback The callback to execute when the timer fires
+     * @return The timer
+     */
+    public Timer createTimer (final TimerCallback callback)
+    {
+        return new Timer (this, callback);
+    }
+
+
+    /**
+     * Get the number of started timers which have not fired yet.
+     *
+     * @return The number of timers
+     */
+    public synchronized int getNumActiveTimers ()
+    {
+        return this.numActiveTimers;
+    }
+
+
+    private synchronized void start (final Timer timer, final int delayMillis)
+    {
+        this.cancel (timer);
+
+        final long now = System.currentTimeMillis ();
+        // Align the clock with the current tick when the wheel was idle
+        if (!this.isTicking)
+            this.startTime = now - this.currentTick * this.tickMillis;
+
+        final long ticks = Math.max (1, (delayMillis + this.tickMillis - 1) / this.tickMillis);
+        timer.deadline = Math.max (this.currentTick, this.getTick (now)) + ticks;
+        timer.slot = (int) (timer.deadline % NUM_SLOTS);
+        timer.next = this.slots[timer.slot];
+        if (timer.next != null)
+            timer.next.previous = timer;
+        this.slots[timer.slot] = timer;
+        timer.state = Timer.STATE_SCHEDULED;
+        this.numActiveTimers++;
+
+        if (!this.isTicking)
+        {
+            this.isTicking = true;
+            this.scheduleTick (now);
+        }
+    }
+
+
+    private synchronized void cancel (final Timer timer)
+    {
+        if (timer.state == Timer.STATE_SCHEDULED)
+        {
+            this.unlink (timer);
+            this.numActiveTimers--;
+        }
+        timer.state = Timer.STATE_IDLE;
+    }
+
+
+    private void unlink (final Timer timer)
+    {
+        if (timer.previous == null)
+            this.slots[timer.slot] = timer.next;
+        else
+            timer.previous.next = timer.next;
+        if (timer.next != null)
+            timer.next.previous = timer.previous;
+        timer.previous = null;
+        timer.next = null;
+    }
+
+
+    /**
+     * Advance the wheel to the tick of the system clock and execute all timers which are due. The
+     * due timers are collected while holding the lock but the callbacks are executed after it is
+     * released. Only one tick task is scheduled at a time, therefore the list of due timers can be
+     * reused.
+     */
+    private void tick ()
+    {
+        synchronized (this)
+        {
+            // Process each slot at most once if the task was delayed by more than a revolution
+            final long targetTick = Math.max (this.currentTick + 1, this.getTick (System.currentTimeMillis ()));
+            final long firstTick = Math.max (this.currentTick + 1, targetTick - NUM_SLOTS + 1);
+            this.currentTick = targetTick;
+
+            for (long t = firstTick; t <= targetTick; t++)
+            {
+                Timer timer = this.slots[(int) (t % NUM_SLOTS)];
+                while (timer != null)
+                {
+                    final Timer next = timer.next;
+                    if (timer.deadline <= targetTick)
+                    {
+                        this.unlink (timer);
+                        timer.state = Timer.STATE_DUE;
+                        this.numActiveTimers--;
+                        this.dueTimers.add (timer);
+                    }
+                    timer = next;
+                }
+            }
+        }
+
+        for (final Timer dueTimer: this.dueTimers)
+        {
+            synchronized (this)
+            {
+                // The timer might have been cancelled or restarted by a previous callback
+                if (dueTimer.state != Timer.STATE_DUE)
+                    continue;
+                dueTimer.state = Timer.STATE_IDLE;
+            }
+
+            try
+            {
+                dueTimer.callback.call ();
+            }
+            catch (final RuntimeException ex)
+            {
+                this.host.error ("Timer callback failed.", ex);
+            }
+        }
+        this.dueTimers.clear ();
+
+        synchronized (this)
+        {
+            if (this.numActiveTimers > 0)
+                this.scheduleTick (System.currentTimeMillis ());
+            else
+                this.isTicking = false;
+        }
+    }
+
+
+    /**
+     * Schedule the host task for the next tick of the wheel.
+     *
+     * @param now The current system time
+     */
+    private void scheduleTick (final long now)
+    {
+        final long nextTickTime = this.startTime + (this.currentTick + 1) * this.tickMillis;
+        this.host.scheduleTask (this::tick, Math.max (1, nextTickTime - now));
+    }
+
+
+    /**
+     * Get the tick of the wheel at the given system time.
+     *
+     * @param time The system time
+     * @return The tick
+     */
+    private long getTick (final long time)
+    {
+        return (time - this.startTime) / this.tickMillis;
+    }
+
+
+    /**
+     * A timer of the wheel.
+     */
+    public static final class Timer
+    {
+        private static final int    STATE_IDLE      = 0;
+        private static final int    STATE_SCHEDULED = 1;
+        private static final int    STATE_DUE       = 2;
+
+        private final TimerWheel    wheel;
+        private final TimerCallback callback;
+
+        private int                 state           = STATE_IDLE;
+        private long                deadline;
+        private int                 slot;
+        private Timer               previous;
+        private Timer               next;
+
+
+        /**
+         * Constructor.
+         *
+         * @param wheel The wheel which executes the timer
+         * @param callback The callback to execute when the timer fires
+         */
+        Timer (final TimerWheel wheel, final TimerCallback callback)
+        {
+            this.wheel = wheel;
+            this.callback = callback;
+        }
+
+
+        /**
+         * Start the timer. If the timer is already started, it is restarted with the new delay.
+         *
+         * @param delayMillis The delay in milliseconds after which the callback is executed
+         */
+        public void start (final int delayMillis)
+        {
+            this.wheel.start (this, delayMillis);
+        }
+
+
+        /**
+         * Cancel the timer. Does nothing if the timer is not started.
+         */
+        public void cancel ()
+        {
+            this.wheel.cancel (this);
+        }
+
+
+        /**
+         * Check if the timer is started and has not fired yet.
+         *
+         * @return True if started
+         */
+        public boolean isActive ()
+        {
+            synchronized (this.wheel)
+            {
+                return this.state != STATE_IDLE;
+            }
+        }
+    }
+}
@@ -190,7 +190,7 @@ public abstract class AbstractDrumLaneView<S extends IControlSurface<C>, C exten
                 int y = this.lanes - 1 - sound;
                 if (col >= this.numColumns)
                     y += this.lanes;
-                padGrid.lightEx (x, y, this.getStepColor (isSet, hilite, drumPadColor));
+                padGrid.lightExByHandle (x, y, this.getStepColor (isSet, hilite, drumPadColor));
             }
         }
     }
@@ -459,23 +459,23 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
     }
 
 
-    protected String getStepColor (final int isSet, final boolean hilite, final Optional<ColorEx> rowColor)
+    protected int getStepColor (final int isSet, final boolean hilite, final Optional<ColorEx> rowColor)
     {
         switch (isSet)
         {
             // Note continues
             case IStepInfo.NOTE_CONTINUE:
                 if (hilite)
-                    return AbstractSequencerView.COLOR_STEP_HILITE_CONTENT;
-                return rowColor.isPresent () && this.useDawColors ? DAWColor.getColorIndex (ColorEx.darker (rowColor.get ())) : AbstractSequencerView.COLOR_CONTENT_CONT;
+                    return this.stepHiliteContentHandle;
+                return rowColor.isPresent () && this.useDawColors ? this.colorManager.getColorHandle (DAWColor.getColorIndex (ColorEx.darker (rowColor.get ()))) : this.contentContHandle;
             // Note starts
             case IStepInfo.NOTE_START:
                 if (hilite)
-                    return AbstractSequencerView.COLOR_STEP_HILITE_CONTENT;
-                return rowColor.isPresent () && this.useDawColors ? DAWColor.getColorIndex (rowColor.get ()) : AbstractSequencerView.COLOR_CONTENT;
+                    return this.stepHiliteContentHandle;
+                return rowColor.isPresent () && this.useDawColors ? this.colorManager.getColorHandle (DAWColor.getColorIndex (rowColor.get ())) : this.contentHandle;
             // Empty
             default:
-                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_NO_CONTENT : AbstractSequencerView.COLOR_NO_CONTENT;
+                return hilite ? this.stepHiliteNoContentHandle : this.noContentHandle;
         }
     }
 
@@ -777,7 +777,7 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
             int y = col / this.numColumns;
             if (yModifier != null)
                 y = yModifier.applyAsInt (y);
-            padGrid.lightEx (x, y, isActive ? this.getStepColor (isSet, hilite, rowColor) : AbstractSequencerView.COLOR_NO_CONTENT);
+            padGrid.lightExByHandle (x, y, isActive ? this.getStepColor (isSet, hilite, rowColor) : this.noContentHandle);
         }
     }
 
@@ -802,7 +802,7 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
         {
             final int x = this.playColumns + pad % this.playColumns;
             final int y = this.sequencerLines + pad / this.playColumns;
-            padGrid.lightEx (x, y, isActive ? this.getPageColor (loopStartPad, loopEndPad, currentPage, clip.getEditPage (), pad) : AbstractSequencerView.COLOR_NO_CONTENT);
+            padGrid.lightExByHandle (x, y, isActive ? this.getPageColor (loopStartPad, loopEndPad, currentPage, clip.getEditPage (), pad) : this.noContentHandle);
         }
     }
 
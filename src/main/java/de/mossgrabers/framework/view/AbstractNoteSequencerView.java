@@ -270,7 +270,7 @@ public abstract class AbstractNoteSequencerView<S extends IControlSurface<C>, C
                 // 0: not set, 1: note continues playing, 2: start of note
                 final int map = this.keyManager.map (y);
                 final int isSet = map < 0 ? 0 : clip.getStep (editMidiChannel, x, map).getState ();
-                gridPad.lightEx (x, this.numDisplayRows - 1 - y, this.getStepColor (isSet, x == hiStep, y, cursorTrack));
+                gridPad.lightExByHandle (x, this.numDisplayRows - 1 - y, this.getStepColor (isSet, x == hiStep, y, cursorTrack));
             }
         }
 
@@ -283,7 +283,7 @@ public abstract class AbstractNoteSequencerView<S extends IControlSurface<C>, C
         final int loopEndPad = (int) Math.ceil ((loopStart + clip.getLoopLength ()) / lengthOfOnePad);
         final int currentPage = step / this.numDisplayCols;
         for (int pad = 0; pad < this.numDisplayCols; pad++)
-            gridPad.lightEx (pad, 0, this.getPageColor (loopStartPad, loopEndPad, currentPage, clip.getEditPage (), pad));
+            gridPad.lightExByHandle (pad, 0, this.getPageColor (loopStartPad, loopEndPad, currentPage, clip.getEditPage (), pad));
     }
 
 
@@ -294,23 +294,23 @@ public abstract class AbstractNoteSequencerView<S extends IControlSurface<C>, C
      * @param hilite The step should be highlighted
      * @param note The note of the step
      * @param track A track from which to use the color
-     * @return The color
+     * @return The handle of the color
      */
-    protected String getStepColor (final int isSet, final boolean hilite, final int note, final ITrack track)
+    protected int getStepColor (final int isSet, final boolean hilite, final int note, final ITrack track)
     {
         switch (isSet)
         {
             case IStepInfo.NOTE_CONTINUE:
-                return hilite ? COLOR_STEP_HILITE_CONTENT : COLOR_CONTENT_CONT;
+                return hilite ? this.stepHiliteContentHandle : this.contentContHandle;
 
             case IStepInfo.NOTE_START:
-                return hilite ? COLOR_STEP_HILITE_CONTENT : COLOR_CONTENT;
+                return hilite ? this.stepHiliteContentHandle : this.contentHandle;
 
             case IStepInfo.NOTE_OFF:
             default:
                 if (hilite)
-                    return COLOR_STEP_HILITE_NO_CONTENT;
-                return this.getPadColor (note, this.useDawColors ? track : null);
+                    return this.stepHiliteNoContentHandle;
+                return this.colorManager.getColorHandle (this.getPadColor (note, this.useDawColors ? track : null));
         }
     }
 
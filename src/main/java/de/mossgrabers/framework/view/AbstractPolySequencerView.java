@@ -337,7 +337,7 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
             final boolean hilite = col == hiStep;
             final int x = col % this.numColumns;
             final int y = col / this.numColumns;
-            padGrid.lightEx (x, y, isActive ? this.getStepColor (isSet, hilite) : AbstractSequencerView.COLOR_NO_CONTENT);
+            padGrid.lightExByHandle (x, y, isActive ? this.getStepColor (isSet, hilite) : this.noContentHandle);
         }
 
         // Paint the play part
@@ -390,22 +390,22 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
      *
      * @param isSet True if the note is set
      * @param hilite True if note should be highlighted
-     * @return The color identifier
+     * @return The color handle
      */
-    protected String getStepColor (final int isSet, final boolean hilite)
+    protected int getStepColor (final int isSet, final boolean hilite)
     {
         switch (isSet)
         {
             // Note continues
             case IStepInfo.NOTE_CONTINUE:
-                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_CONTENT : AbstractSequencerView.COLOR_CONTENT_CONT;
+                return hilite ? this.stepHiliteContentHandle : this.contentContHandle;
             // Note starts
             case IStepInfo.NOTE_START:
-                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_CONTENT : AbstractSequencerView.COLOR_CONTENT;
+                return hilite ? this.stepHiliteContentHandle : this.contentHandle;
             // Empty
             case IStepInfo.NOTE_OFF:
             default:
-                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_NO_CONTENT : AbstractSequencerView.COLOR_NO_CONTENT;
+                return hilite ? this.stepHiliteNoContentHandle : this.noContentHandle;
         }
     }
 
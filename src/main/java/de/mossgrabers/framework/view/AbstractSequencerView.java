@@ -61,6 +61,15 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
     protected final int           clipRows;
     protected final int           clipCols;
 
+    protected final int           stepHiliteNoContentHandle;
+    protected final int           stepHiliteContentHandle;
+    protected final int           noContentHandle;
+    protected final int           contentHandle;
+    protected final int           contentContHandle;
+    protected final int           pageHandle;
+    protected final int           activePageHandle;
+    protected final int           selectedPageHandle;
+
     private boolean               isSequencerActive;
 
 
@@ -105,6 +114,15 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
 
         this.numSequencerRows = numSequencerRows;
 
+        this.stepHiliteNoContentHandle = this.colorManager.getColorHandle (COLOR_STEP_HILITE_NO_CONTENT);
+        this.stepHiliteContentHandle = this.colorManager.getColorHandle (COLOR_STEP_HILITE_CONTENT);
+        this.noContentHandle = this.colorManager.getColorHandle (COLOR_NO_CONTENT);
+        this.contentHandle = this.colorManager.getColorHandle (COLOR_CONTENT);
+        this.contentContHandle = this.colorManager.getColorHandle (COLOR_CONTENT_CONT);
+        this.pageHandle = this.colorManager.getColorHandle (COLOR_PAGE);
+        this.activePageHandle = this.colorManager.getColorHandle (COLOR_ACTIVE_PAGE);
+        this.selectedPageHandle = this.colorManager.getColorHandle (COLOR_SELECTED_PAGE);
+
         this.getClip ();
     }
 
@@ -259,20 +277,20 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
      * @param playPage The page which contains the currently played step
      * @param selectedPage The page selected fpr editing
      * @param page The page for which to get the color
-     * @return The color to use
+     * @return The handle of the color to use
      */
-    protected String getPageColor (final int loopStartPage, final int loopEndPage, final int playPage, final int selectedPage, final int page)
+    protected int getPageColor (final int loopStartPage, final int loopEndPage, final int playPage, final int selectedPage, final int page)
     {
         if (page == playPage)
-            return AbstractSequencerView.COLOR_ACTIVE_PAGE;
+            return this.activePageHandle;
 
         if (page == selectedPage)
-            return AbstractSequencerView.COLOR_SELECTED_PAGE;
+            return this.selectedPageHandle;
 
         if (page < loopStartPage || page >= loopEndPage)
-            return AbstractSequencerView.COLOR_NO_CONTENT;
+            return this.noContentHandle;
 
-        return AbstractSequencerView.COLOR_PAGE;
+        return this.pageHandle;
     }
 
 